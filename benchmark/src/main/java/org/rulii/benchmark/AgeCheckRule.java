@@ -0,0 +1,49 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.rulii.annotation.Description;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Rule;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Binding;
+
+/**
+ * Class based equivalent of {@link BenchmarkData#lambdaRule(String, int)}.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@Rule
+@Description("Class based rule used by the benchmarks.")
+public class AgeCheckRule {
+
+    public AgeCheckRule() {
+        super();
+    }
+
+    @Given
+    public boolean isTrue(Integer age, String state) {
+        return age > 21 && "CA".equals(state);
+    }
+
+    @Then
+    public void then(Binding<Integer> count) {
+        count.setValue(count.getValue() + 1);
+    }
+}
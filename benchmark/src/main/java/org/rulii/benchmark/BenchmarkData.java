@@ -0,0 +1,110 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.ruleset.RuleSetBuilder;
+
+import java.math.BigDecimal;
+
+import static org.rulii.model.action.Actions.action;
+import static org.rulii.model.condition.Conditions.condition;
+
+/**
+ * Shared fact and rule fixtures used by the benchmarks. Fact sets are made of a few well known Bindings (the ones the
+ * rules actually read) padded with filler Bindings so that the lookup structures are realistically sized.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class BenchmarkData {
+
+    public static final String FILLER_PREFIX = "filler";
+
+    private BenchmarkData() {
+        super();
+    }
+
+    /**
+     * Creates a fact set with the well known Bindings (age, state, amount, count) plus filler Bindings so that the
+     * total number of Bindings equals the given size.
+     *
+     * @param size total number of Bindings.
+     * @return new Bindings.
+     */
+    public static Bindings facts(int size) {
+        Bindings result = Bindings.builder().standard();
+        result.bind("age", 35);
+        result.bind("state", "CA");
+        result.bind("amount", new BigDecimal("1250.50"));
+        result.bind("count", 0);
+        pad(result, size);
+        return result;
+    }
+
+    /**
+     * Adds filler Bindings (alternating String and Long values) until the Bindings reach the desired size.
+     *
+     * @param bindings target Bindings.
+     * @param size desired size.
+     */
+    public static void pad(Bindings bindings, int size) {
+        for (int i = bindings.size(); i < size; i++) {
+            if (i % 2 == 0) {
+                bindings.bind(FILLER_PREFIX + i, "value-" + i);
+            } else {
+                bindings.bind(FILLER_PREFIX + i, (long) i);
+            }
+        }
+    }
+
+    /**
+     * Creates a lambda based Rule that reads two Bindings and updates a third one.
+     *
+     * @param name name of the Rule.
+     * @param threshold age threshold used by the condition.
+     * @return new Rule.
+     */
+    public static Rule lambdaRule(String name, int threshold) {
+        return Rule.builder()
+                .name(name)
+                .given(condition((Integer age, String state) -> age > threshold && "CA".equals(state)))
+                .then(action((Binding<Integer> count) -> count.setValue(count.getValue() + 1)))
+                .build();
+    }
+
+    /**
+     * Creates a RuleSet with the given number of Rules. Every other Rule passes so that both the Then and
+     * Otherwise paths are exercised.
+     *
+     * @param ruleCount number of Rules.
+     * @return new RuleSet.
+     */
+    public static <T> RuleSet<T> ruleSet(int ruleCount) {
+        RuleSetBuilder builder = RuleSet.builder().with("BenchmarkRuleSet" + ruleCount);
+
+        for (int i = 0; i < ruleCount; i++) {
+            builder.rule(lambdaRule("Rule" + i, i % 2 == 0 ? 21 : 99));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rulii.bind.match.BindingMatchingStrategy;
+import org.rulii.bind.match.ParameterMatch;
+import org.rulii.bind.match.ParameterResolver;
+import org.rulii.context.RuleContext;
+import org.rulii.model.MethodDefinition;
+import org.rulii.model.SourceDefinition;
+import org.rulii.validation.RuleViolations;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter matching/resolution (DefaultParameterResolver) for a by-name match (the common case) and a by-type match
+ * (parameters such as RuleContext and RuleViolations that every validation rule takes).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterResolverBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int bindingCount;
+
+    private RuleContext ruleContext;
+    private ParameterResolver resolver;
+    private BindingMatchingStrategy byTypeStrategy;
+    private MethodDefinition byNameDefinition;
+    private MethodDefinition byTypeDefinition;
+    private List<ParameterMatch> byNameMatches;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        this.ruleContext = RuleContext.builder().build(BenchmarkData.facts(bindingCount));
+        this.ruleContext.getBindings().bind("ruleViolations", new RuleViolations());
+        this.resolver = ruleContext.getParameterResolver();
+        this.byTypeStrategy = BindingMatchingStrategy.builder().matchByType();
+        this.byNameDefinition = load("byName", Integer.class, String.class);
+        this.byTypeDefinition = load("byType", RuleContext.class, RuleViolations.class);
+        this.byNameMatches = match(byNameDefinition, ruleContext.getMatchingStrategy());
+    }
+
+    @Benchmark
+    public List<ParameterMatch> matchByName() {
+        return match(byNameDefinition, ruleContext.getMatchingStrategy());
+    }
+
+    @Benchmark
+    public List<ParameterMatch> matchByType() {
+        return match(byTypeDefinition, byTypeStrategy);
+    }
+
+    @Benchmark
+    public List<Object> resolve() {
+        return resolver.resolve(byNameMatches, byNameDefinition, ruleContext.getBindings(),
+                ruleContext.getMatchingStrategy(), ruleContext.getConverterRegistry(), ruleContext.getObjectFactory());
+    }
+
+    @Benchmark
+    public List<Object> matchAndResolve() {
+        List<ParameterMatch> matches = match(byNameDefinition, ruleContext.getMatchingStrategy());
+        return resolver.resolve(matches, byNameDefinition, ruleContext.getBindings(),
+                ruleContext.getMatchingStrategy(), ruleContext.getConverterRegistry(), ruleContext.getObjectFactory());
+    }
+
+    private List<ParameterMatch> match(MethodDefinition definition, BindingMatchingStrategy strategy) {
+        return resolver.match(definition, ruleContext.getBindings(), strategy, ruleContext.getObjectFactory());
+    }
+
+    private static MethodDefinition load(String name, Class<?>...parameterTypes) throws NoSuchMethodException {
+        Method method = Targets.class.getMethod(name, parameterTypes);
+        return MethodDefinition.load(method, true, SourceDefinition.build());
+    }
+
+    public static class Targets {
+
+        public boolean byName(Integer age, String state) {
+            return age > 21 && "CA".equals(state);
+        }
+
+        public boolean byType(RuleContext ruleContext, RuleViolations ruleViolations) {
+            return ruleContext != null && ruleViolations != null;
+        }
+    }
+}
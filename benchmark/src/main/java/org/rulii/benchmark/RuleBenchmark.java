@@ -0,0 +1,79 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rulii.context.RuleContext;
+import org.rulii.model.condition.Condition;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single Rule execution (Rule.run and Condition.isTrue) for class based and lambda based Rules.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int bindingCount;
+
+    private RuleContext ruleContext;
+    private Rule classRule;
+    private Rule lambdaRule;
+    private Condition classCondition;
+    private Condition lambdaCondition;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.ruleContext = RuleContext.builder().build(BenchmarkData.facts(bindingCount));
+        this.classRule = Rule.builder().build(AgeCheckRule.class);
+        this.lambdaRule = BenchmarkData.lambdaRule("LambdaRule", 21);
+        this.classCondition = classRule.getCondition();
+        this.lambdaCondition = lambdaRule.getCondition();
+    }
+
+    @Benchmark
+    public RuleResult classRuleRun() {
+        return classRule.run(ruleContext);
+    }
+
+    @Benchmark
+    public RuleResult lambdaRuleRun() {
+        return lambdaRule.run(ruleContext);
+    }
+
+    @Benchmark
+    public boolean classConditionIsTrue() {
+        return classCondition.isTrue(ruleContext);
+    }
+
+    @Benchmark
+    public boolean lambdaConditionIsTrue() {
+        return lambdaCondition.isTrue(ruleContext);
+    }
+}
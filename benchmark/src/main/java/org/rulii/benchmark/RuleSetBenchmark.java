@@ -0,0 +1,73 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.ruleset.RuleSet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuleSet execution (run and runAsync) over different RuleSet and fact set sizes. The "WithContext" variants include
+ * the cost of building a new RuleContext per execution which is what most callers pay.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleSetBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int ruleCount;
+
+    @Param({"10", "100", "1000"})
+    private int bindingCount;
+
+    private RuleSet<?> ruleSet;
+    private Bindings facts;
+    private RuleContext ruleContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.ruleSet = BenchmarkData.ruleSet(ruleCount);
+        this.facts = BenchmarkData.facts(bindingCount);
+        this.ruleContext = RuleContext.builder().build(facts);
+    }
+
+    @Benchmark
+    public Object run() {
+        return ruleSet.run(ruleContext);
+    }
+
+    @Benchmark
+    public Object runWithContext() {
+        return ruleSet.run(RuleContext.builder().build(facts));
+    }
+
+    @Benchmark
+    public Object runAsync() {
+        return ruleSet.runAsync(ruleContext).join();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.ScopedBindings;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScopedBindings lookups at varying scope depths. The facts live in the root scope and every nested scope adds a
+ * few Bindings of its own so that lookups have to walk past non-empty scopes.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ScopedBindingsBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int scopeDepth;
+
+    @Param({"10", "100", "1000"})
+    private int bindingCount;
+
+    private ScopedBindings bindings;
+    private String innermostName;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bindings = Bindings.builder().scoped(ScopedBindings.ROOT_SCOPE, BenchmarkData.facts(bindingCount));
+
+        for (int i = 1; i < scopeDepth; i++) {
+            bindings.addScope("scope-" + i);
+            bindings.bind("local" + i, i);
+        }
+
+        this.innermostName = scopeDepth > 1 ? "local" + (scopeDepth - 1) : "age";
+    }
+
+    @Benchmark
+    public Binding<?> getInnermostBinding() {
+        return bindings.getBinding(innermostName);
+    }
+
+    @Benchmark
+    public Binding<?> getRootBinding() {
+        return bindings.getBinding("state");
+    }
+
+    @Benchmark
+    public Binding<?> getMissingBinding() {
+        return bindings.getBinding("missing");
+    }
+
+    @Benchmark
+    public List<Binding<Integer>> getAllBindingsByType() {
+        return bindings.getAllBindings(Integer.class);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor that writes the rulii class index (META-INF/rulii/rulii.index). The index lists every @Rule
+ * class and every class declaring @Condition, @Action or @Function methods along with its package; one class per line :
+ *
+ * <pre>
+ * # kind package class
+ * rule org.acme org.acme.Rules$Adult
+ * condition org.acme org.acme.Conditions
+ * </pre>
+ *
+ * Only classes that can be created by the ObjectFactory (public, non-abstract, static if nested, public no-arg ctor)
+ * are indexed. At runtime the index
+ * (org.rulii.registry.RuleIndex) is read instead of scanning the classpath. Entries of an existing
+ * index (incremental compilation) are kept as long as their classes still exist and are not being recompiled; the
+ * entries of the classes being compiled are re-created from their current annotations. The processor therefore runs
+ * for every compilation (not only the ones that use the rulii annotations) but never claims any annotations.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+// Runs for all the compilations so that the classes that no longer use the rulii annotations are dropped as well
+@SupportedAnnotationTypes("*")
+public class RuleIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_LOCATION = "META-INF/rulii/rulii.index";
+
+    private static final Set<String> INDEXED_ANNOTATIONS = Set.of(
+            RuleMetadataProcessor.ANNOTATION_PACKAGE + "Rule",
+            RuleMetadataProcessor.ANNOTATION_PACKAGE + "Condition",
+            RuleMetadataProcessor.ANNOTATION_PACKAGE + "Action",
+            RuleMetadataProcessor.ANNOTATION_PACKAGE + "Function");
+
+    // class -> kind package class (sorted so that the index is reproducible)
+    private final Map<String, String> entries = new TreeMap<>();
+    private boolean existingLoaded = false;
+    private boolean existingFound = false;
+
+    public RuleIndexProcessor() {
+        super();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!existingLoaded) {
+            loadExisting();
+            existingLoaded = true;
+        }
+
+        // The classes being compiled are re-indexed from their current annotations
+        for (Element root : roundEnv.getRootElements()) remove(root);
+
+        for (TypeElement annotation : annotations) {
+            if (!INDEXED_ANNOTATIONS.contains(annotation.getQualifiedName().toString())) continue;
+            String kind = annotation.getSimpleName().toString().toLowerCase(Locale.ROOT);
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type && element.getKind() == ElementKind.CLASS) add(kind, type);
+                else if (element.getKind() == ElementKind.METHOD
+                        && element.getEnclosingElement() instanceof TypeElement type) add(kind, type);
+            }
+        }
+
+        if (roundEnv.processingOver()) write();
+
+        // Let any other processors see the rulii annotations
+        return false;
+    }
+
+    private void add(String kind, TypeElement type) {
+        if (!isInstantiable(type)) return;
+        String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String key = kind + " " + className;
+        // Rule classes declare @Condition/@Action methods as well; they are only indexed as rules
+        if (!"rule".equals(kind) && entries.containsKey("rule " + className)) return;
+        if ("rule".equals(kind)) entries.keySet().removeIf(k -> k.endsWith(" " + className));
+        entries.put(key, kind + " " + (packageName.isEmpty() ? "-" : packageName) + " " + className);
+    }
+
+    private void remove(Element element) {
+        if (!(element instanceof TypeElement type)) return;
+        String suffix = " " + processingEnv.getElementUtils().getBinaryName(type);
+        entries.keySet().removeIf(key -> key.endsWith(suffix));
+
+        for (Element enclosed : type.getEnclosedElements()) remove(enclosed);
+    }
+
+    // Indexed classes are created by the ObjectFactory (public no-arg ctor); skip the ones that cannot be created
+    private static boolean isInstantiable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+        Element current = type;
+
+        while (current instanceof TypeElement element) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)
+                    || (element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC))) return false;
+            current = element.getEnclosingElement();
+        }
+
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.CONSTRUCTOR && element.getModifiers().contains(Modifier.PUBLIC)
+                    && ((ExecutableElement) element).getParameters().isEmpty()) return true;
+        }
+
+        return false;
+    }
+
+    private void loadExisting() {
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                existingFound = true;
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.trim().split("\\s+");
+                    if (parts.length != 3 || parts[0].startsWith("#")) continue;
+                    // Drop the classes that no longer exist
+                    if (processingEnv.getElementUtils().getTypeElement(parts[2].replace('$', '.')) == null) continue;
+                    entries.put(parts[0] + " " + parts[2], parts[0] + " " + parts[1] + " " + parts[2]);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No existing index
+        }
+    }
+
+    private void write() {
+        // An existing index is re-written (even if empty) so that it does not keep the dropped entries
+        if (entries.isEmpty() && !existingFound) return;
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+                out.println("# Generated by " + getClass().getName() + " (kind package class)");
+                entries.values().forEach(out::println);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the rulii index [" + INDEX_LOCATION + "] : " + e.getMessage());
+        }
+    }
+}
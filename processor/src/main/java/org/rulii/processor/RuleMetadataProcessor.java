@@ -0,0 +1,456 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Annotation processor that generates the rule metadata (org.rulii.util.reflect.GeneratedRuleMetadata) of every class
+ * declaring rulii annotated methods (@PreCondition, @Given, @Then, @Otherwise, @Condition, @Action, @Function or any
+ * annotation meta-annotated with @Condition/@Action/@Function).
+ *
+ * The generated class (ie: org.acme.Rules$Adult -&gt; org.acme.Rules_Adult_RuliiMetadata) lists the annotated methods
+ * along with their annotations (and attribute values), descriptions and parameters (source names, descriptions,
+ * default values and matching strategies) and invokes the methods directly. At runtime rulii picks it up (if present)
+ * instead of searching the class for annotated methods, reading the class bytecode for the parameter names, looking up
+ * the method/parameter annotations and creating reflective/MethodHandle based invokers.
+ *
+ * Private classes are skipped (they cannot be referenced from the generated class). Private methods and methods whose
+ * parameter/return types cannot be referenced from the generated class (ex: private nested types) are still described
+ * but are invoked reflectively. Classes whose super classes (or interfaces) declare annotated methods have their
+ * methods discovered reflectively.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@SupportedAnnotationTypes({
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Rule",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "PreCondition",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Given",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Then",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Otherwise",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Condition",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Action",
+        RuleMetadataProcessor.ANNOTATION_PACKAGE + "Function"})
+public class RuleMetadataProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_PACKAGE = "org.rulii.annotation.";
+    static final String CLASS_NAME_SUFFIX = "_RuliiMetadata";
+
+    private static final String METADATA_INTERFACE = "org.rulii.util.reflect.GeneratedRuleMetadata";
+    private static final Set<String> METHOD_ANNOTATIONS = Set.of(
+            ANNOTATION_PACKAGE + "PreCondition", ANNOTATION_PACKAGE + "Given", ANNOTATION_PACKAGE + "Then",
+            ANNOTATION_PACKAGE + "Otherwise", ANNOTATION_PACKAGE + "Condition", ANNOTATION_PACKAGE + "Action",
+            ANNOTATION_PACKAGE + "Function");
+    private static final Set<String> META_ANNOTATIONS = Set.of(
+            ANNOTATION_PACKAGE + "Condition", ANNOTATION_PACKAGE + "Action", ANNOTATION_PACKAGE + "Function");
+    private static final String DESCRIPTION_ANNOTATION = ANNOTATION_PACKAGE + "Description";
+    private static final String PARAM_ANNOTATION = ANNOTATION_PACKAGE + "Param";
+    private static final String PARAM_NOT_APPLICABLE = "N/A";
+    private static final String PARAM_NO_MATCH_USING = PARAM_ANNOTATION + "$NoOpBindingMatchingStrategy";
+
+    // Types already generated (in previous rounds)
+    private final Set<String> generated = new HashSet<>();
+
+    public RuleMetadataProcessor() {
+        super();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) types.add(type);
+                else if (element.getKind() == ElementKind.METHOD
+                        && element.getEnclosingElement() instanceof TypeElement type) types.add(type);
+            }
+        }
+
+        for (TypeElement type : types) {
+            String name = type.getQualifiedName().toString();
+            if (!generated.add(name)) continue;
+            generate(type);
+        }
+
+        // Let any other processors see the rulii annotations
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+
+        if (!isAccessible(type, packageName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Skipping rule metadata for [" + type + "]; the class is not accessible.", type);
+            return;
+        }
+
+        List<ExecutableElement> methods = new ArrayList<>();
+
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD && isRuleMethod(element)) methods.add((ExecutableElement) element);
+        }
+
+        if (methods.isEmpty()) return;
+
+        String className = getMetadataClassName(type, packageName);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                write(out, type, packageName, className, methods);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate rule metadata [" + qualifiedName + "] : " + e.getMessage(), type);
+        }
+    }
+
+    private void write(PrintWriter out, TypeElement type, String packageName, String className,
+                       List<ExecutableElement> methods) {
+        String typeName = type.getQualifiedName().toString();
+
+        if (!packageName.isEmpty()) out.println("package " + packageName + ";");
+        out.println();
+        out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        out.println("public final class " + className + " implements " + METADATA_INTERFACE + " {");
+        out.println();
+        out.println("    private static final String[] METHOD_KEYS = {");
+        for (ExecutableElement method : methods) out.println("            \"" + key(method) + "\",");
+        out.println("    };");
+        out.println();
+        out.println("    private static final String[][] PARAMETER_NAMES = {");
+
+        for (ExecutableElement method : methods) {
+            StringJoiner names = new StringJoiner(", ", "{", "}");
+            for (VariableElement parameter : method.getParameters()) names.add("\"" + parameter.getSimpleName() + "\"");
+            out.println("            " + names + ",");
+        }
+
+        out.println("    };");
+        out.println();
+        out.println("    private static final boolean[] INVOKABLE = {");
+        for (ExecutableElement method : methods) out.println("            " + isInvokable(method, packageName) + ",");
+        out.println("    };");
+        out.println();
+        out.println("    private static final java.util.List<MethodMetadata> METHODS = java.util.List.of(");
+        StringJoiner descriptions = new StringJoiner(",\n");
+        for (ExecutableElement method : methods) descriptions.add("            " + methodMetadata(method));
+        out.println(descriptions);
+        out.println("    );");
+        out.println();
+        out.println("    public " + className + "() {");
+        out.println("        super();");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public Class<?> getRuleClass() {");
+        out.println("        return " + typeName + ".class;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public String[] getMethodKeys() {");
+        out.println("        return METHOD_KEYS.clone();");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public java.util.List<MethodMetadata> getMethods() {");
+        out.println("        return METHODS;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public boolean inheritsRuleMethods() {");
+        out.println("        return " + inheritsRuleMethods(type) + ";");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public String[] getParameterNames(int index) {");
+        out.println("        return PARAMETER_NAMES[index].clone();");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public boolean isInvokable(int index) {");
+        out.println("        return INVOKABLE[index];");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        out.println("    public Object invoke(int index, Object target, Object[] args) throws Throwable {");
+        out.println("        switch (index) {");
+
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            if (!isInvokable(method, packageName)) continue;
+            out.println("            case " + i + ":");
+            String call = invocation(typeName, method);
+
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                out.println("                " + call + ";");
+                out.println("                return null;");
+            } else {
+                out.println("                return " + call + ";");
+            }
+        }
+
+        out.println("            default:");
+        out.println("                throw new IllegalArgumentException(\"Method [\" + index + \"] cannot be invoked directly.\");");
+        out.println("        }");
+        out.println("    }");
+        out.println("}");
+    }
+
+    // new MethodMetadata(key, annotations, description, parameters)
+    private String methodMetadata(ExecutableElement method) {
+        StringJoiner annotations = new StringJoiner(", ", "java.util.Map.ofEntries(", ")");
+        getRuleAnnotations(method).forEach((name, attributes) -> annotations.add("java.util.Map.entry("
+                + literal(name) + ", " + attributes + ")"));
+        StringJoiner parameters = new StringJoiner(", ", "java.util.List.of(", ")");
+
+        for (VariableElement parameter : method.getParameters()) {
+            AnnotationMirror param = getAnnotation(parameter, PARAM_ANNOTATION);
+            Object defaultValue = param != null ? getValue(param, "defaultValue") : null;
+            Object matchUsing = param != null ? getValue(param, "matchUsing") : null;
+            String matchUsingName = matchUsing instanceof DeclaredType declaredType
+                    ? processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()).toString()
+                    : null;
+            parameters.add("new ParameterMetadata(" + literal(parameter.getSimpleName().toString()) + ", "
+                    + literal(getDescription(parameter)) + ", "
+                    + literal(PARAM_NOT_APPLICABLE.equals(defaultValue) ? null : defaultValue) + ", "
+                    + literal(PARAM_NO_MATCH_USING.equals(matchUsingName) ? null : matchUsingName) + ")");
+        }
+
+        return "new MethodMetadata(" + literal(key(method)) + ", " + annotations + ", "
+                + literal(getDescription(method)) + ", " + parameters + ")";
+    }
+
+    // Declared rulii annotations (and the @Condition/@Action/@Function they are annotated with) along with their attributes
+    private Map<String, String> getRuleAnnotations(ExecutableElement method) {
+        Map<String, String> result = new LinkedHashMap<>();
+        List<AnnotationMirror> metas = new ArrayList<>();
+
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            boolean ruleAnnotation = METHOD_ANNOTATIONS.contains(annotationType.getQualifiedName().toString());
+
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                TypeElement metaType = (TypeElement) meta.getAnnotationType().asElement();
+                if (!META_ANNOTATIONS.contains(metaType.getQualifiedName().toString())) continue;
+                ruleAnnotation = true;
+                metas.add(meta);
+            }
+
+            if (ruleAnnotation) result.put(binaryName(annotation), attributes(annotation));
+        }
+
+        // Declared annotations take precedence
+        for (AnnotationMirror meta : metas) {
+            result.putIfAbsent(binaryName(meta), attributes(meta));
+        }
+
+        return result;
+    }
+
+    // Map of the annotation attributes (only constants are recorded)
+    private String attributes(AnnotationMirror annotation) {
+        StringJoiner result = new StringJoiner(", ", "java.util.Map.ofEntries(", ")");
+
+        processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).forEach((attribute, value) -> {
+            Object constant = value.getValue();
+            if (!(constant instanceof String || constant instanceof Number || constant instanceof Boolean
+                    || constant instanceof Character)) return;
+            result.add("java.util.Map.entry(" + literal(attribute.getSimpleName().toString()) + ", "
+                    + processingEnv.getElementUtils().getConstantExpression(constant) + ")");
+        });
+
+        return result.toString();
+    }
+
+    private String getDescription(Element element) {
+        AnnotationMirror description = getAnnotation(element, DESCRIPTION_ANNOTATION);
+        return description != null ? (String) getValue(description, "value") : null;
+    }
+
+    private AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) return entry.getValue().getValue();
+        }
+
+        return null;
+    }
+
+    private String binaryName(AnnotationMirror annotation) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
+    }
+
+    private String literal(Object value) {
+        return value == null ? "null" : processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    // Annotated methods declared by the super classes/interfaces are not described by the generated metadata
+    private boolean inheritsRuleMethods(TypeElement type) {
+        List<TypeMirror> supertypes = new ArrayList<>(processingEnv.getTypeUtils().directSupertypes(type.asType()));
+        Set<String> visited = new HashSet<>();
+
+        while (!supertypes.isEmpty()) {
+            TypeMirror supertype = supertypes.remove(supertypes.size() - 1);
+            if (!(supertype instanceof DeclaredType declaredType)) continue;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            if (!visited.add(element.getQualifiedName().toString())
+                    || element.getQualifiedName().contentEquals("java.lang.Object")) continue;
+
+            for (Element member : element.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.METHOD && isRuleMethod(member)) return true;
+            }
+
+            supertypes.addAll(processingEnv.getTypeUtils().directSupertypes(supertype));
+        }
+
+        return false;
+    }
+
+    private String invocation(String typeName, ExecutableElement method) {
+        StringBuilder result = new StringBuilder();
+
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            result.append(typeName);
+        } else {
+            result.append("((").append(typeName).append(") target)");
+        }
+
+        result.append(".").append(method.getSimpleName()).append("(");
+        List<? extends VariableElement> parameters = method.getParameters();
+
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) result.append(", ");
+            result.append("(").append(typeName(parameters.get(i).asType())).append(") args[").append(i).append("]");
+        }
+
+        return result.append(")").toString();
+    }
+
+    private boolean isRuleMethod(Element method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (METHOD_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) return true;
+
+            // Custom annotations built on top of @Condition/@Action/@Function
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                TypeElement metaType = (TypeElement) meta.getAnnotationType().asElement();
+                if (META_ANNOTATIONS.contains(metaType.getQualifiedName().toString())) return true;
+            }
+        }
+
+        return false;
+    }
+
+    // The generated class must be able to call the method and reference all its parameter types (and return type)
+    private boolean isInvokable(ExecutableElement method, String packageName) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) return false;
+        if (!isAccessible(method.getReturnType(), packageName)) return false;
+
+        for (VariableElement parameter : method.getParameters()) {
+            if (!isAccessible(parameter.asType(), packageName)) return false;
+        }
+
+        return true;
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) return true;
+        if (type instanceof ArrayType arrayType) return isAccessible(arrayType.getComponentType(), packageName);
+        if (type instanceof DeclaredType declaredType) return isAccessible((TypeElement) declaredType.asElement(), packageName);
+        // Type variables etc; the erasure is what gets referenced
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        return erasure != type && isAccessible(erasure, packageName);
+    }
+
+    // The generated class (in the given package) must be able to reference the class (and all its enclosing classes)
+    private boolean isAccessible(TypeElement type, String packageName) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        Element current = type;
+
+        while (current instanceof TypeElement element) {
+            if (element.getNestingKind() == NestingKind.LOCAL || element.getNestingKind() == NestingKind.ANONYMOUS
+                    || element.getModifiers().contains(Modifier.PRIVATE)) return false;
+            // Package private/protected classes can only be referenced from the same package
+            if (!samePackage && !element.getModifiers().contains(Modifier.PUBLIC)) return false;
+            current = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Name of the generated class (must match GeneratedRuleMetadataRegistry.getMetadataClassName).
+     */
+    private String getMetadataClassName(TypeElement type, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleName.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Key of the method (must match GeneratedRuleMetadataRegistry.key); ie: isAdult(int,java.lang.String[]).
+     */
+    private String key(ExecutableElement method) {
+        StringJoiner result = new StringJoiner(",", method.getSimpleName() + "(", ")");
+        for (VariableElement parameter : method.getParameters()) result.add(typeName(parameter.asType()));
+        return result.toString();
+    }
+
+    // Canonical name of the erased type
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return type.getKind().name().toLowerCase(Locale.ROOT);
+        if (type instanceof ArrayType arrayType) return typeName(arrayType.getComponentType()) + "[]";
+        if (type instanceof DeclaredType declaredType) return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        return typeName(processingEnv.getTypeUtils().erasure(type));
+    }
+}
@@ -17,9 +17,9 @@
  */
 package org.rulii.bind;
 
-import org.rulii.lib.apache.reflect.TypeUtils;
 import org.rulii.model.Identifiable;
 import org.rulii.model.Immutator;
+import org.rulii.util.reflect.AssignabilityCache;
 
 import java.lang.reflect.Type;
 import java.util.List;
@@ -128,7 +128,7 @@ public interface Binding<T> extends Identifiable, Immutator<Binding<T>> {
 	 * @return true if the Binding is assignable to the desired type.
 	 */
 	default boolean isAssignable(Type type) {
-		return TypeUtils.isAssignable(getType(), type);
+		return AssignabilityCache.isAssignable(getType(), type);
 	}
 
 	/**
@@ -138,7 +138,7 @@ public interface Binding<T> extends Identifiable, Immutator<Binding<T>> {
 	 * @return true if the desired type can be assigned to this Binding.
 	 */
 	default boolean isTypeAcceptable(Type type) {
-		return TypeUtils.isAssignable(type, getType());
+		return AssignabilityCache.isAssignable(type, getType());
 	}
 
 	/**
@@ -212,6 +212,6 @@ public interface Binding<T> extends Identifiable, Immutator<Binding<T>> {
 				.primary(isPrimary())
 				.value(value)
 				.valueListeners(this.getBindingValueListeners().toArray(new BindingValueListener[0]))
-				.build());
+				.build(), this);
 	}
 }
@@ -227,6 +227,28 @@ public interface Bindings extends Iterable<Binding<?>>, Immutator<Bindings> {
      */
     int size();
 
+    /**
+     * Structural version of the Bindings. The version changes whenever a Binding is added (or a scope is added/removed
+     * in the case of ScopedBindings) but not when a Binding value changes. Versions are never reused, therefore two
+     * calls returning the same version are guaranteed to see the same structure.
+     *
+     * @return structural version; a negative value indicates that the structure is not tracked.
+     */
+    default long getVersion() {
+        return -1;
+    }
+
+    /**
+     * Layout (names, types and primary flags of the Bindings) of the current structure. Bindings that have the same
+     * layout produce the same parameter matches.
+     *
+     * @return current layout; null if the structure is not tracked.
+     * @see BindingsLayout
+     */
+    default BindingsLayout getLayout() {
+        return null;
+    }
+
     /**
      * Determines whether there are any Bindings.
      *
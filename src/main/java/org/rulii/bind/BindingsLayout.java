@@ -0,0 +1,142 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Describes the structure of a Bindings; the names, types and primary flags of its Bindings (and the position of the
+ * scopes in the case of ScopedBindings) but not their values. Two Bindings with the same layout produce the same
+ * parameter matches which lets the matches be reused across different Bindings instances (ex: a new RuleContext per
+ * RuleSet run) with the same shape.
+ *
+ * Layouts are interned; Bindings with the same layout return the same instance, therefore layouts can be compared by
+ * reference.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see Bindings#getLayout()
+ */
+public final class BindingsLayout {
+
+    private static final Map<BindingsLayout, WeakReference<BindingsLayout>> INTERNED =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // (name, type, primary) for each Binding sorted by name; or the layout of each scope (root first)
+    private final Object[] elements;
+    private final boolean scoped;
+    private final int hash;
+
+    private BindingsLayout(Object[] elements, boolean scoped) {
+        super();
+        this.elements = elements;
+        this.scoped = scoped;
+        this.hash = 31 * Arrays.hashCode(elements) + Boolean.hashCode(scoped);
+    }
+
+    /**
+     * Creates the layout of the given Bindings.
+     *
+     * @param bindings target Bindings.
+     * @return interned layout.
+     */
+    static BindingsLayout of(Collection<Binding<?>> bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        List<Binding<?>> sorted = new ArrayList<>(bindings);
+        sorted.sort(Comparator.comparing(Binding::getName));
+        Object[] elements = new Object[sorted.size() * 3];
+        int index = 0;
+
+        for (Binding<?> binding : sorted) {
+            elements[index++] = binding.getName();
+            elements[index++] = binding.getType();
+            elements[index++] = binding.isPrimary();
+        }
+
+        return intern(new BindingsLayout(elements, false));
+    }
+
+    /**
+     * Creates the layout of a ScopedBindings.
+     *
+     * @param scopes layouts of the scopes (root first).
+     * @return interned layout.
+     */
+    static BindingsLayout scoped(BindingsLayout...scopes) {
+        Assert.notNull(scopes, "scopes cannot be null.");
+        return intern(new BindingsLayout(scopes, true));
+    }
+
+    private static BindingsLayout intern(BindingsLayout layout) {
+        synchronized (INTERNED) {
+            WeakReference<BindingsLayout> ref = INTERNED.get(layout);
+            BindingsLayout result = ref != null ? ref.get() : null;
+
+            if (result == null) {
+                INTERNED.put(layout, new WeakReference<>(layout));
+                result = layout;
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Determines whether this is the layout of a ScopedBindings.
+     *
+     * @return true if scoped.
+     */
+    public boolean isScoped() {
+        return scoped;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BindingsLayout other = (BindingsLayout) o;
+        // Scope layouts are interned; hence comparing them by reference is enough
+        return scoped == other.scoped && hash == other.hash && (scoped
+                ? Arrays.equals(elements, other.elements, (a, b) -> a == b ? 0 : 1)
+                : Arrays.equals(elements, other.elements));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "BindingsLayout{" +
+                "scoped=" + scoped +
+                ", elements=" + Arrays.toString(elements) +
+                '}';
+    }
+
+    /**
+     * Holds the layout computed for a given structural version of a Bindings.
+     *
+     * @param version structural version.
+     * @param layout layout at that version.
+     */
+    record Versioned(long version, BindingsLayout layout) {}
+}
@@ -20,10 +20,12 @@ package org.rulii.bind;
 import org.rulii.lib.apache.commons.logging.Log;
 import org.rulii.lib.apache.commons.logging.LogFactory;
 import org.rulii.lib.spring.util.Assert;
+import org.rulii.util.IdGenerator;
 import org.rulii.util.RuleUtils;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Binding is a mapping between a name and a value.
@@ -49,7 +51,7 @@ public class DefaultBinding<T> implements Binding<T> {
     private final boolean isFinal;
     private final String description;
 
-    private final List<BindingValueListener> listeners = new LinkedList<>();
+    private final List<BindingValueListener> listeners = new CopyOnWriteArrayList<>();
     /**
      * Creates a new DefaultBinding
      *
@@ -65,7 +67,7 @@ public class DefaultBinding<T> implements Binding<T> {
         Assert.isTrue(!name.trim().isEmpty(), "name length must be > 0");
         Assert.isTrue(RuleUtils.isValidName(name), "Binding name [" + name + "] must match [" + RuleUtils.NAME_REGEX + "]");
         Assert.isTrue(!name.trim().isEmpty(), "name length must be > 0");
-        this.id = UUID.randomUUID().toString();
+        this.id = IdGenerator.sequential().generate();
         this.name = name;
         this.type = type;
         this.editable = true;
@@ -40,6 +40,14 @@ public class DefaultBindings implements Bindings, PromiscuousBinder {
     // Stores all the Bindings
     private final Map<String, Binding<?>> bindings = createBindings();
     private final List<BindingListener> listeners = new LinkedList<>();
+    // Bindings indexed by their types
+    private final TypeIndex typeIndex = new TypeIndex();
+    // Changes every time a Binding is added
+    private volatile long version = StructuralVersion.next();
+    // Layout of the current structure (created on demand)
+    private volatile BindingsLayout.Versioned layout;
+    // ScopedBindings that need to know when the structure changes
+    private final StructureObservers structureObservers = new StructureObservers();
 
     /**
      * Default Ctor. Self Reference added.
@@ -76,6 +84,10 @@ public class DefaultBindings implements Bindings, PromiscuousBinder {
             throw new BindingAlreadyExistsException(existingBinding, binding);
         }
 
+        typeIndex.add(binding);
+        this.version = StructuralVersion.next();
+        structureObservers.fire();
+
         // Add the value listeners
         for (BindingListener listener : listeners) {
             binding.addValueListener(listener);
@@ -90,6 +102,28 @@ public class DefaultBindings implements Bindings, PromiscuousBinder {
         return bindings.size();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public BindingsLayout getLayout() {
+        BindingsLayout.Versioned result = layout;
+        long currentVersion = version;
+
+        if (result == null || result.version() != currentVersion) {
+            result = new BindingsLayout.Versioned(currentVersion, BindingsLayout.of(bindings.values()));
+            layout = result;
+        }
+
+        return result.layout();
+    }
+
+    StructureObservers getStructureObservers() {
+        return structureObservers;
+    }
+
     @Override
     public Iterator<Binding<?>> iterator() {
         return bindings.values().iterator();
@@ -127,17 +161,28 @@ public class DefaultBindings implements Bindings, PromiscuousBinder {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> List<Binding<T>> getBindings(Type typeRef) {
-        List<Binding<T>> result = new LinkedList<>();
+        List<Binding<T>> result = new ArrayList<>();
+        Collection<Binding<?>> candidates = typeIndex.getCandidates(typeRef);
+
+        if (candidates == null) {
+            // Cannot use the index; check all the Bindings
+            addAssignable(typeRef, bindings.values(), result);
+        } else {
+            addAssignable(typeRef, candidates, result);
+            addAssignable(typeRef, typeIndex.getUnindexed(), result);
+        }
 
-        for (Binding<?> binding : bindings.values()) {
+        return Collections.unmodifiableList(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addAssignable(Type typeRef, Collection<Binding<?>> candidates, List<Binding<T>> result) {
+        for (Binding<?> binding : candidates) {
             if (binding.isAssignable(typeRef)) {
                 result.add((Binding<T>) binding);
             }
         }
-
-        return Collections.unmodifiableList(result);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.rulii.util.RuleUtils;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.rulii.bind.Bindings.builder;
@@ -39,8 +40,18 @@ public class DefaultScopedBindings implements ScopedBindings {
 
     private static final Log logger = LogFactory.getLog(DefaultScopedBindings.class);
 
-    private final Stack<NamedScope> scopes = new Stack<>();
+    private final ScopeStack scopes = new ScopeStack();
     private final List<BindingListener> listeners = new LinkedList<>();
+    // Changes every time a scope is added/removed or the structure of any of the scopes changes
+    private volatile long version = StructuralVersion.next();
+    // Number of scopes whose Bindings cannot tell us about their structural changes
+    private volatile int untrackedScopes = 0;
+    // ScopedBindings that contain this ScopedBindings (as a scope)
+    private final StructureObservers structureObservers = new StructureObservers();
+    // Layout of the current structure (created on demand)
+    private volatile BindingsLayout.Versioned layout;
+    // Flattened name lookups (innermost scope wins); entries are only valid for the version they were found in
+    private final NameCache nameCache = new NameCache();
 
     DefaultScopedBindings(String name) {
         this(name, builder().standard());
@@ -51,11 +62,13 @@ public class DefaultScopedBindings implements ScopedBindings {
         Assert.hasText(name, "name cannot be null/empty.");
         Assert.notNull(bindings, "bindings cannot be null.");
         this.scopes.push(new NamedScope(name, bindings));
+        track(bindings);
     }
 
     @Override
     public NamedScope addScope() {
-        return addScope("anonymous-scope-" + UUID.randomUUID());
+        // Anonymous scopes do not need a name (and the name check) as they are only ever removed by reference
+        return pushScope(NamedScope.anonymous(createBindings()));
     }
 
     @Override
@@ -74,11 +87,16 @@ public class DefaultScopedBindings implements ScopedBindings {
             throw new BindingsAlreadyExistsException(name, existing);
         }
 
-        NamedScope result = new NamedScope(name, bindings);
+        return pushScope(new NamedScope(name, bindings));
+    }
+
+    private NamedScope pushScope(NamedScope result) {
         scopes.push(result);
+        track(result.getBindings());
+        onStructureChange();
 
         if (logger.isDebugEnabled()) {
-            logger.debug("New Scope added [" + name + "]");
+            logger.debug("New Scope added [" + (result.isAnonymous() ? "anonymous" : result.getName()) + "]");
         }
 
         // Fire the Scope listeners
@@ -96,7 +114,7 @@ public class DefaultScopedBindings implements ScopedBindings {
 
         for (NamedScope scope : scopes) {
             // Compare the reference to make sure we match.
-            if (scope.getName().equals(name)) {
+            if (!scope.isAnonymous() && name.equals(scope.getName())) {
                 result = scope;
                 break;
             }
@@ -137,10 +155,13 @@ public class DefaultScopedBindings implements ScopedBindings {
         }
 
         if (logger.isDebugEnabled()) {
-            logger.debug("Scope removed [" + scopes.peek().getName() + "]");
+            NamedScope scope = scopes.peek();
+            logger.debug("Scope removed [" + (scope.isAnonymous() ? "anonymous" : scope.getName()) + "]");
         }
 
         NamedScope result = scopes.pop();
+        untrack(result.getBindings());
+        onStructureChange();
 
         // Fire the Scope listeners
         for (BindingListener listener : listeners) {
@@ -261,12 +282,37 @@ public class DefaultScopedBindings implements ScopedBindings {
         return getScope(GLOBAL_SCOPE);
     }
 
+    /**
+     * Finds the Binding with the given name starting at the current scope and working up to the root scope. Lookups are
+     * memoized (flattened) for the current structure (see getVersion); as long as all the scopes track their structure a
+     * repeated lookup is a version check plus a single hash probe regardless of the number of scopes.
+     *
+     * @param name binding name.
+     * @param <T> generic type of the Binding.
+     * @return matching Binding; null if not found.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Binding<T> getBinding(String name) {
-        List<NamedScope> scopes = getScopes();
+        Assert.notNull(name, "name cannot be null.");
+        long currentVersion = getVersion();
 
-        if (scopes.isEmpty()) return null;
+        // Structure is not tracked; cannot cache
+        if (currentVersion < 0) return findBinding(name);
 
+        NameCache.Entry entry = nameCache.get(name);
+
+        // Entry is stale (or missing); find it again and replace it
+        if (entry == null || entry.version != currentVersion) {
+            Binding<T> result = findBinding(name);
+            nameCache.put(name, new NameCache.Entry(currentVersion, result));
+            return result;
+        }
+
+        return (Binding<T>) entry.binding;
+    }
+
+    private <T> Binding<T> findBinding(String name) {
         Binding<T> result = null;
         int size = scopes.size();
         // Must start at end and come up
@@ -280,8 +326,6 @@ public class DefaultScopedBindings implements ScopedBindings {
 
     @Override
     public <T> Binding<T> getBinding(String name, Type type) {
-        List<NamedScope> scopes = getScopes();
-
         Binding<T> result = null;
         int size = scopes.size();
         // Must start at end and come up
@@ -295,28 +339,24 @@ public class DefaultScopedBindings implements ScopedBindings {
 
     @Override
     public <T> List<Binding<T>> getBindings(Type type) {
-        List<Binding<T>> result = new LinkedList<>();
-        List<NamedScope> scopes = getScopes();
-
         int size = scopes.size();
         // Must start at end and come up
         for (int i = size - 1; i >=0; i--) {
-            result.addAll(scopes.get(i).getBindings().getBindings(type));
+            List<Binding<T>> result = scopes.get(i).getBindings().getBindings(type);
             // Found something in this scope stop.
-            if (!result.isEmpty()) break;
+            if (!result.isEmpty()) return new ArrayList<>(result);
         }
 
-        return result;
+        return new ArrayList<>();
     }
 
     @Override
     public <T> List<Binding<T>> getAllBindings(Type type) {
-        List<Binding<T>> result = new LinkedList<>();
-        List<NamedScope> scopes = getScopes();
-
+        List<Binding<T>> result = new ArrayList<>();
         // Must start at root and keep adding
         for (NamedScope scope : scopes) {
-            result.addAll(scope.getBindings().getBindings(type));
+            List<Binding<T>> matches = scope.getBindings().getBindings(type);
+            if (!matches.isEmpty()) result.addAll(matches);
         }
 
         return result;
@@ -325,8 +365,6 @@ public class DefaultScopedBindings implements ScopedBindings {
     @Override
     public <T> List<Binding<T>> getAllBindings(String name) {
         List<Binding<T>> result = new LinkedList<>();
-        List<NamedScope> scopes = getScopes();
-
         // Must start at root and keep adding
         for (NamedScope scope : scopes) {
             Binding<T> match = scope.getBindings().getBinding(name);
@@ -336,6 +374,78 @@ public class DefaultScopedBindings implements ScopedBindings {
         return result;
     }
 
+    /**
+     * The version changes every time a scope is added/removed or a Binding is added to any of the scopes (the scoped
+     * Bindings notify us of their changes). Checking the version is therefore a single read. If any of the scoped
+     * Bindings cannot notify us (ex: custom Bindings) the version of every scope is checked instead.
+     *
+     * @return structural version; negative if any of the scoped Bindings do not track their structure.
+     */
+    @Override
+    public long getVersion() {
+        long result = version;
+
+        // All the scopes notify us of their changes
+        if (untrackedScopes == 0) return result;
+
+        for (NamedScope scope : scopes) {
+            long scopeVersion = scope.getBindings().getVersion();
+            if (scopeVersion < 0) return -1;
+            if (scopeVersion > result) result = scopeVersion;
+        }
+
+        return result;
+    }
+
+    /**
+     * The layout is made up of the layouts of the scopes (root first).
+     *
+     * @return current layout; null if any of the scoped Bindings do not track their structure.
+     */
+    @Override
+    public BindingsLayout getLayout() {
+        long currentVersion = getVersion();
+        if (currentVersion < 0) return null;
+
+        BindingsLayout.Versioned result = layout;
+        if (result != null && result.version() == currentVersion) return result.layout();
+
+        BindingsLayout[] scopeLayouts = new BindingsLayout[scopes.size()];
+
+        for (int i = 0; i < scopeLayouts.length; i++) {
+            scopeLayouts[i] = scopes.get(i).getBindings().getLayout();
+            if (scopeLayouts[i] == null) return null;
+        }
+
+        result = new BindingsLayout.Versioned(currentVersion, BindingsLayout.scoped(scopeLayouts));
+        layout = result;
+        return result.layout();
+    }
+
+    /**
+     * Called when the structure of this ScopedBindings (or any of its scopes) has changed.
+     */
+    void onStructureChange() {
+        this.version = StructuralVersion.next();
+        structureObservers.fire();
+    }
+
+    StructureObservers getStructureObservers() {
+        return structureObservers;
+    }
+
+    private void track(Bindings bindings) {
+        if (!StructureObservers.observe(bindings, this)) untrackedScopes++;
+    }
+
+    private void untrack(Bindings bindings) {
+        if (StructureObservers.of(bindings) == null) {
+            untrackedScopes--;
+        } else {
+            StructureObservers.unobserve(bindings, this);
+        }
+    }
+
     @Override
     public int getScopeSize() {
         return scopes.size();
@@ -343,7 +453,6 @@ public class DefaultScopedBindings implements ScopedBindings {
 
     @Override
     public int size() {
-        List<NamedScope> scopes = getScopes();
         int result = 0;
 
         for (NamedScope scope : scopes) {
@@ -355,7 +464,6 @@ public class DefaultScopedBindings implements ScopedBindings {
 
     @Override
     public Map<String, ?> asMap() {
-        List<NamedScope> scopes = getScopes();
         Map<String, Object> result = new HashMap<>();
 
         for (NamedScope scope : scopes) {
@@ -377,7 +485,6 @@ public class DefaultScopedBindings implements ScopedBindings {
      */
     @Override
     public Iterator<Binding<?>> iterator() {
-        List<NamedScope> scopes = getScopes();
         Set<Binding<?>> result = new HashSet<>();
 
         // Must start at root and keep adding
@@ -401,7 +508,7 @@ public class DefaultScopedBindings implements ScopedBindings {
     @Override
     public boolean removeBindingListener(BindingListener listener) {
         Assert.notNull(listener, "listener cannot be null.");
-        AtomicBoolean result = new AtomicBoolean(false);
+        AtomicBoolean result = new AtomicBoolean(listeners.remove(listener));
 
         scopes.forEach((NamedScope scope) -> {
             if (scope.getBindings().removeBindingListener(listener)) {
@@ -427,10 +534,6 @@ public class DefaultScopedBindings implements ScopedBindings {
         return result;
     }
 
-    private List<NamedScope> getScopes() {
-        return scopes;
-    }
-
     @Override
     public String prettyPrint(String prefix) {
         StringBuilder result = new StringBuilder();
@@ -453,4 +556,37 @@ public class DefaultScopedBindings implements ScopedBindings {
     public String toString() {
         return "ScopedBindings(" + getScopeSize() + ")";
     }
+
+    private static final class NameCache {
+
+        // Stops lookups of (many) unknown names from growing the cache indefinitely
+        private static final int MAX_SIZE = 1024;
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private NameCache() {
+            super();
+        }
+
+        private Entry get(String name) {
+            return entries.get(name);
+        }
+
+        private void put(String name, Entry entry) {
+            if (entries.size() >= MAX_SIZE) entries.clear();
+            entries.put(name, entry);
+        }
+
+        private static final class Entry {
+            private final long version;
+            // null if the Binding was not found
+            private final Binding<?> binding;
+
+            private Entry(long version, Binding<?> binding) {
+                super();
+                this.version = version;
+                this.binding = binding;
+            }
+        }
+    }
 }
@@ -32,11 +32,27 @@ import java.util.List;
 public final class ImmutableBinding<T> implements Binding<T>  {
 
     private final Binding<T> target;
+    private final Binding<T> source;
 
     ImmutableBinding(Binding<T> target) {
+        this(target, target);
+    }
+
+    ImmutableBinding(Binding<T> target, Binding<T> source) {
         super();
         Assert.notNull(target, "target cannot be null.");
+        Assert.notNull(source, "source cannot be null.");
         this.target = target;
+        this.source = source;
+    }
+
+    /**
+     * The Binding this immutable view was created from.
+     *
+     * @return source Binding.
+     */
+    public Binding<T> getSource() {
+        return source;
     }
 
     private Binding<T> getTarget() {
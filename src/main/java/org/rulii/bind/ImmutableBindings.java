@@ -45,6 +45,16 @@ public class ImmutableBindings implements Bindings {
         return getTarget().size();
     }
 
+    @Override
+    public long getVersion() {
+        return getTarget().getVersion();
+    }
+
+    @Override
+    public BindingsLayout getLayout() {
+        return getTarget().getLayout();
+    }
+
     @Override
     public boolean contains(String name) {
         return getTarget().contains(name);
@@ -19,6 +19,7 @@ package org.rulii.bind;
 
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.Immutator;
+import org.rulii.util.IdGenerator;
 
 /**
  * The `NamedScope` class represents a named scope along with its associated bindings.
@@ -30,8 +31,9 @@ import org.rulii.model.Immutator;
  *
  */
 public class NamedScope implements Immutator<NamedScope> {
-    private final String name;
+    private volatile String name;
     private final Bindings bindings;
+    private final boolean anonymous;
 
     /**
      * Creates a new NamedScope with the given name and bindings.
@@ -42,14 +44,50 @@ public class NamedScope implements Immutator<NamedScope> {
      * @param bindings the bindings for the scope (cannot be null)
      */
     public NamedScope(String name, Bindings bindings) {
-        Assert.notNull(name, "name cannot be null");
+        this(name, bindings, false);
+    }
+
+    private NamedScope(String name, Bindings bindings, boolean anonymous) {
+        if (!anonymous) Assert.notNull(name, "name cannot be null");
         Assert.notNull(bindings, "bindings cannot be null");
         this.name = name;
         this.bindings = bindings;
+        this.anonymous = anonymous;
     }
 
+    /**
+     * Creates a new anonymous scope. Anonymous scopes cannot be looked up by name; they are meant for short-lived
+     * scopes that are removed by reference. Their name is only generated if it is asked for.
+     *
+     * @param bindings the bindings for the scope (cannot be null)
+     * @return new anonymous scope.
+     */
+    public static NamedScope anonymous(Bindings bindings) {
+        return new NamedScope(null, bindings, true);
+    }
+
+    /**
+     * Name of the scope.
+     *
+     * @return name of the scope; a generated (and stable) name if the scope is anonymous.
+     */
     public String getName() {
-        return name;
+        String result = name;
+        if (result != null) return result;
+
+        synchronized (this) {
+            if (name == null) name = "anonymous-scope-" + IdGenerator.sequential().generate();
+            return name;
+        }
+    }
+
+    /**
+     * Determines whether this scope was created without a name.
+     *
+     * @return true if the scope is anonymous.
+     */
+    public boolean isAnonymous() {
+        return anonymous;
     }
 
     public Bindings getBindings() {
@@ -58,13 +96,14 @@ public class NamedScope implements Immutator<NamedScope> {
 
     @Override
     public NamedScope asImmutable() {
-        return new NamedScope(name, bindings.asImmutable());
+        // Anonymous copies share the (generated) name
+        return new NamedScope(anonymous ? getName() : name, bindings.asImmutable(), anonymous);
     }
 
     @Override
     public String toString() {
         return "NamedScope{" +
-                "name='" + name + '\'' +
+                "name='" + getName() + '\'' +
                 ", bindings=" + bindings +
                 '}';
     }
@@ -0,0 +1,87 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unsynchronized array backed stack of scopes used by the DefaultScopedBindings. Iteration (and indexing) starts at the
+ * root scope (bottom of the stack) and ends at the current scope (top of the stack).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class ScopeStack implements Iterable<NamedScope> {
+
+    private NamedScope[] scopes = new NamedScope[8];
+    private int size = 0;
+
+    ScopeStack() {
+        super();
+    }
+
+    void push(NamedScope scope) {
+        if (size == scopes.length) scopes = Arrays.copyOf(scopes, size * 2);
+        scopes[size++] = scope;
+    }
+
+    NamedScope pop() {
+        if (size == 0) throw new IllegalStateException("No scopes to remove.");
+        NamedScope result = scopes[--size];
+        scopes[size] = null;
+        return result;
+    }
+
+    NamedScope peek() {
+        if (size == 0) throw new IllegalStateException("No scopes found.");
+        return scopes[size - 1];
+    }
+
+    NamedScope get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return scopes[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<NamedScope> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public NamedScope next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return scopes[index++];
+            }
+        };
+    }
+}
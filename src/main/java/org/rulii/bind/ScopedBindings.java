@@ -72,7 +72,8 @@ public interface ScopedBindings extends Bindings {
     NamedScope getGlobalScope();
 
     /**
-     * Creates a new scope with a generated name.
+     * Creates a new anonymous scope and pushes it to the top of Stack. Anonymous scopes are not found by name (see
+     * getScope) and are meant to be removed by reference; their name is generated on demand.
      *
      * @return added scope.
      */
@@ -124,7 +125,7 @@ public interface ScopedBindings extends Bindings {
      * Retrieves the scope name given the actual bindings instance.
      *
      * @param bindings bindings.
-     * @return scope name if found; null otherwise.
+     * @return scope name if found (the generated name for anonymous scopes); null otherwise.
      */
     String getScopeName(Bindings bindings);
 
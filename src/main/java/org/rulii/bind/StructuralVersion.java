@@ -0,0 +1,45 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of the structural versions handed out to Bindings. Versions are drawn from a single sequence so that a version
+ * is never reused; any structural change results in a version that has not been seen before.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class StructuralVersion {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private StructuralVersion() {
+        super();
+    }
+
+    /**
+     * Next available version.
+     *
+     * @return new version.
+     */
+    static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of the ScopedBindings that contain a Bindings (as one of their scopes) so that they can be told when the
+ * structure of the Bindings changes. This lets the ScopedBindings keep a single version instead of having to check
+ * the version of every scope.
+ *
+ * The observers are only weakly referenced; a Bindings that is shared (ex: the global scope of many RuleContexts) does
+ * not keep the ScopedBindings alive.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class StructureObservers {
+
+    private final List<WeakReference<DefaultScopedBindings>> observers = new CopyOnWriteArrayList<>();
+
+    StructureObservers() {
+        super();
+    }
+
+    /**
+     * Registers the observer with the given Bindings (if it supports it).
+     *
+     * @param bindings target Bindings.
+     * @param observer observer to register.
+     * @return true if the Bindings will notify the observer of changes; false if it does not support it.
+     */
+    static boolean observe(Bindings bindings, DefaultScopedBindings observer) {
+        StructureObservers target = of(bindings);
+        if (target == null) return false;
+        target.add(observer);
+        return true;
+    }
+
+    /**
+     * Removes the observer from the given Bindings.
+     *
+     * @param bindings target Bindings.
+     * @param observer observer to remove.
+     */
+    static void unobserve(Bindings bindings, DefaultScopedBindings observer) {
+        StructureObservers target = of(bindings);
+        if (target != null) target.remove(observer);
+    }
+
+    static StructureObservers of(Bindings bindings) {
+        if (bindings instanceof DefaultBindings) return ((DefaultBindings) bindings).getStructureObservers();
+        if (bindings instanceof DefaultScopedBindings) return ((DefaultScopedBindings) bindings).getStructureObservers();
+        if (bindings instanceof ImmutableBindings) return of(((ImmutableBindings) bindings).getTarget());
+        return null;
+    }
+
+    void add(DefaultScopedBindings observer) {
+        // Clean up any observers that have been collected
+        observers.removeIf(ref -> ref.get() == null);
+        observers.add(new WeakReference<>(observer));
+    }
+
+    void remove(DefaultScopedBindings observer) {
+        // Only remove one registration; the same Bindings can be used in multiple scopes
+        for (WeakReference<DefaultScopedBindings> ref : observers) {
+            if (ref.get() == observer) {
+                observers.remove(ref);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Tells all the observers that the structure has changed.
+     */
+    void fire() {
+        for (WeakReference<DefaultScopedBindings> ref : observers) {
+            DefaultScopedBindings observer = ref.get();
+
+            if (observer == null) {
+                observers.remove(ref);
+            } else {
+                observer.onStructureChange();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind;
+
+import org.rulii.lib.apache.ClassUtils;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Index of Bindings by type. Each Binding is indexed under its raw class and all of its super classes/interfaces (the
+ * supertype closure) so that finding the candidates for a given type is a single hash lookup. The candidates still
+ * need to be checked (Binding.isAssignable) to take care of the generic information.
+ *
+ * Bindings whose type cannot be indexed (arrays, type variables, wildcards etc) are always returned as candidates.
+ * Lookups that cannot use the index (Object, primitives, arrays, type variables, wildcards etc) return null and the
+ * caller is expected to check all the Bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class TypeIndex {
+
+    private static final ClassValue<Set<Class<?>>> SUPER_TYPES = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> result = new HashSet<>();
+            // Primitives are assignable to anything the wrapper is assignable to (autoboxing)
+            collect(type.isPrimitive() ? ClassUtils.primitiveToWrapper(type) : type, result);
+            result.add(type);
+            // Lookups for Object are not indexed
+            result.remove(Object.class);
+            return Collections.unmodifiableSet(result);
+        }
+    };
+
+    private final Map<Class<?>, Queue<Binding<?>>> index = new ConcurrentHashMap<>();
+    private final Queue<Binding<?>> unindexed = new ConcurrentLinkedQueue<>();
+
+    TypeIndex() {
+        super();
+    }
+
+    /**
+     * Indexes the given Binding.
+     *
+     * @param binding binding to index.
+     */
+    void add(Binding<?> binding) {
+        Class<?> rawType = getIndexableType(binding.getType());
+
+        if (rawType == null) {
+            unindexed.add(binding);
+            return;
+        }
+
+        for (Class<?> type : SUPER_TYPES.get(rawType)) {
+            index.computeIfAbsent(type, key -> new ConcurrentLinkedQueue<>()).add(binding);
+        }
+    }
+
+    /**
+     * Candidate Bindings that could be assigned to the given type.
+     *
+     * @param type desired type.
+     * @return indexed candidates; null if the type cannot be looked up using the index.
+     */
+    Collection<Binding<?>> getCandidates(Type type) {
+        Class<?> rawType = getIndexableType(type);
+        // Primitive widening (ie: int -> long) is not captured by the index
+        if (rawType == null || rawType.isPrimitive() || rawType == Object.class) return null;
+        Collection<Binding<?>> result = index.get(rawType);
+        return result != null ? result : Collections.emptyList();
+    }
+
+    /**
+     * Bindings that could not be indexed; they must always be checked.
+     *
+     * @return unindexed Bindings.
+     */
+    Collection<Binding<?>> getUnindexed() {
+        return unindexed;
+    }
+
+    private static Class<?> getIndexableType(Type type) {
+        Class<?> result = null;
+
+        if (type instanceof Class<?> c) {
+            result = c;
+        } else if (type instanceof ParameterizedType p && p.getRawType() instanceof Class<?> c) {
+            result = c;
+        }
+
+        return result != null && !result.isArray() ? result : null;
+    }
+
+    private static void collect(Class<?> type, Set<Class<?>> result) {
+        if (type == null || !result.add(type)) return;
+        collect(type.getSuperclass(), result);
+
+        for (Class<?> c : type.getInterfaces()) {
+            collect(c, result);
+        }
+    }
+}
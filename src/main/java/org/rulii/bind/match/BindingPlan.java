@@ -0,0 +1,181 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.bind.match;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.BindingsLayout;
+import org.rulii.bind.ScopedBindings;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.ParameterDefinition;
+import org.rulii.util.reflect.ObjectFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of matching a method's parameters against a Bindings layout. Rather than holding on to the matched Bindings,
+ * the plan records where each match was found (the Binding name and which of the scopes declaring that name it came
+ * from). As long as the Bindings have the same layout and the same matching strategy/object factory are used, the
+ * matches are the same; the plan simply looks the Bindings up again in the Bindings being used without re-running the
+ * matching strategies. This lets the plan be reused across different Bindings instances (ex: every RuleSet run creates
+ * a new RuleContext) with the same layout.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see BindingsLayout
+ */
+public final class BindingPlan {
+
+    private final BindingsLayout layout;
+    private final BindingMatchingStrategy matchingStrategy;
+    private final ObjectFactory objectFactory;
+    private final Slot[] slots;
+
+    private BindingPlan(BindingsLayout layout, BindingMatchingStrategy matchingStrategy, ObjectFactory objectFactory,
+                        Slot[] slots) {
+        super();
+        this.layout = layout;
+        this.matchingStrategy = matchingStrategy;
+        this.objectFactory = objectFactory;
+        this.slots = slots;
+    }
+
+    /**
+     * Creates a plan out of the given matches.
+     *
+     * @param layout layout of the Bindings that were matched against.
+     * @param bindings Bindings that were matched against.
+     * @param matchingStrategy matching strategy used.
+     * @param objectFactory object factory used.
+     * @param matches parameter matches.
+     * @return new plan; null if the location of the matches could not be determined (the matches cannot be planned).
+     */
+    public static BindingPlan create(BindingsLayout layout, Bindings bindings, BindingMatchingStrategy matchingStrategy,
+                                     ObjectFactory objectFactory, List<ParameterMatch> matches) {
+        Assert.notNull(layout, "layout cannot be null.");
+        Assert.notNull(bindings, "bindings cannot be null.");
+        Assert.notNull(matches, "matches cannot be null.");
+        Slot[] slots = new Slot[matches.size()];
+
+        for (int i = 0; i < slots.length; i++) {
+            ParameterMatch match = matches.get(i);
+            // Nothing matched
+            if (!match.isMatched()) continue;
+
+            int depth = locate(bindings, match.getBinding());
+            // Cannot tell where the Binding came from
+            if (depth < 0) return null;
+
+            slots[i] = new Slot(match.getBinding().getName(), depth, match.getBindingMatch().getStrategyUsed(),
+                    match.getDescription());
+        }
+
+        return new BindingPlan(layout, matchingStrategy, objectFactory, slots);
+    }
+
+    /**
+     * Determines how many of the (inner) scopes declaring the same name must be skipped to get to the given Binding.
+     *
+     * @return depth of the Binding; -1 if it cannot be found.
+     */
+    private static int locate(Bindings bindings, Binding<?> binding) {
+        // Most common case; the innermost Binding with that name.
+        if (bindings.getBinding(binding.getName()) == binding) return 0;
+        if (!(bindings instanceof ScopedBindings)) return -1;
+
+        List<Binding<Object>> candidates = ((ScopedBindings) bindings).getAllBindings(binding.getName());
+
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            if (candidates.get(i) == binding) return candidates.size() - 1 - i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Determines whether this plan can be reused for the given inputs.
+     *
+     * @param layout layout of the Bindings being matched against.
+     * @param matchingStrategy matching strategy in use.
+     * @param objectFactory object factory in use.
+     * @return true if the matches can be reused; false otherwise.
+     */
+    public boolean isApplicable(BindingsLayout layout, BindingMatchingStrategy matchingStrategy,
+                                ObjectFactory objectFactory) {
+        // Layouts are interned
+        return this.layout == layout
+                && this.matchingStrategy == matchingStrategy
+                && this.objectFactory == objectFactory;
+    }
+
+    /**
+     * Resolves the planned matches against the given Bindings (which must have the same layout as the plan).
+     *
+     * @param definitions parameter definitions of the method.
+     * @param bindings Bindings to look the matches up in.
+     * @return parameter matches; null if any of the planned Bindings could not be found.
+     */
+    public List<ParameterMatch> resolve(List<ParameterDefinition> definitions, Bindings bindings) {
+        Assert.isTrue(definitions.size() == slots.length, "definitions do not match the plan.");
+        ParameterMatch[] result = new ParameterMatch[slots.length];
+
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+
+            if (slot == null) {
+                result[i] = new ParameterMatch(definitions.get(i), null);
+                continue;
+            }
+
+            Binding<Object> binding = slot.find(bindings);
+            if (binding == null) return null;
+
+            result[i] = new ParameterMatch(definitions.get(i), new BindingMatch<>(binding, slot.strategyUsed));
+            result[i].setDescription(slot.description);
+        }
+
+        // Do not change to Lists.of()
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    public BindingsLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public String toString() {
+        return "BindingPlan{" +
+                "layout=" + layout +
+                ", slots=" + Arrays.toString(slots) +
+                '}';
+    }
+
+    private record Slot(String name, int depth, Class<? extends BindingMatchingStrategy> strategyUsed,
+                        String description) {
+
+        private Binding<Object> find(Bindings bindings) {
+            if (depth == 0) return bindings.getBinding(name);
+
+            List<Binding<Object>> candidates = ((ScopedBindings) bindings).getAllBindings(name);
+            int index = candidates.size() - 1 - depth;
+            return index >= 0 ? candidates.get(index) : null;
+        }
+    }
+}
@@ -19,16 +19,17 @@ package org.rulii.bind.match;
 
 import org.rulii.bind.BindingException;
 import org.rulii.bind.Bindings;
+import org.rulii.bind.BindingsLayout;
 import org.rulii.convert.ConversionException;
 import org.rulii.convert.Converter;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.lib.apache.commons.logging.Log;
 import org.rulii.lib.apache.commons.logging.LogFactory;
-import org.rulii.lib.apache.reflect.TypeUtils;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.MethodDefinition;
 import org.rulii.model.ParameterDefinition;
 import org.rulii.model.UnrulyException;
+import org.rulii.util.reflect.AssignabilityCache;
 import org.rulii.util.reflect.ObjectFactory;
 import org.rulii.util.reflect.ReflectionUtils;
 
@@ -47,6 +48,10 @@ import java.util.Optional;
  *  - if more than 1 is found we check to see if there is a primary defined.
  *  - if there are none then we throw an error.
  *
+ * The matches are stored as a BindingPlan (keyed by the Bindings layout) against the MethodDefinition. Subsequent calls
+ * with Bindings that have the same layout (Bindings#getLayout) reuse the plan; the planned Bindings are looked up again
+ * and the matching is skipped altogether.
+ *
  * @author Max Arulananthan
  * @since 1.0
  * @see ParameterResolver
@@ -73,6 +78,15 @@ public class DefaultParameterResolver implements ParameterResolver {
                                               ObjectFactory objectFactory) throws BindingException {
         if (definition == null) return Collections.emptyList();
 
+        BindingsLayout layout = bindings != null ? bindings.getLayout() : null;
+        BindingPlan plan = layout != null ? definition.getBindingPlan(layout) : null;
+
+        // Same layout as before; reuse the plan
+        if (plan != null && plan.isApplicable(layout, matchingStrategy, objectFactory)) {
+            List<ParameterMatch> result = plan.resolve(definition.getParameterDefinitions(), bindings);
+            if (result != null) return result;
+        }
+
         ParameterMatch[] result = new ParameterMatch[definition.getParameterDefinitions().size()];
         int index = 0;
 
@@ -127,7 +141,14 @@ public class DefaultParameterResolver implements ParameterResolver {
         }
 
         // Do not change to Lists.of()
-        return Collections.unmodifiableList(Arrays.asList(result));
+        List<ParameterMatch> matches = Collections.unmodifiableList(Arrays.asList(result));
+
+        if (layout != null) {
+            plan = BindingPlan.create(layout, bindings, matchingStrategy, objectFactory, matches);
+            if (plan != null) definition.addBindingPlan(plan);
+        }
+
+        return matches;
     }
 
     @Override
@@ -261,7 +282,7 @@ public class DefaultParameterResolver implements ParameterResolver {
         // We don't have a definition move on
         if (match.getDefinition() == null) return result;
 
-        if (!TypeUtils.isAssignable(match.getDefinition().getType(), match.getBinding().getType())) {
+        if (!AssignabilityCache.isAssignable(match.getDefinition().getType(), match.getBinding().getType())) {
             // Find a converter to convert to desired type
             Converter converter = registry.find(match.getBinding().getType(), match.getDefinition().getType());
             // Found a converter, let's try and convert it
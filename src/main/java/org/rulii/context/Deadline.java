@@ -0,0 +1,170 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.context;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cooperative deadline/cancellation for rule execution. The RuleSet and Rule execution strategies check the deadline
+ * of the RuleContext between rules and between actions and stop (with an ExecutionCancelledException) once it has
+ * expired or has been cancelled. Conditions/actions that run for long periods can call check() themselves.
+ *
+ * A child deadline expires when its own time limit is reached, when it is cancelled or when its parent expires.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(null, 0L, false);
+
+    private final Deadline parent;
+    private final long expiresAt;
+    private final boolean timed;
+    private volatile boolean cancelled = false;
+
+    private Deadline(Deadline parent, long expiresAt, boolean timed) {
+        super();
+        this.parent = parent;
+        this.expiresAt = expiresAt;
+        this.timed = timed;
+    }
+
+    /**
+     * Deadline that never expires and cannot be cancelled (the default).
+     *
+     * @return no deadline.
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * New deadline without a time limit that can be cancelled.
+     *
+     * @return cancellable deadline.
+     */
+    public static Deadline cancellable() {
+        return new Deadline(null, 0L, false);
+    }
+
+    /**
+     * New deadline that expires after the given amount of time.
+     *
+     * @param timeOut time limit.
+     * @param timeUnit unit of the time limit.
+     * @return new deadline.
+     */
+    public static Deadline after(long timeOut, TimeUnit timeUnit) {
+        return NONE.child(timeOut, timeUnit);
+    }
+
+    /**
+     * New deadline that expires after the given duration.
+     *
+     * @param duration time limit.
+     * @return new deadline.
+     */
+    public static Deadline after(Duration duration) {
+        Assert.notNull(duration, "duration cannot be null.");
+        return after(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * New cancellable deadline bound by this one.
+     *
+     * @return child deadline.
+     */
+    public Deadline child() {
+        return new Deadline(this == NONE ? null : this, 0L, false);
+    }
+
+    /**
+     * New deadline that expires after the given amount of time (or earlier if this one expires).
+     *
+     * @param timeOut time limit.
+     * @param timeUnit unit of the time limit.
+     * @return child deadline.
+     */
+    public Deadline child(long timeOut, TimeUnit timeUnit) {
+        Assert.notNull(timeUnit, "timeUnit cannot be null.");
+        return new Deadline(this == NONE ? null : this, System.nanoTime() + timeUnit.toNanos(timeOut), true);
+    }
+
+    /**
+     * Cancels this deadline (and therefore all of its children).
+     */
+    public void cancel() {
+        if (this == NONE) throw new UnsupportedOperationException("Deadline.none() cannot be cancelled.");
+        this.cancelled = true;
+    }
+
+    /**
+     * Determines whether this deadline (or one of its parents) was cancelled.
+     *
+     * @return true if cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    /**
+     * Determines whether this deadline has expired; ie: the time limit was reached or it was cancelled.
+     *
+     * @return true if expired.
+     */
+    public boolean isExpired() {
+        return cancelled || (timed && System.nanoTime() - expiresAt >= 0) || (parent != null && parent.isExpired());
+    }
+
+    /**
+     * Time remaining before this deadline expires.
+     *
+     * @param timeUnit desired unit.
+     * @return remaining time (0 if expired); Long.MAX_VALUE if there is no time limit.
+     */
+    public long getRemaining(TimeUnit timeUnit) {
+        Assert.notNull(timeUnit, "timeUnit cannot be null.");
+        if (isCancelled()) return 0L;
+
+        long result = timed ? Math.max(0L, timeUnit.convert(expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS)) : Long.MAX_VALUE;
+        return parent != null ? Math.min(result, parent.getRemaining(timeUnit)) : result;
+    }
+
+    /**
+     * Checks the deadline.
+     *
+     * @throws ExecutionCancelledException if the deadline has expired.
+     */
+    public void check() throws ExecutionCancelledException {
+        if (isExpired()) {
+            throw new ExecutionCancelledException(isCancelled() ? "Execution was cancelled." : "Execution deadline exceeded.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this == NONE ? "Deadline{none}" : "Deadline{" +
+                "remaining=" + getRemaining(TimeUnit.MILLISECONDS) + "ms" +
+                ", cancelled=" + isCancelled() +
+                '}';
+    }
+}
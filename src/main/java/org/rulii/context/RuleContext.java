@@ -23,15 +23,16 @@ import org.rulii.bind.match.ParameterResolver;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.Immutator;
+import org.rulii.model.condition.ConditionCache;
 import org.rulii.text.MessageFormatter;
 import org.rulii.text.MessageResolver;
 import org.rulii.trace.Tracer;
+import org.rulii.util.IdGenerator;
 import org.rulii.util.reflect.ObjectFactory;
 
 import java.time.Clock;
 import java.util.Date;
 import java.util.Locale;
-import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -47,8 +48,8 @@ public class RuleContext implements Immutator<RuleContext> {
         return RuleContextBuilderBuilder.getInstance();
     }
 
-    private final String id = UUID.randomUUID().toString();
-    private final Date creationTime = new Date();
+    private final String id;
+    private final Date creationTime;
     private final ScopedBindings bindings;
     private final Locale locale;
     private final BindingMatchingStrategy matchingStrategy;
@@ -60,12 +61,16 @@ public class RuleContext implements Immutator<RuleContext> {
     private final ConverterRegistry converterRegistry;
     private final Clock clock;
     private final ExecutorService executorService;
+    private final IdGenerator idGenerator;
+    private final Deadline deadline;
+    private final ConditionCache conditionCache;
 
     RuleContext(ScopedBindings bindings, Locale locale, BindingMatchingStrategy matchingStrategy,
                 ParameterResolver parameterResolver, MessageResolver messageResolver,
                 MessageFormatter messageFormatter, ObjectFactory objectFactory,
                 Tracer tracer, ConverterRegistry converterRegistry,
-                Clock clock, ExecutorService executorService) {
+                Clock clock, ExecutorService executorService, IdGenerator idGenerator, Deadline deadline,
+                ConditionCache conditionCache) {
         super();
         Assert.notNull(bindings, "bindings cannot be null.");
         Assert.notNull(locale, "locale cannot be null.");
@@ -78,6 +83,10 @@ public class RuleContext implements Immutator<RuleContext> {
         Assert.notNull(converterRegistry, "converterRegistry cannot be null.");
         Assert.notNull(clock, "clock cannot be null.");
         Assert.notNull(executorService, "executorService cannot be null.");
+        Assert.notNull(idGenerator, "idGenerator cannot be null.");
+        Assert.notNull(deadline, "deadline cannot be null.");
+        this.id = idGenerator.generate();
+        this.creationTime = new Date();
         this.bindings = bindings;
         this.locale = locale;
         this.matchingStrategy = matchingStrategy;
@@ -89,6 +98,33 @@ public class RuleContext implements Immutator<RuleContext> {
         this.converterRegistry = converterRegistry;
         this.clock = clock;
         this.executorService = executorService;
+        this.idGenerator = idGenerator;
+        this.deadline = deadline;
+        this.conditionCache = conditionCache;
+    }
+
+    // Copy of the given context (same id) with the given bindings, parameter resolver, deadline and condition cache
+    private RuleContext(RuleContext source, ScopedBindings bindings, ParameterResolver parameterResolver,
+                        Deadline deadline, ConditionCache conditionCache) {
+        super();
+        Assert.notNull(parameterResolver, "parameterResolver cannot be null.");
+        Assert.notNull(deadline, "deadline cannot be null.");
+        this.id = source.id;
+        this.creationTime = source.creationTime;
+        this.bindings = bindings;
+        this.locale = source.locale;
+        this.matchingStrategy = source.matchingStrategy;
+        this.parameterResolver = parameterResolver;
+        this.messageFormatter = source.messageFormatter;
+        this.messageResolver = source.messageResolver;
+        this.objectFactory = source.objectFactory;
+        this.tracer = source.tracer;
+        this.converterRegistry = source.converterRegistry;
+        this.clock = source.clock;
+        this.executorService = source.executorService;
+        this.idGenerator = source.idGenerator;
+        this.deadline = deadline;
+        this.conditionCache = conditionCache;
     }
 
     /**
@@ -207,10 +243,66 @@ public class RuleContext implements Immutator<RuleContext> {
         return executorService;
     }
 
+    /**
+     * Get the IdGenerator used to create identifiers for this RuleContext (and its RuleSet scopes).
+     *
+     * @return the IdGenerator linked to this RuleContext
+     */
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    /**
+     * Get the Deadline of this RuleContext. Execution stops once the deadline expires (or is cancelled).
+     *
+     * @return the Deadline linked to this RuleContext; Deadline.none() if there is no deadline.
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Get the ConditionCache used to memoize Condition results during this execution.
+     *
+     * @return the ConditionCache linked to this RuleContext; null if Condition memoization is not enabled.
+     */
+    public ConditionCache getConditionCache() {
+        return conditionCache;
+    }
+
+    /**
+     * Creates a view of this RuleContext (sharing the same Bindings and services) with the given deadline.
+     *
+     * @param deadline desired deadline.
+     * @return RuleContext with the given deadline.
+     */
+    public RuleContext withDeadline(Deadline deadline) {
+        return new RuleContext(this, bindings, parameterResolver, deadline, conditionCache);
+    }
+
+    /**
+     * Creates a view of this RuleContext (sharing the same Bindings and services) with the given ConditionCache.
+     *
+     * @param conditionCache desired ConditionCache; null to disable Condition memoization.
+     * @return RuleContext with the given ConditionCache.
+     */
+    public RuleContext withConditionCache(ConditionCache conditionCache) {
+        return new RuleContext(this, bindings, parameterResolver, deadline, conditionCache);
+    }
+
+    /**
+     * Creates a view of this RuleContext (sharing the same Bindings and services) with the given ParameterResolver.
+     *
+     * @param parameterResolver desired ParameterResolver.
+     * @return RuleContext with the given ParameterResolver.
+     */
+    public RuleContext withParameterResolver(ParameterResolver parameterResolver) {
+        return new RuleContext(this, bindings, parameterResolver, deadline, conditionCache);
+    }
+
     @Override
     public RuleContext asImmutable() {
-        return new RuleContext(bindings.asImmutable(), locale, matchingStrategy, parameterResolver, messageResolver,
-                messageFormatter, objectFactory, tracer, converterRegistry, clock, executorService);
+        return new RuleContext(this, bindings.asImmutable(), parameterResolver, deadline, conditionCache);
     }
 
     @Override
@@ -229,6 +321,9 @@ public class RuleContext implements Immutator<RuleContext> {
                 ", converterRegistry=" + converterRegistry +
                 ", clock=" + clock  +
                 ", executorService=" + executorService +
+                ", idGenerator=" + idGenerator +
+                ", deadline=" + deadline +
+                ", conditionCache=" + conditionCache +
                 '}';
     }
 }
@@ -22,15 +22,16 @@ import org.rulii.bind.match.BindingMatchingStrategy;
 import org.rulii.bind.match.ParameterResolver;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.condition.ConditionCache;
 import org.rulii.text.MessageFormatter;
 import org.rulii.text.MessageResolver;
 import org.rulii.trace.Tracer;
+import org.rulii.util.IdGenerator;
 import org.rulii.util.reflect.ObjectFactory;
 
 import java.time.Clock;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Builder class to properly build a RuleContext with the bells and whistles.
@@ -40,8 +41,6 @@ import java.util.concurrent.Executors;
  */
 public class RuleContextBuilder {
 
-    private static final ExecutorService DEFAULT_EXECUTOR_SERVICE = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
-
     private Bindings bindings;
     private BindingMatchingStrategy matchingStrategy;
     private ParameterResolver parameterResolver;
@@ -52,7 +51,10 @@ public class RuleContextBuilder {
     private Clock clock;
     private Locale locale;
     private Tracer tracer = Tracer.builder().build();
-    private ExecutorService executorService = DEFAULT_EXECUTOR_SERVICE;
+    private ExecutorService executorService = RuleExecutors.shared();
+    private IdGenerator idGenerator = IdGenerator.sequential();
+    private Deadline deadline = Deadline.none();
+    private boolean memoizeConditions = false;
 
     RuleContextBuilder() {
         this(RuleContextOptions.standard());
@@ -76,6 +78,10 @@ public class RuleContextBuilder {
         this.clock = context.getClock();
         this.locale = context.getLocale();
         this.bindings = context.getBindings();
+        this.executorService = context.getExecutorService();
+        this.idGenerator = context.getIdGenerator();
+        this.deadline = context.getDeadline();
+        this.memoizeConditions = context.getConditionCache() != null;
     }
 
     protected void init(RuleContextOptions options) {
@@ -89,6 +95,7 @@ public class RuleContextBuilder {
         this.clock = options.getClock();
         this.locale = options.getLocale();
         this.executorService = options.getExecutorService();
+        this.idGenerator = options.getIdGenerator();
     }
 
     /**
@@ -235,6 +242,43 @@ public class RuleContextBuilder {
         return this;
     }
 
+    /**
+     * Sets the IdGenerator used to create identifiers for the RuleContext and its RuleSet scopes.
+     *
+     * @param idGenerator the IdGenerator to use
+     * @return RuleContextBuilder instance for method chaining
+     */
+    public RuleContextBuilder idGenerator(IdGenerator idGenerator) {
+        Assert.notNull(idGenerator, "idGenerator cannot be null.");
+        this.idGenerator = idGenerator;
+        return this;
+    }
+
+    /**
+     * Sets the Deadline of the RuleContext; execution stops once it expires (or is cancelled).
+     *
+     * @param deadline the Deadline to use
+     * @return RuleContextBuilder instance for method chaining
+     */
+    public RuleContextBuilder deadline(Deadline deadline) {
+        Assert.notNull(deadline, "deadline cannot be null.");
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Enables (or disables) Condition memoization. When enabled, the result of a Condition is reused until one of the
+     * Bindings it reads changes; useful when the same Condition is shared (or re-evaluated) across Rules.
+     *
+     * @param memoizeConditions true to memoize Condition results.
+     * @return RuleContextBuilder instance for method chaining
+     * @see ConditionCache
+     */
+    public RuleContextBuilder memoizeConditions(boolean memoizeConditions) {
+        this.memoizeConditions = memoizeConditions;
+        return this;
+    }
+
     public Bindings getBindings() {
         return bindings;
     }
@@ -279,6 +323,18 @@ public class RuleContextBuilder {
         return executorService;
     }
 
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public boolean isMemoizeConditions() {
+        return memoizeConditions;
+    }
+
     /**
      * Builds and returns a RuleContext instance with the configured settings.
      *
@@ -291,7 +347,8 @@ public class RuleContextBuilder {
 
         RuleContext result  = new RuleContext(scopedBindings, locale, matchingStrategy, parameterResolver,
                 messageResolver, messageFormatter, objectFactory, tracer,
-                converterRegistry, clock, executorService);
+                converterRegistry, clock, executorService, idGenerator, deadline,
+                memoizeConditions ? new ConditionCache() : null);
 
         // Make the Bindings are avail.
         ((PromiscuousBinder) (scopedBindings.getRootScope().getBindings())).promiscuousBind(Binding.builder()
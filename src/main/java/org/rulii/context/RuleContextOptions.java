@@ -22,6 +22,7 @@ import org.rulii.bind.match.ParameterResolver;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.text.MessageFormatter;
 import org.rulii.text.MessageResolver;
+import org.rulii.util.IdGenerator;
 import org.rulii.util.reflect.ObjectFactory;
 
 import java.time.Clock;
@@ -50,6 +51,17 @@ public interface RuleContextOptions {
         return StandardRuleContextOptions.getInstance();
     }
 
+    /**
+     * Standard options that run asynchronous work on the given ExecutorService; ie: {@link RuleExecutors#virtualThreads()}
+     * for rules that block on I/O.
+     *
+     * @param executorService executor to use.
+     * @return standard options using the given executor.
+     */
+    static RuleContextOptions standard(ExecutorService executorService) {
+        return new StandardRuleContextOptions(executorService);
+    }
+
     /**
      * Retrieves the current BindingMatchingStrategy that defines how bindings are
      * matched to specific criteria (e.g., name, type) within the context.
@@ -129,10 +141,21 @@ public interface RuleContextOptions {
     /**
      * Retrieves the ExecutorService instance associated with the current context.
      * The ExecutorService is responsible for managing and executing asynchronous
-     * tasks, enabling multithreaded operations within the framework.
+     * tasks, enabling multithreaded operations within the framework. Defaults to
+     * the shared executor (see {@link RuleExecutors}).
      *
      * @return the ExecutorService used for managing and executing asynchronous tasks.
      */
     ExecutorService getExecutorService();
 
+    /**
+     * Retrieves the IdGenerator used to create identifiers for RuleContexts and RuleSet scopes.
+     * Defaults to a per-JVM sequence which is considerably cheaper than random UUIDs.
+     *
+     * @return the IdGenerator used by the context.
+     */
+    default IdGenerator getIdGenerator() {
+        return IdGenerator.sequential();
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.context;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the ExecutorServices used to run rules asynchronously.
+ *
+ * The shared executor is the default for all RuleContexts. It is created lazily (with daemon threads) and can be
+ * closed at any point; it will be re-created on the next use. The other executors are created per call and are
+ * owned (ie: must be shut down) by the caller.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class RuleExecutors {
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+    private static final SharedExecutorService SHARED = new SharedExecutorService(
+            () -> Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                    daemonThreadFactory("rulii-executor-")));
+
+    private RuleExecutors() {
+        super();
+    }
+
+    /**
+     * Shared (lazily created) default executor. Sized to the number of available processors which suits CPU bound
+     * rules; rules that block (I/O etc) are better off with {@link #virtualThreads()}.
+     *
+     * @return shared executor.
+     */
+    public static SharedExecutorService shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a new executor that starts a new virtual thread per task. Virtual threads require Java 21+; on older
+     * runtimes this falls back to an (unbounded) cached pool of daemon threads which also does not cap blocking rules.
+     *
+     * @return new executor; must be shut down by the caller.
+     */
+    public static ExecutorService virtualThreads() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to create a virtual thread executor.", e);
+            }
+        }
+
+        return Executors.newCachedThreadPool(daemonThreadFactory("rulii-io-"));
+    }
+
+    /**
+     * Creates a new work-stealing pool using all the available processors as its target parallelism.
+     *
+     * @return new executor; must be shut down by the caller.
+     */
+    public static ExecutorService workStealing() {
+        return Executors.newWorkStealingPool();
+    }
+
+    /**
+     * Creates a new work-stealing pool with the given target parallelism.
+     *
+     * @param parallelism target parallelism.
+     * @return new executor; must be shut down by the caller.
+     */
+    public static ExecutorService workStealing(int parallelism) {
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0.");
+        return Executors.newWorkStealingPool(parallelism);
+    }
+
+    /**
+     * Determines whether the current runtime supports virtual threads.
+     *
+     * @return true if virtual threads are supported.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread result = new Thread(runnable, prefix + counter.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        };
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
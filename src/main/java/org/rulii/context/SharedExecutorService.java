@@ -0,0 +1,166 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.context;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ExecutorService that lazily creates its underlying pool on first use. Closing (or shutting down) releases the
+ * underlying pool; a new one is created the next time a task is submitted. This allows the executor to be shared by
+ * all the RuleContexts while still letting the application release the threads (ie: on shutdown or redeploy).
+ *
+ * isShutdown/isTerminated report the state of the current pool or, if there isn't one, of the last released pool
+ * (an executor that was never used is neither). Note that submitting a task after a shutdown is not rejected; it
+ * creates a new pool. awaitTermination waits for all the released pools (not the current one) to terminate.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class SharedExecutorService extends AbstractExecutorService implements AutoCloseable {
+
+    private final Supplier<ExecutorService> factory;
+    private volatile ExecutorService delegate;
+    private volatile ExecutorService closed;
+    // Released pools that may still be running tasks
+    private final List<ExecutorService> released = new ArrayList<>();
+
+    SharedExecutorService(Supplier<ExecutorService> factory) {
+        super();
+        Assert.notNull(factory, "factory cannot be null.");
+        this.factory = factory;
+    }
+
+    /**
+     * Underlying pool; created if needed.
+     *
+     * @return underlying pool.
+     */
+    ExecutorService getDelegate() {
+        ExecutorService result = delegate;
+
+        if (result == null) {
+            synchronized (this) {
+                result = delegate;
+
+                if (result == null) {
+                    result = factory.get();
+                    delegate = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines whether the underlying pool has been created.
+     *
+     * @return true if the pool currently exists.
+     */
+    public boolean isStarted() {
+        return delegate != null;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        getDelegate().execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        ExecutorService current = detach();
+        if (current != null) current.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        ExecutorService current = detach();
+        return current != null ? current.shutdownNow() : Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        ExecutorService current = getCurrent();
+        return current != null && current.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        ExecutorService current = getCurrent();
+        return current != null && current.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        Assert.notNull(unit, "unit cannot be null.");
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<ExecutorService> pools;
+
+        synchronized (this) {
+            released.removeIf(ExecutorService::isTerminated);
+            pools = new ArrayList<>(released);
+        }
+
+        for (ExecutorService pool : pools) {
+            if (!pool.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Shuts down the underlying pool (if one exists); previously submitted tasks are still executed.
+     */
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    private synchronized ExecutorService detach() {
+        ExecutorService result = delegate;
+
+        if (result != null) {
+            delegate = null;
+            closed = result;
+            released.removeIf(ExecutorService::isTerminated);
+            released.add(result);
+        }
+
+        return result;
+    }
+
+    private ExecutorService getCurrent() {
+        ExecutorService result = delegate;
+        return result != null ? result : closed;
+    }
+
+    @Override
+    public String toString() {
+        return "SharedExecutorService{" +
+                "delegate=" + delegate +
+                '}';
+    }
+}
@@ -20,14 +20,15 @@ package org.rulii.context;
 import org.rulii.bind.match.BindingMatchingStrategy;
 import org.rulii.bind.match.ParameterResolver;
 import org.rulii.convert.ConverterRegistry;
+import org.rulii.lib.spring.util.Assert;
 import org.rulii.text.MessageFormatter;
 import org.rulii.text.MessageResolver;
+import org.rulii.util.IdGenerator;
 import org.rulii.util.reflect.ObjectFactory;
 
 import java.time.Clock;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * A standard implementation of the {@link RuleContextOptions} interface,
@@ -45,7 +46,6 @@ import java.util.concurrent.Executors;
  */
 public class StandardRuleContextOptions implements RuleContextOptions {
 
-    private static final ExecutorService DEFAULT_EXECUTOR_SERVICE = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
     private static final StandardRuleContextOptions INSTANCE = new StandardRuleContextOptions();
 
     private final BindingMatchingStrategy matchingStrategy = BindingMatchingStrategy.builder().build();
@@ -56,9 +56,22 @@ public class StandardRuleContextOptions implements RuleContextOptions {
     private final Clock clock = Clock.systemDefaultZone();
     private final Locale locale = Locale.getDefault();
     private final MessageResolver messageResolver = MessageResolver.builder().build();
+    private final IdGenerator idGenerator = IdGenerator.sequential();
+    private final ExecutorService executorService;
 
     public StandardRuleContextOptions() {
+        this(RuleExecutors.shared());
+    }
+
+    /**
+     * Creates standard options that run asynchronous work on the given ExecutorService (see {@link RuleExecutors}).
+     *
+     * @param executorService executor to use.
+     */
+    public StandardRuleContextOptions(ExecutorService executorService) {
         super();
+        Assert.notNull(executorService, "executorService cannot be null.");
+        this.executorService = executorService;
     }
 
     /**
@@ -112,7 +125,12 @@ public class StandardRuleContextOptions implements RuleContextOptions {
 
     @Override
     public ExecutorService getExecutorService() {
-        return DEFAULT_EXECUTOR_SERVICE;
+        return executorService;
+    }
+
+    @Override
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
     }
 
     @Override
@@ -126,6 +144,8 @@ public class StandardRuleContextOptions implements RuleContextOptions {
                 ", clock=" + clock +
                 ", locale=" + locale +
                 ", messageResolver=" + messageResolver +
+                ", idGenerator=" + idGenerator +
+                ", executorService=" + executorService +
                 '}';
     }
 }
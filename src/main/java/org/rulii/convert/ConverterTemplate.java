@@ -17,8 +17,8 @@
  */
 package org.rulii.convert;
 
-import org.rulii.lib.apache.reflect.TypeUtils;
 import org.rulii.lib.spring.util.Assert;
+import org.rulii.util.reflect.AssignabilityCache;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -70,7 +70,7 @@ public abstract class ConverterTemplate<T, R> implements Converter<T, R> {
 
     @Override
     public boolean canConvert(Type sourceType, Type targetType) {
-        return TypeUtils.isAssignable(sourceType, this.sourceType) && TypeUtils.isAssignable(targetType, this.targetType);
+        return AssignabilityCache.isAssignable(sourceType, this.sourceType) && AssignabilityCache.isAssignable(targetType, this.targetType);
     }
 
     protected Type captureType(int index) {
@@ -21,11 +21,13 @@ import org.rulii.lib.spring.util.Assert;
 import org.rulii.lib.spring.core.annotation.AnnotationUtils;
 import org.rulii.annotation.Param;
 import org.rulii.lib.apache.StringUtils;
+import org.rulii.util.reflect.GeneratedRuleMetadataRegistry;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.function.Supplier;
 
 /**
  * Discovers parameter names using the following logic.
@@ -33,6 +35,7 @@ import java.lang.reflect.Parameter;
  * If the parameter has the <code>@Param</code>then it is used to getBinding the name
  * Uses standard Java 8 reflection to retrieve the parameter name. The compiler must be told to store the parameter information
  * for this tactic to work. Please use -parameters option during compilation.
+ * Uses the parameter names recorded by the compile time generated metadata (rulii-processor) if present.
  * Uses byte code inspection to retrieve the name. This will work any concrete classes (ie: not generated at runtime)
  * that sit in the CLASSPATH.
  *
@@ -47,8 +50,6 @@ public class DefaultParameterNameDiscoverer implements ParameterNameDiscoverer {
 
     private final ParameterNameDiscoverer bytecodeParameterNameDiscoverer = new LocalVariableTableParameterNameDiscoverer();
 
-    // TODO : Add Cache
-
     /**
      * Default Ctor
      */
@@ -59,26 +60,31 @@ public class DefaultParameterNameDiscoverer implements ParameterNameDiscoverer {
     @Override
     public String[] getParameterNames(Method method) {
         Assert.notNull(method, "method cannot be null.");
-        return getParameterNames(method, bytecodeParameterNameDiscoverer.getParameterNames(method));
+        return getParameterNames(method, () -> {
+            // Prefer the names generated at compile time (rulii-processor) over reading the bytecode
+            String[] result = GeneratedRuleMetadataRegistry.getParameterNames(method);
+            return result != null ? result : bytecodeParameterNameDiscoverer.getParameterNames(method);
+        });
     }
 
     @Override
     public String[] getParameterNames(Constructor<?> ctor) {
         Assert.notNull(ctor, "ctor cannot be null.");
-        return getParameterNames(ctor, bytecodeParameterNameDiscoverer.getParameterNames(ctor));
+        return getParameterNames(ctor, () -> bytecodeParameterNameDiscoverer.getParameterNames(ctor));
     }
 
     /**
      * See logic defined at the class level.
      *
      * @param executable method or ctor
-     * @param names names from bytecode
+     * @param namesSupplier names from generated metadata/bytecode (only loaded if needed)
      * @return parameter names
      */
-    private String[] getParameterNames(Executable executable, String[] names) {
+    private String[] getParameterNames(Executable executable, Supplier<String[]> namesSupplier) {
         Parameter[] parameters = executable.getParameters();
         String[] result = new String[parameters.length];
-        boolean namesAvail = names != null && names.length  == parameters.length;
+        String[] names = null;
+        boolean namesLoaded = false;
 
         for (int i = 0; i < parameters.length; i++) {
             Param param = AnnotationUtils.getAnnotation(parameters[i], Param.class);
@@ -88,7 +94,12 @@ public class DefaultParameterNameDiscoverer implements ParameterNameDiscoverer {
             } else if (parameters[i].isNamePresent()) {
                 result[i] = parameters[i].getName();
             } else {
-                if (namesAvail && StringUtils.isNotEmpty(names[i])) {
+                if (!namesLoaded) {
+                    names = namesSupplier.get();
+                    namesLoaded = true;
+                }
+
+                if (names != null && names.length == parameters.length && StringUtils.isNotEmpty(names[i])) {
                     result[i] = names[i];
                 } else {
                     result[i] = parameters[i].getName();
@@ -0,0 +1,63 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.model;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache of the definitions (per Method) shared by MethodDefinition, ParameterDefinition and ReturnTypeDefinition.
+ *
+ * The lock only guards the map operations; definitions are loaded outside of it so that Rules can be built
+ * concurrently. A Method may therefore be loaded more than once; the first definition stored is kept and returned to
+ * all the callers.
+ *
+ * @param <T> definition type.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class DefinitionCache<T> {
+
+    private final Map<Method, T> cache = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    DefinitionCache() {
+        super();
+    }
+
+    /**
+     * Retrieves the definition of the given method; loading it if it's not cached yet.
+     *
+     * @param method desired method.
+     * @param loader loads the definition.
+     * @return cached definition.
+     */
+    T get(Method method, Function<Method, T> loader) {
+        Assert.notNull(method, "method cannot be null.");
+        T result = cache.get(method);
+        if (result != null) return result;
+        result = loader.apply(method);
+        T existing = cache.putIfAbsent(method, result);
+        return existing != null ? existing : result;
+    }
+}
@@ -18,13 +18,18 @@
 package org.rulii.model;
 
 import org.rulii.annotation.Description;
+import org.rulii.bind.BindingsLayout;
+import org.rulii.bind.match.BindingPlan;
 import org.rulii.lib.spring.util.Assert;
+import org.rulii.util.reflect.GeneratedRuleMetadata;
+import org.rulii.util.reflect.GeneratedRuleMetadataRegistry;
 import org.rulii.util.reflect.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -39,7 +44,9 @@ import java.util.stream.IntStream;
  */
 public final class MethodDefinition implements Definition {
 
-    private static final Map<Method, MethodDefinition> CACHE = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final DefinitionCache<MethodDefinition> CACHE = new DefinitionCache<>();
+    // Maximum number of Binding Plans kept per method
+    private static final int MAX_BINDING_PLANS = 16;
 
     private final Method method;
     // Determines whether this method parameters contain generic info
@@ -55,6 +62,8 @@ public final class MethodDefinition implements Definition {
     private String description;
     // Return type of the method
     private Type returnType;
+    // Parameter matches per Bindings layout (used by the ParameterResolver)
+    private final Map<BindingsLayout, BindingPlan> bindingPlans = new ConcurrentHashMap<>();
 
     public MethodDefinition(Method method, boolean containsGenericInfo, String description,
                             SourceDefinition sourceDefinition,
@@ -109,18 +118,24 @@ public final class MethodDefinition implements Definition {
 
     public static MethodDefinition load(Method method, boolean containsGenericInfo, SourceDefinition sourceDefinition) {
         Assert.notNull(method, "method cannot be null.");
-        return CACHE.computeIfAbsent(method, m -> loadInternal(m, containsGenericInfo, sourceDefinition));
+        return CACHE.get(method, m -> loadInternal(m, containsGenericInfo, sourceDefinition));
     }
 
     private static MethodDefinition loadInternal(Method method, boolean containsGenericInfo, SourceDefinition sourceDefinition) {
         Assert.notNull(method, "method cannot be null");
-        Description descriptionAnnotation = method.getAnnotation(Description.class);
-        return new MethodDefinition(method, containsGenericInfo,
-                descriptionAnnotation != null ? descriptionAnnotation.value() : null, sourceDefinition,
+        return new MethodDefinition(method, containsGenericInfo, getDescription(method), sourceDefinition,
                 ReturnTypeDefinition.load(method, sourceDefinition),
                 ParameterDefinition.load(method, containsGenericInfo, sourceDefinition));
     }
 
+    private static String getDescription(Method method) {
+        // Use the compile time generated metadata (if available)
+        GeneratedRuleMetadata.MethodMetadata generated = GeneratedRuleMetadataRegistry.getMethodMetadata(method);
+        if (generated != null) return generated.description();
+        Description descriptionAnnotation = method.getAnnotation(Description.class);
+        return descriptionAnnotation != null ? descriptionAnnotation.value() : null;
+    }
+
     /**
      * Reflective method behind the Method Definition.
      *
@@ -242,6 +257,29 @@ public final class MethodDefinition implements Definition {
         this.returnType = returnType;
     }
 
+    /**
+     * Binding Plan created for the given Bindings layout (if any).
+     *
+     * @param layout Bindings layout.
+     * @return binding plan; can be null.
+     */
+    public BindingPlan getBindingPlan(BindingsLayout layout) {
+        Assert.notNull(layout, "layout cannot be null.");
+        return bindingPlans.get(layout);
+    }
+
+    /**
+     * Stores the Binding Plan so that subsequent calls against Bindings with the same layout can skip matching. Only a
+     * handful of layouts are kept; the plans are discarded once there are too many.
+     *
+     * @param bindingPlan binding plan.
+     */
+    public void addBindingPlan(BindingPlan bindingPlan) {
+        Assert.notNull(bindingPlan, "bindingPlan cannot be null.");
+        if (bindingPlans.size() >= MAX_BINDING_PLANS) bindingPlans.clear();
+        bindingPlans.put(bindingPlan.getLayout(), bindingPlan);
+    }
+
     @Override
     public SourceDefinition getSource() {
         return sourceDefinition;
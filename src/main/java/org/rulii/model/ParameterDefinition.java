@@ -24,6 +24,8 @@ import org.rulii.convert.Converter;
 import org.rulii.lib.spring.core.annotation.AnnotationUtils;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.util.RuleUtils;
+import org.rulii.util.reflect.GeneratedRuleMetadata;
+import org.rulii.util.reflect.GeneratedRuleMetadataRegistry;
 import org.rulii.util.reflect.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
@@ -46,7 +48,7 @@ import java.util.*;
  */
 public final class ParameterDefinition implements Definition {
 
-    private static final Map<Method, List<ParameterDefinition>> CACHE = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final DefinitionCache<List<ParameterDefinition>> CACHE = new DefinitionCache<>();
 
     private final int index;
     private String name;
@@ -105,7 +107,7 @@ public final class ParameterDefinition implements Definition {
 
     public static List<ParameterDefinition> load(Method method, boolean containsGenericInfo, SourceDefinition sourceDefinition) {
         Assert.notNull(method, "method cannot be null.");
-        return CACHE.computeIfAbsent(method, m -> loadInternal(m, containsGenericInfo, sourceDefinition));
+        return CACHE.get(method, m -> loadInternal(m, containsGenericInfo, sourceDefinition));
     }
 
     /**
@@ -116,6 +118,10 @@ public final class ParameterDefinition implements Definition {
      * @return all the parameter definitions for the given method.
      */
     private static List<ParameterDefinition> loadInternal(Method method, boolean containsGenericInfo, SourceDefinition sourceDefinition) {
+        // Use the compile time generated metadata (if available)
+        GeneratedRuleMetadata.MethodMetadata generated = GeneratedRuleMetadataRegistry.getMethodMetadata(method);
+        if (generated != null) return loadGenerated(method, generated, containsGenericInfo, sourceDefinition);
+
         String[] parameterNames = ReflectionUtils.getParameterNames(method);
         Assert.isTrue(parameterNames.length == method.getParameterTypes().length,
                 "parameterNames length does not match parameter types length");
@@ -134,6 +140,35 @@ public final class ParameterDefinition implements Definition {
         return Collections.unmodifiableList(Arrays.asList(result));
     }
 
+    private static List<ParameterDefinition> loadGenerated(Method method, GeneratedRuleMetadata.MethodMetadata generated,
+                                                           boolean containsGenericInfo, SourceDefinition sourceDefinition) {
+        ParameterDefinition[] result = new ParameterDefinition[method.getParameterCount()];
+
+        for (int i = 0; i < result.length; i++) {
+            GeneratedRuleMetadata.ParameterMetadata parameter = generated.parameters().get(i);
+            result[i] = new ParameterDefinition(i, parameter.name(), method.getGenericParameterTypes()[i],
+                    method.getAnnotatedParameterTypes()[i], containsGenericInfo, parameter.description(),
+                    parameter.defaultValue(), getMatchUsing(method, parameter.matchUsing()), sourceDefinition,
+                    Arrays.asList(method.getParameterAnnotations()[i]));
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends BindingMatchingStrategy> getMatchUsing(Method method, String className) {
+        if (className == null) return null;
+
+        try {
+            Class<?> result = Class.forName(className, false, method.getDeclaringClass().getClassLoader());
+            Assert.isTrue(BindingMatchingStrategy.class.isAssignableFrom(result), "matchUsing [" + className
+                    + "] must be a BindingMatchingStrategy.");
+            return (Class<? extends BindingMatchingStrategy>) result;
+        } catch (ClassNotFoundException e) {
+            throw new UnrulyException("Unable to load matchUsing class [" + className + "] of method [" + method + "]", e);
+        }
+    }
+
     private static String getDefaultValueText(Param param) {
         if (param == null) return null;
         return !Param.NOT_APPLICABLE.equals(param.defaultValue()) ? param.defaultValue() : null;
@@ -17,9 +17,9 @@
  */
 package org.rulii.model;
 
-import org.rulii.lib.apache.reflect.TypeUtils;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.bind.match.ParameterMatch;
+import org.rulii.util.reflect.AssignabilityCache;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -72,7 +72,7 @@ public class ParameterMismatchException extends UnrulyException {
         for (int i = 0; i < size; i++) {
             if (i > args.size()-1 || args.get(i) == null || matches.get(i) == null || !matches.get(i).isMatched()) continue;
 
-            if (!TypeUtils.isAssignable(args.get(i).getClass(), matches.get(i).getDefinition().getType())) {
+            if (!AssignabilityCache.isAssignable(args.get(i).getClass(), matches.get(i).getDefinition().getType())) {
                 result.append("\tparameter mismatch [" + matches.get(i).getDefinition().getTypeAndName()
                         + "] would not accept [" + args.get(i).getClass().getSimpleName() + " " + args.get(i)
                         + "] Matched Binding [" + matches.get(i).getBinding() + "] "
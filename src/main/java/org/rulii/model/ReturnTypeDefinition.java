@@ -24,13 +24,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.IdentityHashMap;
-import java.util.Map;
 
 public class ReturnTypeDefinition implements Definition {
 
-    private static final Map<Method, ReturnTypeDefinition> CACHE = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final DefinitionCache<ReturnTypeDefinition> CACHE = new DefinitionCache<>();
 
     private final String description;
     private final Type type;
@@ -50,7 +47,7 @@ public class ReturnTypeDefinition implements Definition {
 
     public static ReturnTypeDefinition load(Method method, SourceDefinition sourceDefinition) {
         Assert.notNull(method, "method cannot be null.");
-        return CACHE.computeIfAbsent(method, m -> loadInternal(m, sourceDefinition));
+        return CACHE.get(method, m -> loadInternal(m, sourceDefinition));
     }
 
     private static ReturnTypeDefinition loadInternal(Method method, SourceDefinition sourceDefinition) {
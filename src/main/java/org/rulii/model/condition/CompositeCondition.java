@@ -17,6 +17,8 @@
  */
 package org.rulii.model.condition;
 
+import java.util.List;
+
 /**
  * Composite Condition provides the ability to chain conditions. Such as AND, OR, XOR etc.
  *
@@ -46,4 +48,12 @@ public interface CompositeCondition extends Condition {
      */
     Condition getRightOperand();
 
+    /**
+     * All the operands of the composite condition in evaluation order.
+     *
+     * @return operands.
+     */
+    default List<Condition> getOperands() {
+        return List.of(getLeftOperand(), getRightOperand());
+    }
 }
@@ -78,7 +78,7 @@ public interface Condition extends Runnable<Boolean> {
      * @return new AND condition.
      */
     default CompositeCondition and(Condition condition) {
-        return new DefaultCompositeCondition(this, condition, "&&", (a, b) -> a && b);
+        return ShortCircuitCompositeCondition.create(LogicalOperator.AND, this, condition);
     }
 
     /**
@@ -88,7 +88,7 @@ public interface Condition extends Runnable<Boolean> {
      * @return new OR condition.
      */
     default CompositeCondition or(Condition condition) {
-        return new DefaultCompositeCondition(this, condition, "||", (a, b) -> a || b);
+        return ShortCircuitCompositeCondition.create(LogicalOperator.OR, this, condition);
     }
 
     /**
@@ -98,7 +98,7 @@ public interface Condition extends Runnable<Boolean> {
      * @return new XOR condition.
      */
     default CompositeCondition xor(Condition condition) {
-        return new DefaultCompositeCondition(this, condition, "^", (a, b) -> a ^ b);
+        return ShortCircuitCompositeCondition.create(LogicalOperator.XOR, this, condition);
     }
 
     /**
@@ -0,0 +1,253 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.model.condition;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.BindingValueListener;
+import org.rulii.bind.DefaultBinding;
+import org.rulii.bind.ImmutableBinding;
+import org.rulii.bind.ReservedBindings;
+import org.rulii.bind.match.ParameterMatch;
+import org.rulii.lib.spring.util.Assert;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoizes Condition results for the duration of a single execution (see RuleContextBuilder.memoizeConditions).
+ *
+ * Results are keyed by the Condition (identity; or its canonical Condition) and the Bindings (identity) that were
+ * matched to its parameters. The
+ * cache registers itself as a BindingValueListener on each Binding it depends on and drops the dependent results as
+ * soon as the Binding's value changes. Changes made inside a value (ie: a mutable fact) are not visible to the cache.
+ *
+ * A result is only memoized if all the matched Bindings are plain DefaultBindings; supplied/delegating Bindings (which
+ * can change without notifying listeners) and the reserved Bindings (RuleContext, Bindings etc) are never cached.
+ *
+ * The RuleSet and Rule execution strategies clear the cache (and detach it from the Bindings) once the outermost
+ * execution completes. Conditions that are run directly (ie: Condition.isTrue) outside of such an execution keep
+ * their results, and the listeners on the Bindings, until clear() is called.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class ConditionCache implements BindingValueListener {
+
+    // Placeholder for a result that is being computed; replaced with the result unless invalidated in the meantime.
+    private static final Object PENDING = new Object();
+
+    private final Map<Key, Object> results = new ConcurrentHashMap<>();
+    private final Map<Binding<?>, Set<Key>> dependents = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final UnaryOperator<Condition> canonicalizer;
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ConditionCache() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a ConditionCache that shares results between structurally identical Conditions. The canonicalizer maps
+     * each Condition to the (canonical) Condition its results are stored under.
+     *
+     * @param canonicalizer maps a Condition to its canonical Condition.
+     */
+    public ConditionCache(UnaryOperator<Condition> canonicalizer) {
+        super();
+        Assert.notNull(canonicalizer, "canonicalizer cannot be null.");
+        this.canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Creates the key for the given condition and its parameter matches.
+     *
+     * @param condition condition being run.
+     * @param matches parameter matches of the condition.
+     * @return key; null if the result of the condition cannot be memoized.
+     */
+    Key key(Condition condition, List<ParameterMatch> matches) {
+        Binding<?>[] bindings = new Binding<?>[matches.size()];
+
+        for (int i = 0; i < bindings.length; i++) {
+            Binding<?> binding = matches.get(i).getBinding();
+            // Default values are constants
+            if (binding == null) continue;
+            // Immutable views are snapshots taken on demand; the source Binding is the one that changes
+            if (binding instanceof ImmutableBinding<?> immutable) binding = immutable.getSource();
+            if (binding.getClass() != DefaultBinding.class || ReservedBindings.isReserved(binding.getName())) return null;
+            bindings[i] = binding;
+        }
+
+        return new Key(canonicalizer.apply(condition), bindings);
+    }
+
+    /**
+     * Retrieves the memoized result. On a miss the key is registered against its Bindings so that a change made while
+     * the condition is being evaluated also invalidates the result being computed.
+     *
+     * @param key condition key.
+     * @return memoized result; null if there isn't one.
+     */
+    Boolean get(Key key) {
+        Object result = results.putIfAbsent(key, PENDING);
+
+        if (result instanceof Boolean value) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+
+        for (Binding<?> binding : key.bindings) {
+            if (binding == null) continue;
+            dependents.computeIfAbsent(binding, b -> {
+                b.addValueListener(this);
+                return ConcurrentHashMap.newKeySet();
+            }).add(key);
+        }
+
+        return null;
+    }
+
+    /**
+     * Memoizes the result of the condition, unless one of its Bindings changed since the call to get.
+     *
+     * @param key condition key.
+     * @param result result of the condition.
+     */
+    void put(Key key, Boolean result) {
+        results.replace(key, PENDING, result);
+    }
+
+    @Override
+    public void onChange(Binding<?> binding, Object oldValue, Object newValue) {
+        Set<Key> keys = dependents.get(binding);
+        if (keys == null) return;
+
+        for (Key key : keys) {
+            results.remove(key);
+        }
+    }
+
+    /**
+     * Marks the start of an execution (ie: a RuleSet run). Nested executions share the same results.
+     */
+    public void enter() {
+        depth.incrementAndGet();
+    }
+
+    /**
+     * Marks the end of an execution. The cache is cleared once the outermost execution completes.
+     */
+    public void exit() {
+        if (depth.decrementAndGet() == 0) clear();
+    }
+
+    /**
+     * Removes all the memoized results and detaches the cache from the Bindings it was listening to.
+     */
+    public void clear() {
+        synchronized (dependents) {
+            for (Binding<?> binding : dependents.keySet()) {
+                binding.removeValueListener(this);
+            }
+
+            dependents.clear();
+        }
+
+        results.clear();
+    }
+
+    /**
+     * Number of memoized results.
+     *
+     * @return memoized result count.
+     */
+    public int size() {
+        return (int) results.values().stream().filter(value -> value != PENDING).count();
+    }
+
+    /**
+     * Number of times a memoized result was returned.
+     *
+     * @return hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a condition had to be evaluated.
+     *
+     * @return miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionCache{" +
+                "size=" + size() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                '}';
+    }
+
+    static final class Key {
+
+        private final Condition condition;
+        private final Binding<?>[] bindings;
+        private final int hash;
+
+        private Key(Condition condition, Binding<?>[] bindings) {
+            super();
+            this.condition = condition;
+            this.bindings = bindings;
+            int result = System.identityHashCode(condition);
+            for (Binding<?> binding : bindings) result = 31 * result + System.identityHashCode(binding);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            if (condition != other.condition || bindings.length != other.bindings.length) return false;
+
+            for (int i = 0; i < bindings.length; i++) {
+                if (bindings[i] != other.bindings[i]) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
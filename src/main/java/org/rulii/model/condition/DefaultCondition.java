@@ -51,6 +51,15 @@ public class DefaultCondition extends AbstractRunnable implements Condition {
             // match the parameters with bindings
             matches = ruleContext.getParameterResolver().match(getDefinition(), ruleContext.getBindings(),
                     ruleContext.getMatchingStrategy(), ruleContext.getObjectFactory());
+            // return the memoized result (if any)
+            ConditionCache cache = ruleContext.getConditionCache();
+            ConditionCache.Key key = cache != null ? cache.key(this, matches) : null;
+
+            if (key != null) {
+                Boolean cached = cache.get(key);
+                if (cached != null) return cached;
+            }
+
             // resolve parameter values
             values = ruleContext.getParameterResolver().resolve(matches, getDefinition(), ruleContext.getBindings(),
                     ruleContext.getMatchingStrategy(), ruleContext.getConverterRegistry(), ruleContext.getObjectFactory());
@@ -60,6 +69,7 @@ public class DefaultCondition extends AbstractRunnable implements Condition {
             if (result == null) throw new UnrulyException("Condition excepts a boolean return type. Actual [null]");
             if (!(result instanceof Boolean)) throw new UnrulyException("Condition expects a boolean return type. " +
                     "Actual [" + result.getClass().getSimpleName() + "]");
+            if (key != null) cache.put(key, (Boolean) result);
             // audit post
             return (Boolean) result;
         } catch (Exception e) {
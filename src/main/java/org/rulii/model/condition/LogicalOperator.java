@@ -0,0 +1,53 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.model.condition;
+
+/**
+ * Logical operators supported by the short-circuiting composite conditions. All of them are associative which allows
+ * chains such as a.and(b).and(c) to be flattened into a single n-ary node.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see ShortCircuitCompositeCondition
+ */
+public enum LogicalOperator {
+
+    // true only if all the operands are true; stops at the first false.
+    AND("&&"),
+
+    // true if any of the operands is true; stops at the first true.
+    OR("||"),
+
+    // true if an odd number of operands are true; all operands must be evaluated.
+    XOR("^");
+
+    private final String symbol;
+
+    LogicalOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Textual representation of the operator.
+     *
+     * @return operator symbol.
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+}
@@ -50,6 +50,16 @@ public class NotCondition implements Condition {
         }
     }
 
+    /**
+     * Double negation; returns the original condition instead of wrapping it again.
+     *
+     * @return the negated condition.
+     */
+    @Override
+    public Condition not() {
+        return condition;
+    }
+
     @Override
     public String getName() {
         return "!";
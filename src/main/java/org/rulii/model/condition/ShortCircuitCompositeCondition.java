@@ -0,0 +1,181 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.model.condition;
+
+import org.rulii.context.RuleContext;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * N-ary Composite Condition that stops evaluating its operands as soon as the result is known. AND stops at the first
+ * false operand and OR stops at the first true operand. XOR cannot short-circuit but still benefits from flattening.
+ *
+ * Nested composites using the same operator are flattened into a single node; ie: a.and(b).and(c) results in a single
+ * (a &amp;&amp; b &amp;&amp; c) node rather than ((a &amp;&amp; b) &amp;&amp; c). This is safe as all the supported operators
+ * are associative.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see LogicalOperator
+ */
+public class ShortCircuitCompositeCondition implements CompositeCondition {
+
+    private final LogicalOperator operator;
+    private final Condition[] operands;
+
+    public ShortCircuitCompositeCondition(LogicalOperator operator, Condition...operands) {
+        super();
+        Assert.notNull(operator, "operator cannot be null.");
+        Assert.notNull(operands, "operands cannot be null.");
+        Assert.isTrue(operands.length > 1, "ShortCircuitCompositeCondition takes in at least 2 operands.");
+        Assert.noNullElements(operands, "operands cannot contain null elements.");
+        this.operator = operator;
+        this.operands = operands.clone();
+    }
+
+    /**
+     * Creates a new composite of the given operands. Any operand that is itself a ShortCircuitCompositeCondition with
+     * the same operator is flattened into the new node.
+     *
+     * @param operator desired logical operator.
+     * @param left left side operand.
+     * @param right right side operand.
+     * @return new (flattened) composite condition.
+     */
+    public static ShortCircuitCompositeCondition create(LogicalOperator operator, Condition left, Condition right) {
+        Assert.notNull(operator, "operator cannot be null.");
+        Assert.notNull(left, "left cannot be null.");
+        Assert.notNull(right, "right cannot be null.");
+        List<Condition> result = new ArrayList<>();
+        flatten(operator, left, result);
+        flatten(operator, right, result);
+        return new ShortCircuitCompositeCondition(operator, result.toArray(new Condition[0]));
+    }
+
+    private static void flatten(LogicalOperator operator, Condition condition, List<Condition> result) {
+        if (condition instanceof ShortCircuitCompositeCondition composite && composite.operator == operator) {
+            result.addAll(Arrays.asList(composite.operands));
+        } else {
+            result.add(condition);
+        }
+    }
+
+    @Override
+    public Boolean run(RuleContext context) throws UnrulyException {
+        try {
+            return switch (operator) {
+                case AND -> and(context);
+                case OR -> or(context);
+                case XOR -> xor(context);
+            };
+        } catch (Exception e) {
+            throw new UnrulyException("Unable to run Composite Condition.", e);
+        }
+    }
+
+    private boolean and(RuleContext context) {
+        for (Condition operand : operands) {
+            if (!operand.isTrue(context)) return false;
+        }
+
+        return true;
+    }
+
+    private boolean or(RuleContext context) {
+        for (Condition operand : operands) {
+            if (operand.isTrue(context)) return true;
+        }
+
+        return false;
+    }
+
+    private boolean xor(RuleContext context) {
+        boolean result = false;
+
+        for (Condition operand : operands) {
+            result ^= operand.isTrue(context);
+        }
+
+        return result;
+    }
+
+    /**
+     * Logical operator used by this composite.
+     *
+     * @return logical operator.
+     */
+    public LogicalOperator getOperator() {
+        return operator;
+    }
+
+    @Override
+    public List<Condition> getOperands() {
+        return Collections.unmodifiableList(Arrays.asList(operands));
+    }
+
+    @Override
+    public Condition getLeftOperand() {
+        return operands[0];
+    }
+
+    /**
+     * Right side of the composite condition. If this composite has more than two operands then the remaining operands
+     * are returned as a composite of their own.
+     *
+     * @return right side condition.
+     */
+    @Override
+    public Condition getRightOperand() {
+        return operands.length == 2
+                ? operands[1]
+                : new ShortCircuitCompositeCondition(operator, Arrays.copyOfRange(operands, 1, operands.length));
+    }
+
+    @Override
+    public String getSymbol() {
+        return operator.getSymbol();
+    }
+
+    @Override
+    public String getName() {
+        return getSymbol();
+    }
+
+    @Override
+    public String getDescription() {
+        StringBuilder result = new StringBuilder("(");
+
+        for (int i = 0; i < operands.length; i++) {
+            if (i > 0) result.append(" ").append(getSymbol()).append(" ");
+            result.append(operands[i].getDescription());
+        }
+
+        result.append(")");
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
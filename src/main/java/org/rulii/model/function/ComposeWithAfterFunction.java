@@ -22,8 +22,6 @@ import org.rulii.context.RuleContext;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
 
-import java.util.UUID;
-
 /**
  * Represents a composed function that applies a "after" function to the result
  * of the main function.
@@ -61,7 +59,7 @@ public class ComposeWithAfterFunction<V, T> implements Function<T> {
      */
     @Override
     public T run(RuleContext ruleContext) throws UnrulyException {
-        NamedScope scope = ruleContext.getBindings().addScope(getName() + "-" + UUID.randomUUID());
+        NamedScope scope = ruleContext.getBindings().addScope();
 
         try {
             V value = mainFunction.apply(ruleContext);
@@ -22,8 +22,6 @@ import org.rulii.context.RuleContext;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
 
-import java.util.UUID;
-
 /**
  * Represents a function that applies a before function to the input and then executes a main function.
  *
@@ -59,7 +57,7 @@ public class ComposeWithBeforeFunction<V, T> implements Function<T> {
     @Override
     public T run(RuleContext ruleContext) throws UnrulyException {
         V value = before.apply(ruleContext);
-        NamedScope scope = ruleContext.getBindings().addScope(getName() + "-" + UUID.randomUUID());
+        NamedScope scope = ruleContext.getBindings().addScope();
 
         try {
             scope.getBindings().bind(resultBindingName, value);
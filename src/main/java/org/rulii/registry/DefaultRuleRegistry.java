@@ -22,14 +22,14 @@ import org.rulii.lib.apache.commons.logging.Log;
 import org.rulii.lib.apache.commons.logging.LogFactory;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.Runnable;
+import org.rulii.model.UnrulyException;
 import org.rulii.rule.Rule;
 import org.rulii.ruleset.RuleSet;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Default implementation of the RuleRegistry interface that manages rules and rule sets.
@@ -42,7 +42,11 @@ public class DefaultRuleRegistry implements MutableRuleRegistry {
 
     private static final Log logger = LogFactory.getLog(DefaultRuleRegistry.class);
 
-    private final Map<String, Runnable<?>> registry = new ConcurrentHashMap<>();
+    // Registrations are serialized; bulk registrations publish a new map so they become visible all at once
+    private volatile Map<String, Runnable<?>> registry = new ConcurrentHashMap<>();
+    // Incremented on every registration; stale lookups are rebuilt
+    private volatile long modCount = 0;
+    private volatile Lookup lookup;
 
     public DefaultRuleRegistry() {
         super();
@@ -66,6 +70,18 @@ public class DefaultRuleRegistry implements MutableRuleRegistry {
         return filter(Rule.class);
     }
 
+    @Override
+    public <T> List<Rule> getRule(Class<T> ruleClass) {
+        Assert.notNull(ruleClass, "ruleClass cannot be null.");
+        return getLookup().rulesByClass.getOrDefault(ruleClass, List.of());
+    }
+
+    @Override
+    public List<Rule> getRulesInPackage(String packageName) {
+        Assert.hasText(packageName, "packageName cannot be empty/null.");
+        return getLookup().rulesByPackage.getOrDefault(packageName, List.of());
+    }
+
     @SuppressWarnings("rawtypes")
     @Override
     public List<RuleSet> getRuleSets() {
@@ -78,20 +94,124 @@ public class DefaultRuleRegistry implements MutableRuleRegistry {
     }
 
     @Override
-    public void register(Runnable<?> r) {
+    public synchronized void register(Runnable<?> r) {
         Assert.notNull(r, "r cannot be null.");
 
-        if (isNameInUse(r.getName())) {
+        if (registry.putIfAbsent(r.getName(), r) != null) {
             throw new AlreadyRegisteredException(r.getName(), r);
         }
 
-        registry.putIfAbsent(r.getName(), r);
+        modCount++;
 
         if (logger.isDebugEnabled()) {
             logger.debug("Runnable [" + r.getClass().getSimpleName() + "] Registered as [" + r.getName() + "]");
         }
     }
 
+    /**
+     * Registers all the given Runnables at once; readers either see none or all of them. Nothing is registered if any
+     * of the names is already in use (or used more than once).
+     *
+     * @param runnables Runnables to register.
+     * @throws AlreadyRegisteredException if any of the names is already in use.
+     */
+    public synchronized void registerAll(Collection<? extends Runnable<?>> runnables) {
+        Assert.notNull(runnables, "runnables cannot be null.");
+        Map<String, Runnable<?>> result = new ConcurrentHashMap<>(registry);
+
+        for (Runnable<?> r : runnables) {
+            Assert.notNull(r, "runnables cannot contain null elements.");
+            if (result.putIfAbsent(r.getName(), r) != null) throw new AlreadyRegisteredException(r.getName(), r);
+        }
+
+        // Publish
+        this.registry = result;
+        modCount++;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Registered [" + runnables.size() + "] Runnables.");
+        }
+    }
+
+    /**
+     * Builds Rules out of the given Rule classes in parallel (using the common ForkJoinPool) and registers them all at
+     * once.
+     *
+     * @param ruleClasses Rule classes.
+     * @return loaded Rules (in the order of the given classes).
+     * @throws UnrulyException if any of the Rules cannot be built; nothing is registered.
+     * @throws AlreadyRegisteredException if any of the Rule names is already in use; nothing is registered.
+     */
+    public List<Rule> load(Collection<? extends Class<?>> ruleClasses) {
+        return load(ruleClasses, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds Rules out of the given Rule classes in parallel (using the given ForkJoinPool) and registers them all at
+     * once.
+     *
+     * @param ruleClasses Rule classes.
+     * @param pool pool used to build the Rules.
+     * @return loaded Rules (in the order of the given classes).
+     * @throws UnrulyException if any of the Rules cannot be built; nothing is registered.
+     * @throws AlreadyRegisteredException if any of the Rule names is already in use; nothing is registered.
+     */
+    public List<Rule> load(Collection<? extends Class<?>> ruleClasses, ForkJoinPool pool) {
+        Assert.notNull(ruleClasses, "ruleClasses cannot be null.");
+        Assert.notNull(pool, "pool cannot be null.");
+        List<ForkJoinTask<Rule>> tasks = new ArrayList<>(ruleClasses.size());
+
+        for (Class<?> ruleClass : ruleClasses) {
+            Assert.notNull(ruleClass, "ruleClasses cannot contain null elements.");
+            tasks.add(pool.submit(() -> buildRule(ruleClass)));
+        }
+
+        List<Rule> result = new ArrayList<>(tasks.size());
+
+        try {
+            for (ForkJoinTask<Rule> task : tasks) {
+                result.add(task.join());
+            }
+        } catch (RuntimeException e) {
+            // No point building the rest
+            tasks.forEach(task -> task.cancel(false));
+            throw e;
+        }
+
+        registerAll(result);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Loads (see load) the @Rule classes listed in the build time generated index (see RuleIndex) that belong to any
+     * of the given packages. The classpath is not scanned.
+     *
+     * @param packageNames desired packages; all the indexed Rules if none are given.
+     * @return loaded Rules.
+     * @throws UnrulyException if any of the Rules cannot be built; nothing is registered.
+     * @throws AlreadyRegisteredException if any of the Rule names is already in use; nothing is registered.
+     */
+    public List<Rule> loadIndexed(String...packageNames) {
+        return load(RuleIndex.load().getRuleClasses(packageNames));
+    }
+
+    private static Rule buildRule(Class<?> ruleClass) {
+        try {
+            return Rule.builder().build(ruleClass);
+        } catch (RuntimeException e) {
+            throw new UnrulyException("Unable to load Rule class [" + ruleClass.getName() + "]", e);
+        }
+    }
+
+    private Lookup getLookup() {
+        long currentModCount = modCount;
+        Lookup result = lookup;
+        if (result != null && result.modCount == currentModCount) return result;
+        result = new Lookup(currentModCount, getRules());
+        this.lookup = result;
+        return result;
+    }
+
     /**
      * Filters the registry to retrieve a list of objects of a specific type.
      *
@@ -111,6 +231,29 @@ public class DefaultRuleRegistry implements MutableRuleRegistry {
         return Collections.unmodifiableList(result);
     }
 
+    // Rules by class/package (built from a snapshot of the registered Rules)
+    private static final class Lookup {
+
+        private final long modCount;
+        private final Map<Class<?>, List<Rule>> rulesByClass = new HashMap<>();
+        private final Map<String, List<Rule>> rulesByPackage = new HashMap<>();
+
+        private Lookup(long modCount, List<Rule> rules) {
+            super();
+            this.modCount = modCount;
+
+            for (Rule rule : rules) {
+                Class<?> ruleClass = rule.getDefinition().getRuleClass();
+                if (ruleClass != null) rulesByClass.computeIfAbsent(ruleClass, c -> new ArrayList<>()).add(rule);
+                if (rule.getTarget() != null) rulesByPackage.computeIfAbsent(rule.getTarget().getClass().getPackage().getName(),
+                        p -> new ArrayList<>()).add(rule);
+            }
+
+            rulesByClass.replaceAll((c, values) -> Collections.unmodifiableList(values));
+            rulesByPackage.replaceAll((p, values) -> Collections.unmodifiableList(values));
+        }
+    }
+
     @Override
     public String toString() {
         return "DefaultRuleRegistry{" +
@@ -0,0 +1,214 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.registry;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Index of the rulii classes (@Rule classes and classes declaring @Condition, @Action or @Function methods) generated at
+ * build time by the rulii-processor (META-INF/rulii/rulii.index). Reading the index only loads the index files (one
+ * per jar/directory that has one) rather than scanning the classpath; the indexed classes are loaded on demand.
+ *
+ * <pre>
+ * RuleRegistry registry = RuleRegistry.builder().loadIndexed("org.acme.rules").build();
+ * </pre>
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class RuleIndex {
+
+    /**
+     * Location of the index files.
+     */
+    public static final String INDEX_LOCATION = "META-INF/rulii/rulii.index";
+
+    private final ClassLoader classLoader;
+    private final List<Entry> entries;
+
+    private RuleIndex(ClassLoader classLoader, List<Entry> entries) {
+        super();
+        this.classLoader = classLoader;
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Loads the index files visible to the context (or rulii) ClassLoader.
+     *
+     * @return loaded index; empty if there are no index files.
+     */
+    public static RuleIndex load() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return load(classLoader != null ? classLoader : RuleIndex.class.getClassLoader());
+    }
+
+    /**
+     * Loads the index files visible to the given ClassLoader.
+     *
+     * @param classLoader ClassLoader used to locate the index files (and load the indexed classes).
+     * @return loaded index; empty if there are no index files.
+     * @throws UnrulyException if an index file cannot be read.
+     */
+    public static RuleIndex load(ClassLoader classLoader) {
+        Assert.notNull(classLoader, "classLoader cannot be null.");
+        // The same class may be listed in more than one index (ie: shaded jars)
+        Map<String, Entry> result = new LinkedHashMap<>();
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+
+                    while ((line = reader.readLine()) != null) {
+                        Entry entry = parse(line, url);
+                        if (entry != null) result.putIfAbsent(entry.kind() + " " + entry.className(), entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UnrulyException("Unable to read the rulii index [" + INDEX_LOCATION + "]", e);
+        }
+
+        return new RuleIndex(classLoader, new ArrayList<>(result.values()));
+    }
+
+    private static Entry parse(String line, URL url) {
+        String text = line.trim();
+        if (text.isEmpty() || text.startsWith("#")) return null;
+        String[] parts = text.split("\\s+");
+
+        if (parts.length != 3) {
+            throw new UnrulyException("Invalid rulii index entry [" + line + "] in [" + url + "]");
+        }
+
+        return new Entry(Kind.parse(parts[0]), "-".equals(parts[1]) ? "" : parts[1], parts[2]);
+    }
+
+    /**
+     * All the index entries.
+     *
+     * @return index entries.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Index entries of the given kind that belong to any of the given packages (sub-packages are not included).
+     *
+     * @param kind desired kind.
+     * @param packageNames desired packages; all the packages if none are given.
+     * @return matching entries.
+     */
+    public List<Entry> getEntries(Kind kind, String...packageNames) {
+        Assert.notNull(kind, "kind cannot be null.");
+        Set<String> packages = packageNames != null ? Set.of(packageNames) : Set.of();
+        List<Entry> result = new ArrayList<>();
+
+        for (Entry entry : entries) {
+            if (entry.kind() == kind && (packages.isEmpty() || packages.contains(entry.packageName()))) result.add(entry);
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Loads the @Rule classes that belong to any of the given packages.
+     *
+     * @param packageNames desired packages; all the packages if none are given.
+     * @return Rule classes.
+     * @throws UnrulyException if an indexed class cannot be loaded.
+     */
+    public List<Class<?>> getRuleClasses(String...packageNames) {
+        return getClasses(Kind.RULE, packageNames);
+    }
+
+    /**
+     * Loads the indexed classes of the given kind that belong to any of the given packages.
+     *
+     * @param kind desired kind.
+     * @param packageNames desired packages; all the packages if none are given.
+     * @return indexed classes.
+     * @throws UnrulyException if an indexed class cannot be loaded.
+     */
+    public List<Class<?>> getClasses(Kind kind, String...packageNames) {
+        List<Entry> matches = getEntries(kind, packageNames);
+        List<Class<?>> result = new ArrayList<>(matches.size());
+
+        for (Entry entry : matches) {
+            try {
+                result.add(Class.forName(entry.className(), false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new UnrulyException("Unable to load indexed class [" + entry.className() + "]", e);
+            }
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleIndex{" +
+                "entries=" + entries +
+                '}';
+    }
+
+    /**
+     * Kind of an indexed class.
+     */
+    public enum Kind {
+        RULE, CONDITION, ACTION, FUNCTION;
+
+        static Kind parse(String text) {
+            try {
+                return valueOf(text.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new UnrulyException("Invalid rulii index kind [" + text + "]", e);
+            }
+        }
+    }
+
+    /**
+     * Indexed class.
+     *
+     * @param kind kind of class.
+     * @param packageName package of the class.
+     * @param className binary name of the class.
+     */
+    public record Entry(Kind kind, String packageName, String className) {}
+}
@@ -19,6 +19,9 @@ package org.rulii.registry;
 
 import org.rulii.model.Runnable;
 
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * The RuleRegistryBuilder class is a builder for creating a RuleRegistry object.
  * It allows registering individual Runnable instances to be included in the rule registry.
@@ -45,6 +48,56 @@ public final class RuleRegistryBuilder {
         return this;
     }
 
+    /**
+     * Registers all the given Runnables at once.
+     *
+     * @param runnables Runnables to register.
+     * @return the RuleRegistryBuilder object
+     * @see DefaultRuleRegistry#registerAll(Collection)
+     */
+    public RuleRegistryBuilder registerAll(Collection<? extends Runnable<?>> runnables) {
+        registry.registerAll(runnables);
+        return this;
+    }
+
+    /**
+     * Builds Rules out of the given Rule classes in parallel (using the common ForkJoinPool) and registers them.
+     *
+     * @param ruleClasses Rule classes.
+     * @return the RuleRegistryBuilder object
+     * @see DefaultRuleRegistry#load(Collection)
+     */
+    public RuleRegistryBuilder load(Collection<? extends Class<?>> ruleClasses) {
+        registry.load(ruleClasses);
+        return this;
+    }
+
+    /**
+     * Builds Rules out of the given Rule classes in parallel (using the given ForkJoinPool) and registers them.
+     *
+     * @param ruleClasses Rule classes.
+     * @param pool pool used to build the Rules.
+     * @return the RuleRegistryBuilder object
+     * @see DefaultRuleRegistry#load(Collection, ForkJoinPool)
+     */
+    public RuleRegistryBuilder load(Collection<? extends Class<?>> ruleClasses, ForkJoinPool pool) {
+        registry.load(ruleClasses, pool);
+        return this;
+    }
+
+    /**
+     * Builds the @Rule classes listed in the build time generated index (that belong to any of the given packages)
+     * and registers them.
+     *
+     * @param packageNames desired packages; all the indexed Rules if none are given.
+     * @return the RuleRegistryBuilder object
+     * @see DefaultRuleRegistry#loadIndexed(String...)
+     */
+    public RuleRegistryBuilder loadIndexed(String...packageNames) {
+        registry.loadIndexed(packageNames);
+        return this;
+    }
+
     /**
      * Builds a RuleRegistry object.
      *
@@ -17,11 +17,13 @@
  */
 package org.rulii.rule;
 
+import org.rulii.context.ExecutionCancelledException;
 import org.rulii.context.RuleContext;
 import org.rulii.lib.apache.commons.logging.Log;
 import org.rulii.lib.apache.commons.logging.LogFactory;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
+import org.rulii.model.condition.ConditionCache;
 
 /**
  * DefaultRuleExecutionStrategy is a concrete implementation of RuleExecutionStrategyTemplate.
@@ -60,6 +62,10 @@ public class DefaultRuleExecutionStrategy extends RuleExecutionStrategyTemplate
         ruleContext.getTracer().fireOnRuleStart(rule);
         if (logger.isDebugEnabled()) logger.debug("Rule [" + rule.getName() + "]  Class [" + rule.getDefinition().getRuleClass() + "] Execution.");
         RuleResult result = null;
+        // Memoized Condition results (if enabled) are released once the Rule completes, unless it is part of a larger
+        // execution (ie: a RuleSet) which releases them instead
+        ConditionCache conditionCache = ruleContext.getConditionCache();
+        if (conditionCache != null) conditionCache.enter();
 
         try {
             boolean preConditionCheck = checkPreCondition(rule, ruleContext);
@@ -86,11 +92,14 @@ public class DefaultRuleExecutionStrategy extends RuleExecutionStrategyTemplate
             result = new RuleResult(rule, conditionCheck ? RuleExecutionStatus.PASS : RuleExecutionStatus.FAIL);
             if (logger.isDebugEnabled()) logger.debug("Rule [" + rule.getName() + "] executed result [" + result + "]");
             return result;
+        } catch (ExecutionCancelledException e) {
+            throw e;
         } catch (Exception e) {
             if (logger.isDebugEnabled()) logger.debug("Rule [" + rule.getName() + "] failed error [" + e.getMessage() + "]");
             ruleContext.getTracer().fireOnRuleError(rule, e);
             throw new UnrulyException("Error trying to run Rule [" + rule.getName() + "]", e);
         } finally {
+            if (conditionCache != null) conditionCache.exit();
             // Notify Rule end
             ruleContext.getTracer().fireOnRuleEnd(rule, result);
         }
@@ -102,6 +102,9 @@ public abstract class RuleExecutionStrategyTemplate implements RuleExecutionStra
 
         // Execute associated Actions.
         for (Action action : rule.getActions()) {
+            // Stop if the deadline has expired (or the execution was cancelled)
+            ruleContext.getDeadline().check();
+
             try {
                 action.run(ruleContext);
             } catch (Exception e) {
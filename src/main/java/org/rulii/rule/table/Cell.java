@@ -0,0 +1,346 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.rule.table;
+
+import org.rulii.lib.spring.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A single cell of a DecisionTable. A cell either matches anything, matches a value (or a set of values) or matches
+ * a range of Comparable values.
+ *
+ * Numbers are compared by value regardless of their type; ie: eq(21) matches a Long 21 and range(1.5, 10) accepts an
+ * Integer 5.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see DecisionTable
+ */
+public final class Cell {
+
+    private static final Cell ANY = new Cell(Kind.ANY, Collections.emptySet(), null, false, null, false);
+
+    /**
+     * Different kinds of cells.
+     */
+    public enum Kind {
+        // matches any value (including null)
+        ANY,
+        // matches one of the given values
+        EQUALS,
+        // matches values within the given (possibly open ended) range
+        RANGE
+    }
+
+    private final Kind kind;
+    private final Set<Object> values;
+    private final Comparable<?> lower;
+    private final boolean lowerInclusive;
+    private final Comparable<?> upper;
+    private final boolean upperInclusive;
+
+    private Cell(Kind kind, Set<Object> values, Comparable<?> lower, boolean lowerInclusive,
+                 Comparable<?> upper, boolean upperInclusive) {
+        super();
+        this.kind = kind;
+        this.values = values;
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Cell that matches any value.
+     *
+     * @return match all cell.
+     */
+    public static Cell any() {
+        return ANY;
+    }
+
+    /**
+     * Cell that matches the given value.
+     *
+     * @param value desired value.
+     * @return equality cell.
+     */
+    public static Cell eq(Object value) {
+        Assert.notNull(value, "value cannot be null.");
+        return new Cell(Kind.EQUALS, Collections.singleton(normalize(value)), null, false, null, false);
+    }
+
+    /**
+     * Cell that matches any one of the given values.
+     *
+     * @param values desired values.
+     * @return set cell.
+     */
+    public static Cell in(Object...values) {
+        Assert.notNull(values, "values cannot be null.");
+        return in(Arrays.asList(values));
+    }
+
+    /**
+     * Cell that matches any one of the given values.
+     *
+     * @param values desired values.
+     * @return set cell.
+     */
+    public static Cell in(Collection<?> values) {
+        Assert.notEmpty(values, "values cannot be empty.");
+        Assert.noNullElements(values.toArray(), "values cannot contain null elements.");
+        Set<Object> result = new LinkedHashSet<>();
+        for (Object value : values) result.add(normalize(value));
+        return new Cell(Kind.EQUALS, Collections.unmodifiableSet(result), null, false, null, false);
+    }
+
+    /**
+     * Cell that matches values between lower and upper (both inclusive).
+     *
+     * @param lower lower bound.
+     * @param upper upper bound.
+     * @return range cell.
+     */
+    public static Cell between(Comparable<?> lower, Comparable<?> upper) {
+        return range(lower, true, upper, true);
+    }
+
+    /**
+     * Cell that matches values greater than the given value.
+     *
+     * @param value lower bound (exclusive).
+     * @return range cell.
+     */
+    public static Cell gt(Comparable<?> value) {
+        Assert.notNull(value, "value cannot be null.");
+        return range(value, false, null, false);
+    }
+
+    /**
+     * Cell that matches values greater than or equal to the given value.
+     *
+     * @param value lower bound (inclusive).
+     * @return range cell.
+     */
+    public static Cell ge(Comparable<?> value) {
+        Assert.notNull(value, "value cannot be null.");
+        return range(value, true, null, false);
+    }
+
+    /**
+     * Cell that matches values less than the given value.
+     *
+     * @param value upper bound (exclusive).
+     * @return range cell.
+     */
+    public static Cell lt(Comparable<?> value) {
+        Assert.notNull(value, "value cannot be null.");
+        return range(null, false, value, false);
+    }
+
+    /**
+     * Cell that matches values less than or equal to the given value.
+     *
+     * @param value upper bound (inclusive).
+     * @return range cell.
+     */
+    public static Cell le(Comparable<?> value) {
+        Assert.notNull(value, "value cannot be null.");
+        return range(null, false, value, true);
+    }
+
+    /**
+     * Cell that matches values within the given range. A null bound means the range is open on that side.
+     *
+     * @param lower lower bound (optional).
+     * @param lowerInclusive whether the lower bound is included.
+     * @param upper upper bound (optional).
+     * @param upperInclusive whether the upper bound is included.
+     * @return range cell.
+     */
+    public static Cell range(Comparable<?> lower, boolean lowerInclusive, Comparable<?> upper, boolean upperInclusive) {
+        Assert.isTrue(lower != null || upper != null, "At least one of the bounds must be provided.");
+        Assert.isTrue(!isNaN(lower) && !isNaN(upper), "Range bounds cannot be NaN.");
+        Comparable<?> low = (Comparable<?>) normalize(lower);
+        Comparable<?> high = (Comparable<?>) normalize(upper);
+
+        if (low != null && high != null) {
+            int comparison = compare(low, high);
+            Assert.isTrue(comparison < 0 || (comparison == 0 && lowerInclusive && upperInclusive),
+                    "Range [" + lower + ", " + upper + "] is empty.");
+        }
+
+        return new Cell(Kind.RANGE, Collections.emptySet(), low, low != null && lowerInclusive,
+                high, high != null && upperInclusive);
+    }
+
+    /**
+     * Determines whether the given value matches this cell.
+     *
+     * @param value value to check.
+     * @return true if the value matches; false otherwise.
+     */
+    public boolean matches(Object value) {
+        if (kind == Kind.ANY) return true;
+        if (value == null) return false;
+        if (kind == Kind.EQUALS) return values.contains(normalize(value));
+
+        Object candidate = normalize(value);
+        // NaN is not within any range
+        if (!(candidate instanceof Comparable<?>) || isNaN(candidate)) return false;
+
+        try {
+            if (lower != null) {
+                int comparison = compare(candidate, lower);
+                if (comparison < 0 || (comparison == 0 && !lowerInclusive)) return false;
+            }
+
+            if (upper != null) {
+                int comparison = compare(candidate, upper);
+                if (comparison > 0 || (comparison == 0 && !upperInclusive)) return false;
+            }
+
+            return true;
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Set<Object> getValues() {
+        return values;
+    }
+
+    public Comparable<?> getLower() {
+        return lower;
+    }
+
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    public Comparable<?> getUpper() {
+        return upper;
+    }
+
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * Brings numbers to a common representation so that equality/ordering does not depend on the Number type. Whole
+     * numbers (that fit) become Longs, other finite numbers become (stripped) BigDecimals and NaN/Infinity are Doubles.
+     *
+     * @param value value to normalize.
+     * @return normalized value.
+     */
+    static Object normalize(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof Float || value instanceof Double) {
+            double result = ((Number) value).doubleValue();
+            // NaN/Infinity have no BigDecimal representation
+            if (Double.isNaN(result) || Double.isInfinite(result)) return result;
+            // Whole numbers are treated the same as the integral types
+            if (result == Math.rint(result) && Math.abs(result) < 0x1p53) return (long) result;
+            // Fractions are treated the same as BigDecimals (using their shortest decimal representation)
+            return normalize(value instanceof Float ? new BigDecimal(value.toString()) : BigDecimal.valueOf(result));
+        }
+
+        if (value instanceof BigInteger integer) return integer.bitLength() < 64 ? (Object) integer.longValue() : value;
+        if (value instanceof BigDecimal decimal) {
+            BigDecimal stripped = decimal.stripTrailingZeros();
+            return stripped.scale() <= 0 && stripped.precision() - stripped.scale() < 19
+                    ? (Object) stripped.longValueExact() : (Object) stripped;
+        }
+
+        return value;
+    }
+
+    /**
+     * Determines whether the given value is a (Double/Float) NaN.
+     *
+     * @param value value to check.
+     * @return true if NaN.
+     */
+    static boolean isNaN(Object value) {
+        return (value instanceof Double d && d.isNaN()) || (value instanceof Float f && f.isNaN());
+    }
+
+    /**
+     * Compares two (normalized) values. Mixed number types are compared by value; infinities compare as the extremes
+     * (and NaN as greater than everything, the same as Double.compare).
+     *
+     * @param a first value.
+     * @param b second value.
+     * @return comparison result.
+     * @throws ClassCastException if the values are not comparable.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y && a.getClass() != b.getClass()) {
+            // BigDecimal cannot represent NaN/Infinity
+            if (isNaN(x) || isNaN(y)) return Double.compare(x.doubleValue(), y.doubleValue());
+            int xInfinity = infinity(x);
+            int yInfinity = infinity(y);
+            if (xInfinity != 0 || yInfinity != 0) return Integer.compare(xInfinity, yInfinity);
+            return toBigDecimal(x).compareTo(toBigDecimal(y));
+        }
+
+        return ((Comparable) a).compareTo(b);
+    }
+
+    // -1 for negative infinity, 1 for positive infinity; 0 otherwise
+    private static int infinity(Number number) {
+        if ((number instanceof Double || number instanceof Float) && Double.isInfinite(number.doubleValue())) {
+            return number.doubleValue() > 0 ? 1 : -1;
+        }
+
+        return 0;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal decimal) return decimal;
+        if (number instanceof BigInteger integer) return new BigDecimal(integer);
+        if (number instanceof Long) return BigDecimal.valueOf(number.longValue());
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case ANY -> "-";
+            case EQUALS -> values.size() == 1 ? String.valueOf(values.iterator().next()) : values.toString();
+            case RANGE -> (lower == null ? "(-inf" : (lowerInclusive ? "[" : "(") + lower) + ", "
+                    + (upper == null ? "+inf)" : upper + (upperInclusive ? "]" : ")"));
+        };
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.rule.table;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a single DecisionTable column. Given a value it yields (as a BitSet) the rows whose cell in this column
+ * matches the value:
+ *
+ * - wildcard cells are kept in a single BitSet that every lookup starts from.
+ * - equality/set cells are kept in a HashMap keyed by the (normalized) value.
+ * - range cells are flattened into elementary segments over the sorted, distinct range bounds; segment 2i+1 is the
+ *   bound i itself, segment 2i the open interval before it and the last segment everything after the last bound.
+ *   A lookup is a binary search over the bounds.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class ColumnIndex {
+
+    private final String name;
+    private final BitSet wildcard = new BitSet();
+    private final Map<Object, BitSet> values = new HashMap<>();
+    private final Object[] bounds;
+    private final BitSet[] segments;
+
+    ColumnIndex(String name, List<Cell> cells) {
+        super();
+        this.name = name;
+        List<Integer> ranges = new ArrayList<>();
+
+        for (int row = 0; row < cells.size(); row++) {
+            Cell cell = cells.get(row);
+
+            switch (cell.getKind()) {
+                case ANY -> wildcard.set(row);
+                case EQUALS -> {
+                    for (Object value : cell.getValues()) values.computeIfAbsent(value, v -> new BitSet()).set(row);
+                }
+                case RANGE -> ranges.add(row);
+            }
+        }
+
+        this.bounds = sortedBounds(name, cells, ranges);
+        this.segments = ranges.isEmpty() ? null : new BitSet[2 * bounds.length + 1];
+
+        if (segments == null) return;
+
+        for (int i = 0; i < segments.length; i++) segments[i] = new BitSet();
+
+        for (int row : ranges) {
+            Cell cell = cells.get(row);
+            int start = cell.getLower() == null ? 0 : 2 * indexOf(cell.getLower()) + (cell.isLowerInclusive() ? 1 : 2);
+            int end = cell.getUpper() == null ? segments.length - 1 : 2 * indexOf(cell.getUpper()) + (cell.isUpperInclusive() ? 1 : 0);
+
+            for (int i = start; i <= end; i++) segments[i].set(row);
+        }
+    }
+
+    private static Object[] sortedBounds(String name, List<Cell> cells, List<Integer> ranges) {
+        List<Object> result = new ArrayList<>();
+
+        for (int row : ranges) {
+            Cell cell = cells.get(row);
+            if (cell.getLower() != null) result.add(cell.getLower());
+            if (cell.getUpper() != null) result.add(cell.getUpper());
+        }
+
+        try {
+            result.sort(Cell::compare);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Column [" + name + "] has ranges with bounds that cannot be compared to " +
+                    "each other.", e);
+        }
+
+        List<Object> distinct = new ArrayList<>(result.size());
+
+        for (Object bound : result) {
+            if (distinct.isEmpty() || Cell.compare(distinct.get(distinct.size() - 1), bound) != 0) distinct.add(bound);
+        }
+
+        return distinct.toArray();
+    }
+
+    // Position of the value within the bounds; (-(insertion point) - 1) if it is not one of the bounds
+    private int indexOf(Object value) {
+        int low = 0;
+        int high = bounds.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Cell.compare(bounds[mid], value);
+
+            if (comparison < 0) low = mid + 1;
+            else if (comparison > 0) high = mid - 1;
+            else return mid;
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Rows whose cell (in this column) matches the given value.
+     *
+     * @param value value of the column.
+     * @return matching rows; the caller may modify the result.
+     */
+    BitSet match(Object value) {
+        BitSet result = (BitSet) wildcard.clone();
+        if (value == null) return result;
+
+        Object candidate = Cell.normalize(value);
+        BitSet matches = values.get(candidate);
+        if (matches != null) result.or(matches);
+
+        // NaN is not within any range
+        if (segments != null && candidate instanceof Comparable<?> && !Cell.isNaN(candidate)) {
+            try {
+                int index = indexOf(candidate);
+                result.or(segments[index >= 0 ? 2 * index + 1 : 2 * (-index - 1)]);
+            } catch (ClassCastException e) {
+                // value cannot be compared with the ranges of this column
+            }
+        }
+
+        return result;
+    }
+
+    String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.rule.table;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.ReservedBindings;
+import org.rulii.bind.match.MatchByNameMatchingStrategy;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.condition.Condition;
+import org.rulii.model.function.Function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled decision table. Each column is a Binding name and each row is a list of cells (one per column) along with
+ * an outcome. A row matches when every one of its cells matches the value of the corresponding Binding.
+ *
+ * Rather than checking every row, each column is indexed (see ColumnIndex) and the candidate rows are intersected
+ * column by column; matching a table is roughly O(columns) regardless of the number of rows. Rows are prioritized by
+ * the order they were added in.
+ *
+ * <pre>
+ * DecisionTable&lt;String&gt; table = DecisionTable.&lt;String&gt;builder("age", "state")
+ *      .row("adult-ca", Cell.gt(21), Cell.eq("CA"))
+ *      .row("adult", Cell.gt(21), Cell.any())
+ *      .build();
+ * </pre>
+ *
+ * @param <T> outcome type.
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class DecisionTable<T> {
+
+    private final String name;
+    private final List<String> columns;
+    private final List<Row<T>> rows;
+    private final ColumnIndex[] indexes;
+
+    DecisionTable(String name, List<String> columns, List<Row<T>> rows) {
+        super();
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notEmpty(columns, "columns cannot be empty.");
+        Assert.notNull(rows, "rows cannot be null.");
+        this.name = name;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+        this.indexes = new ColumnIndex[columns.size()];
+
+        for (int i = 0; i < indexes.length; i++) {
+            int column = i;
+            indexes[i] = new ColumnIndex(columns.get(i), rows.stream().map(row -> row.getCell(column)).toList());
+        }
+    }
+
+    /**
+     * Creates a new DecisionTable builder with the given columns (Binding names).
+     *
+     * @param columns Binding names.
+     * @param <T> outcome type.
+     * @return new builder.
+     */
+    public static <T> DecisionTableBuilder<T> builder(String...columns) {
+        return new DecisionTableBuilder<>(columns);
+    }
+
+    /**
+     * Finds all the rows that match the values of the given Bindings (in row order). A missing Binding is treated as a
+     * null value which only matches Cell.any().
+     *
+     * @param bindings bindings holding the column values.
+     * @return matching rows.
+     */
+    public List<Row<T>> match(Bindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        return toRows(find(bindings));
+    }
+
+    /**
+     * Finds all the rows that match the given column values (in row order).
+     *
+     * @param values column values; one per column.
+     * @return matching rows.
+     */
+    public List<Row<T>> matchValues(Object...values) {
+        Assert.notNull(values, "values cannot be null.");
+        Assert.isTrue(values.length == columns.size(), "Expected [" + columns.size() + "] values. Given ["
+                + values.length + "]");
+        return toRows(find(values));
+    }
+
+    /**
+     * Outcome of the first (highest priority) row that matches the values of the given Bindings.
+     *
+     * @param bindings bindings holding the column values.
+     * @return outcome of the first matching row; null if no rows match.
+     */
+    public T evaluate(Bindings bindings) {
+        Assert.notNull(bindings, "bindings cannot be null.");
+        BitSet matches = find(bindings);
+        int index = matches.nextSetBit(0);
+        return index < 0 ? null : rows.get(index).getOutcome();
+    }
+
+    /**
+     * Outcomes of all the rows that match the values of the given Bindings (in row order).
+     *
+     * @param bindings bindings holding the column values.
+     * @return outcomes of the matching rows.
+     */
+    public List<T> evaluateAll(Bindings bindings) {
+        return match(bindings).stream().map(Row::getOutcome).toList();
+    }
+
+    /**
+     * Condition that is true if any row of this table matches. Useful as the given of a Rule.
+     *
+     * @return new Condition backed by this table.
+     */
+    public Condition asCondition() {
+        return Condition.builder().with((Bindings bindings) -> !find(bindings).isEmpty())
+                .param(0)
+                    .name(ReservedBindings.BINDINGS.getName())
+                    .matchUsing(MatchByNameMatchingStrategy.class)
+                .build()
+                .name(name)
+                .build();
+    }
+
+    /**
+     * Function that returns the outcome of the first matching row (null if no rows match). Useful as the result
+     * extractor of a RuleSet.
+     *
+     * @return new Function backed by this table.
+     */
+    public Function<T> asFunction() {
+        return Function.builder().with((Bindings bindings) -> evaluate(bindings))
+                .param(0)
+                    .name(ReservedBindings.BINDINGS.getName())
+                    .matchUsing(MatchByNameMatchingStrategy.class)
+                .build()
+                .name(name)
+                .build();
+    }
+
+    private BitSet find(Bindings bindings) {
+        Object[] values = new Object[columns.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            Binding<Object> binding = bindings.getBinding(columns.get(i));
+            values[i] = binding != null ? binding.getValue() : null;
+        }
+
+        return find(values);
+    }
+
+    private BitSet find(Object[] values) {
+        BitSet result = null;
+
+        for (int i = 0; i < indexes.length; i++) {
+            BitSet matches = indexes[i].match(values[i]);
+
+            if (result == null) result = matches;
+            else result.and(matches);
+            // No point looking at the remaining columns
+            if (result.isEmpty()) break;
+        }
+
+        return result;
+    }
+
+    private List<Row<T>> toRows(BitSet matches) {
+        List<Row<T>> result = new ArrayList<>(matches.cardinality());
+
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(rows.get(i));
+        }
+
+        return result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<Row<T>> getRows() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionTable{" +
+                "name='" + name + '\'' +
+                ", columns=" + columns +
+                ", rows=" + rows.size() +
+                '}';
+    }
+
+    /**
+     * A row of the DecisionTable.
+     *
+     * @param <T> outcome type.
+     */
+    public static final class Row<T> {
+
+        private final int index;
+        private final Cell[] cells;
+        private final T outcome;
+
+        Row(int index, Cell[] cells, T outcome) {
+            super();
+            this.index = index;
+            this.cells = cells;
+            this.outcome = outcome;
+        }
+
+        /**
+         * Checks the row against the given values one cell at a time (without the use of the indexes).
+         *
+         * @param values column values; one per column.
+         * @return true if all the cells match.
+         */
+        public boolean matches(Object...values) {
+            Assert.isTrue(values != null && values.length == cells.length, "Expected [" + cells.length + "] values.");
+
+            for (int i = 0; i < cells.length; i++) {
+                if (!cells[i].matches(values[i])) return false;
+            }
+
+            return true;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Cell getCell(int column) {
+            return cells[column];
+        }
+
+        public List<Cell> getCells() {
+            return Collections.unmodifiableList(Arrays.asList(cells));
+        }
+
+        public T getOutcome() {
+            return outcome;
+        }
+
+        @Override
+        public String toString() {
+            return "Row{" +
+                    "index=" + index +
+                    ", cells=" + Arrays.toString(cells) +
+                    ", outcome=" + outcome +
+                    '}';
+        }
+    }
+}
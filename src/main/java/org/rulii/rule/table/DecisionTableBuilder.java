@@ -0,0 +1,94 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.rule.table;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.util.RuleUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builder for DecisionTables. Rows are prioritized by the order they are added in.
+ *
+ * @param <T> outcome type.
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see DecisionTable
+ */
+public class DecisionTableBuilder<T> {
+
+    private final List<String> columns;
+    private final List<DecisionTable.Row<T>> rows = new ArrayList<>();
+    private String name = "decisionTable";
+
+    DecisionTableBuilder(String...columns) {
+        super();
+        Assert.notEmpty(columns, "columns cannot be empty.");
+        Set<String> names = new HashSet<>();
+
+        for (String column : columns) {
+            Assert.isTrue(RuleUtils.isValidName(column), "Column name [" + column + "] not valid. It must conform to ["
+                    + RuleUtils.NAME_REGEX + "]");
+            Assert.isTrue(names.add(column), "Duplicate column [" + column + "]");
+        }
+
+        this.columns = Arrays.asList(columns.clone());
+    }
+
+    /**
+     * Name of the DecisionTable.
+     *
+     * @param name table name.
+     * @return this for fluency.
+     */
+    public DecisionTableBuilder<T> name(String name) {
+        Assert.isTrue(RuleUtils.isValidName(name), "DecisionTable name [" + name + "] not valid. It must conform to ["
+                + RuleUtils.NAME_REGEX + "]");
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Adds a new row (with a lower priority than the existing rows).
+     *
+     * @param outcome outcome of the row.
+     * @param cells cells of the row; one per column.
+     * @return this for fluency.
+     */
+    public DecisionTableBuilder<T> row(T outcome, Cell...cells) {
+        Assert.notNull(cells, "cells cannot be null.");
+        Assert.isTrue(cells.length == columns.size(), "Expected [" + columns.size() + "] cells. Given ["
+                + cells.length + "]");
+        Assert.noNullElements(cells, "cells cannot contain null elements.");
+        rows.add(new DecisionTable.Row<>(rows.size(), cells.clone(), outcome));
+        return this;
+    }
+
+    /**
+     * Compiles the rows into a DecisionTable.
+     *
+     * @return new DecisionTable.
+     */
+    public DecisionTable<T> build() {
+        return new DecisionTable<>(name, columns, rows);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.context.RuleContext;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RuleSet execution strategy that adapts the order the Rules are tried in to reach the stop condition as cheaply as
+ * possible. Per Rule it tracks (in lock-free counters) how often it passed/failed, how often the stop condition was met
+ * right after it and how long it took to run. Every reorderInterval executions the Rules are reordered by their
+ * expected cost to stop (average cost / stop rate); cheap Rules that usually stop the RuleSet are tried first.
+ *
+ * Reordering never moves a Rule ahead of an earlier Rule it depends on (see RuleDependencyGraph), so Rules that write
+ * Bindings other Rules read (or write) keep their relative order. RuleSets without a stop condition are run in
+ * declaration order as the order does not change the cost. Results are recorded in the order the Rules were run in.
+ *
+ * Note that if more than one Rule can meet the stop condition then the Rule that "wins" depends on the current order.
+ * Use preserveOrder to keep the declaration order (deterministic) while still collecting the statistics.
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class AdaptiveRuleSetExecutionStrategy<T> extends DefaultRuleSetExecutionStrategy<T> {
+
+    public static final int DEFAULT_REORDER_INTERVAL = 100;
+
+    private final int reorderInterval;
+    private final boolean preserveOrder;
+    private final Map<RuleSet<?>, Profile> profiles = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public AdaptiveRuleSetExecutionStrategy() {
+        this(DEFAULT_REORDER_INTERVAL, false);
+    }
+
+    /**
+     * Creates a new adaptive strategy.
+     *
+     * @param reorderInterval number of executions between reorders.
+     * @param preserveOrder true to always run the Rules in declaration order (statistics are still collected).
+     */
+    public AdaptiveRuleSetExecutionStrategy(int reorderInterval, boolean preserveOrder) {
+        super();
+        Assert.isTrue(reorderInterval > 0, "reorderInterval must be > 0.");
+        this.reorderInterval = reorderInterval;
+        this.preserveOrder = preserveOrder;
+    }
+
+    @Override
+    protected void runRules(RuleSet<?> ruleSet, RuleContext ruleContext, RuleSetExecutionStatus status) {
+        if (ruleSet.getStopCondition() == null) {
+            super.runRules(ruleSet, ruleContext, status);
+            return;
+        }
+
+        // Run any PreAction if one is available.
+        runInitializer(ruleSet, ruleContext);
+
+        try {
+            List<Rule> rules = ruleSet.getRules();
+            Profile profile = getProfile(ruleSet, rules);
+
+            // Execute the rules in the current order; STOP if the stopCondition is met.
+            for (int index : profile.order) {
+                Rule rule = rules.get(index);
+                // Stop if the deadline has expired (or the execution was cancelled)
+                ruleContext.getDeadline().check();
+                // Run the rule/action
+                if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] running rule [" + rule.getName() + "]");
+                long start = System.nanoTime();
+                RuleResult executionResult = rule.run(ruleContext);
+                profile.nanos[index].add(System.nanoTime() - start);
+                profile.record(index, executionResult);
+                status.add(executionResult);
+                // Fire Rule event
+                ruleContext.getTracer().fireOnRuleSetRuleRun(ruleSet, rule, executionResult, status);
+                // Check to see if we need to stop the execution?
+                if (ruleSet.getStopCondition().run(ruleContext)) {
+                    profile.stops[index].increment();
+                    if (getLogger().isDebugEnabled()) getLogger().debug("Stopping RuleSet [" + ruleSet.getName() + "]. Stop condition met.");
+                    // Fire Stop event
+                    ruleContext.getTracer().fireOnRuleSetStop(ruleSet, ruleSet.getStopCondition(), status);
+                    break;
+                }
+            }
+
+            if (profile.executions.incrementAndGet() % reorderInterval == 0 && !preserveOrder) profile.reorder();
+        } finally {
+            // Run the Finalizer after executing the Rules
+            runFinalizer(ruleSet, ruleContext);
+        }
+    }
+
+    /**
+     * Current order the Rules of the given RuleSet are tried in.
+     *
+     * @param ruleSet desired RuleSet.
+     * @return rules in their current order.
+     */
+    public List<Rule> getRuleOrder(RuleSet<?> ruleSet) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        List<Rule> rules = ruleSet.getRules();
+        return Arrays.stream(getProfile(ruleSet, rules).order).mapToObj(rules::get).toList();
+    }
+
+    /**
+     * Statistics collected so far for the Rules of the given RuleSet (in declaration order).
+     *
+     * @param ruleSet desired RuleSet.
+     * @return rule statistics.
+     */
+    public List<RuleStatistics> getStatistics(RuleSet<?> ruleSet) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        List<Rule> rules = ruleSet.getRules();
+        Profile profile = getProfile(ruleSet, rules);
+        List<RuleStatistics> result = new ArrayList<>(rules.size());
+
+        for (int i = 0; i < rules.size(); i++) {
+            long runs = profile.runs[i].sum();
+            result.add(new RuleStatistics(rules.get(i).getName(), runs, profile.passed[i].sum(),
+                    profile.failed[i].sum(), profile.stops[i].sum(), runs == 0 ? 0 : profile.nanos[i].sum() / runs));
+        }
+
+        return result;
+    }
+
+    public int getReorderInterval() {
+        return reorderInterval;
+    }
+
+    public boolean isPreserveOrder() {
+        return preserveOrder;
+    }
+
+    // Profiles are kept per RuleSet instance
+    private Profile getProfile(RuleSet<?> ruleSet, List<Rule> rules) {
+        Profile result = profiles.get(ruleSet);
+
+        if (result == null || result.size() != rules.size()) {
+            result = new Profile(RuleDependencyGraph.build(new ArrayList<>(rules)));
+            profiles.put(ruleSet, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Snapshot of the statistics of a single Rule.
+     *
+     * @param ruleName name of the Rule.
+     * @param runs number of times the Rule was run.
+     * @param passed number of times the Rule passed.
+     * @param failed number of times the Rule failed.
+     * @param stops number of times the stop condition was met right after the Rule.
+     * @param averageNanos average time (in nanoseconds) taken to run the Rule.
+     */
+    public record RuleStatistics(String ruleName, long runs, long passed, long failed, long stops, long averageNanos) {
+
+        /**
+         * Rate at which running the Rule met the stop condition.
+         *
+         * @return stop rate (0 if the Rule has not run yet).
+         */
+        public double getStopRate() {
+            return runs == 0 ? 0 : (double) stops / runs;
+        }
+    }
+
+    private static final class Profile {
+
+        private final RuleDependencyGraph graph;
+        private final LongAdder[] runs;
+        private final LongAdder[] passed;
+        private final LongAdder[] failed;
+        private final LongAdder[] stops;
+        private final LongAdder[] nanos;
+        private final AtomicLong executions = new AtomicLong();
+        private volatile int[] order;
+
+        private Profile(RuleDependencyGraph graph) {
+            super();
+            int size = graph.size();
+            this.graph = graph;
+            this.runs = adders(size);
+            this.passed = adders(size);
+            this.failed = adders(size);
+            this.stops = adders(size);
+            this.nanos = adders(size);
+            int[] initial = new int[size];
+            for (int i = 0; i < size; i++) initial[i] = i;
+            this.order = initial;
+        }
+
+        private static LongAdder[] adders(int size) {
+            LongAdder[] result = new LongAdder[size];
+            for (int i = 0; i < size; i++) result[i] = new LongAdder();
+            return result;
+        }
+
+        void record(int index, RuleResult result) {
+            runs[index].increment();
+            if (result.status().isPass()) passed[index].increment();
+            else if (result.status().isFail()) failed[index].increment();
+        }
+
+        /**
+         * Orders the Rules by their expected cost to stop (average cost / stop rate), lowest first, while keeping every
+         * Rule after the Rules it depends on. Ties keep the declaration order.
+         */
+        void reorder() {
+            int size = size();
+            double[] scores = new double[size];
+            long totalNanos = 0;
+            long totalRuns = 0;
+
+            for (int i = 0; i < size; i++) {
+                totalNanos += nanos[i].sum();
+                totalRuns += runs[i].sum();
+            }
+
+            // Rules that have not run yet are assumed to cost the average
+            double averageCost = totalRuns == 0 ? 1 : Math.max(1, (double) totalNanos / totalRuns);
+
+            for (int i = 0; i < size; i++) {
+                long count = runs[i].sum();
+                double cost = count == 0 ? averageCost : Math.max(1, (double) nanos[i].sum() / count);
+                // Laplace smoothing; keeps unseen (or never stopping) rules in play
+                double stopRate = (stops[i].sum() + 1.0) / (count + 2.0);
+                scores[i] = cost / stopRate;
+            }
+
+            boolean[] scheduled = new boolean[size];
+            int[] result = new int[size];
+
+            for (int position = 0; position < size; position++) {
+                int best = -1;
+
+                for (int i = 0; i < size; i++) {
+                    if (scheduled[i] || !isReady(i, scheduled)) continue;
+                    if (best < 0 || scores[i] < scores[best]) best = i;
+                }
+
+                scheduled[best] = true;
+                result[position] = best;
+            }
+
+            this.order = result;
+        }
+
+        private boolean isReady(int index, boolean[] scheduled) {
+            for (int dependency : graph.getDependencies(index)) {
+                if (!scheduled[dependency]) return false;
+            }
+
+            return true;
+        }
+
+        int size() {
+            return graph.size();
+        }
+    }
+}
@@ -17,20 +17,37 @@
  */
 package org.rulii.ruleset;
 
+import org.rulii.context.Deadline;
 import org.rulii.context.RuleContext;
+import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
 
 import java.util.concurrent.CompletableFuture;
 
 /**
  * An implementation of RuleSetExecutionStrategy interface that executes a rule set asynchronously using CompletableFuture.
+ * Cancelling the returned future (or having it time out) cancels the Deadline of the execution; the RuleSet stops at
+ * the next rule/action boundary.
  *
  * @param <T> the type of the result generated by executing the rule set.
  */
 public class AsyncRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategyTemplate<CompletableFuture<T>> {
 
+    private final RuleSetExecutionStrategy<T> delegate;
+
     public AsyncRuleSetExecutionStrategy() {
+        this(RuleSetExecutionStrategy.build());
+    }
+
+    /**
+     * Creates an async strategy that runs the RuleSet using the given (synchronous) strategy.
+     *
+     * @param delegate strategy used to run the RuleSet.
+     */
+    public AsyncRuleSetExecutionStrategy(RuleSetExecutionStrategy<T> delegate) {
         super();
+        Assert.notNull(delegate, "delegate cannot be null.");
+        this.delegate = delegate;
     }
 
     /**
@@ -43,9 +60,14 @@ public class AsyncRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategyTe
      */
     @Override
     public CompletableFuture<T> run(RuleSet<?> ruleSet, RuleContext ruleContext) throws UnrulyException {
-        return CompletableFuture.supplyAsync(() -> {
-            RuleSetExecutionStrategy<T> strategy = RuleSetExecutionStrategy.build();
-            return strategy.run(ruleSet, ruleContext);
-        }, ruleContext.getExecutorService());
+        Assert.notNull(ruleContext, "ruleContext cannot be null.");
+        // Cancelling (or timing out) the future stops the execution at the next check
+        Deadline deadline = ruleContext.getDeadline().child();
+        RuleContext context = ruleContext.withDeadline(deadline);
+        CompletableFuture<T> result = CompletableFuture.supplyAsync(() -> delegate.run(ruleSet, context), ruleContext.getExecutorService());
+        result.whenComplete((value, error) -> {
+            if (error != null) deadline.cancel();
+        });
+        return result;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.AbstractRunnable;
+import org.rulii.model.ParameterDefinition;
+import org.rulii.model.condition.CompositeCondition;
+import org.rulii.model.condition.Condition;
+import org.rulii.rule.Rule;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Shared condition network of a RuleSet. The (pre)conditions of the Rules, including the operands of composite
+ * conditions, are broken down to their leaf Conditions and structurally identical leaves are mapped to a single
+ * canonical Condition.
+ *
+ * Two Conditions are structurally identical if they invoke the same method on the same target with the same parameter
+ * definitions (name, type, matching strategy and default value). Targets are compared by identity (ie: the same lambda
+ * instance) unless their class is stateless (declares no instance fields, including its superclasses), in which case
+ * any two instances of the class are interchangeable. Distinct instances of a class with fields (ie: a capturing
+ * lambda or a configured condition object) are never merged, even if they are equal. The results of identical
+ * Conditions are shared through the ConditionCache (see ConditionCache(UnaryOperator)).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class ConditionNetwork {
+
+    private static final ClassValue<Boolean> STATELESS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) return false;
+                }
+            }
+
+            return true;
+        }
+    };
+
+    private final Map<Condition, Condition> canonical;
+    private final int ruleCount;
+    private final int nodeCount;
+
+    private ConditionNetwork(Map<Condition, Condition> canonical, int ruleCount, int nodeCount) {
+        super();
+        this.canonical = canonical;
+        this.ruleCount = ruleCount;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Builds the condition network for the given Rules.
+     *
+     * @param rules rules of the RuleSet.
+     * @return condition network.
+     */
+    static ConditionNetwork build(List<Rule> rules) {
+        Assert.notNull(rules, "rules cannot be null.");
+        Map<Signature, Condition> nodes = new HashMap<>();
+        Map<Condition, Condition> canonical = new IdentityHashMap<>();
+
+        for (Rule rule : rules) {
+            add(rule.getPreCondition(), nodes, canonical);
+            add(rule.getCondition(), nodes, canonical);
+        }
+
+        return new ConditionNetwork(canonical, rules.size(), nodes.size());
+    }
+
+    private static void add(Condition condition, Map<Signature, Condition> nodes, Map<Condition, Condition> canonical) {
+        if (condition == null || canonical.containsKey(condition)) return;
+
+        if (condition instanceof CompositeCondition composite) {
+            for (Condition operand : composite.getOperands()) add(operand, nodes, canonical);
+            return;
+        }
+
+        // Only Conditions backed by a method can be compared
+        if (!(condition instanceof AbstractRunnable runnable)) return;
+
+        canonical.put(condition, nodes.computeIfAbsent(Signature.of(runnable), signature -> condition));
+    }
+
+    /**
+     * The canonical Condition of the given Condition.
+     *
+     * @param condition condition to look up.
+     * @return canonical Condition; the Condition itself if it is not part of the network.
+     */
+    Condition canonical(Condition condition) {
+        Condition result = canonical.get(condition);
+        return result != null ? result : condition;
+    }
+
+    /**
+     * Number of Rules the network was built from.
+     *
+     * @return rule count.
+     */
+    int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Number of distinct (leaf) Conditions in the network.
+     *
+     * @return distinct condition count.
+     */
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionNetwork{" +
+                "rules=" + ruleCount +
+                ", conditions=" + canonical.size() +
+                ", nodes=" + nodeCount +
+                '}';
+    }
+
+    private static final class Signature {
+
+        private final Method method;
+        // Target instance; or its class if the class is stateless
+        private final Object target;
+        private final List<String> parameters;
+
+        private Signature(Method method, Object target, List<String> parameters) {
+            super();
+            this.method = method;
+            this.target = target != null && STATELESS.get(target.getClass()) ? target.getClass() : target;
+            this.parameters = parameters;
+        }
+
+        static Signature of(AbstractRunnable runnable) {
+            List<String> parameters = new ArrayList<>();
+
+            for (ParameterDefinition parameter : runnable.getDefinition().getParameterDefinitions()) {
+                parameters.add(parameter.getName() + ":" + parameter.getTypeName() + ":" + parameter.getMatchUsing()
+                        + ":" + parameter.getDefaultValueText());
+            }
+
+            return new Signature(runnable.getDefinition().getMethod(), runnable.getTarget(), parameters);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Signature other)) return false;
+            // Targets are compared by identity; equal but distinct (stateful) targets may still hold different state
+            return target == other.target && method.equals(other.method) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, System.identityHashCode(target), parameters);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.context.RuleContext;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+import org.rulii.model.condition.ConditionCache;
+import org.rulii.rule.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * RuleSet execution strategy that evaluates each distinct Condition once per execution. The Conditions of the Rules
+ * are compiled into a shared network (see ConditionNetwork) and every execution gets its own ConditionCache keyed by
+ * the canonical Conditions; Rules that test the same predicate against the same Bindings read the shared result.
+ * A predicate is "the same" if it is the same lambda (or condition object) instance, or an instance of the same
+ * stateless class; separately created instances of a capturing lambda or a class with fields are evaluated separately.
+ *
+ * Results are invalidated as soon as one of the Bindings they depend on changes (see ConditionCache). Rules are
+ * otherwise run exactly as the default strategy runs them.
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class ConditionNetworkRuleSetExecutionStrategy<T> extends DefaultRuleSetExecutionStrategy<T> {
+
+    private final Map<RuleSet<?>, ConditionNetwork> networks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public ConditionNetworkRuleSetExecutionStrategy() {
+        super();
+    }
+
+    @Override
+    public T run(RuleSet<?> ruleSet, RuleContext ruleContext) throws UnrulyException {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(ruleContext, "context cannot be null");
+        ConditionNetwork network = getNetwork(ruleSet);
+        return super.run(ruleSet, ruleContext.withConditionCache(new ConditionCache(network::canonical)));
+    }
+
+    // Networks are cached per RuleSet instance
+    private ConditionNetwork getNetwork(RuleSet<?> ruleSet) {
+        ConditionNetwork result = networks.get(ruleSet);
+        List<Rule> rules = ruleSet.getRules();
+
+        if (result == null || result.getRuleCount() != rules.size()) {
+            result = ConditionNetwork.build(new ArrayList<>(rules));
+            networks.put(ruleSet, result);
+        }
+
+        return result;
+    }
+}
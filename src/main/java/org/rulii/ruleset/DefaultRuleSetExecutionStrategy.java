@@ -18,10 +18,12 @@
 package org.rulii.ruleset;
 
 import org.rulii.bind.NamedScope;
+import org.rulii.context.ExecutionCancelledException;
 import org.rulii.context.RuleContext;
 import org.rulii.lib.spring.core.NestedExceptionUtils;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
+import org.rulii.model.condition.ConditionCache;
 import org.rulii.rule.Rule;
 import org.rulii.rule.RuleResult;
 import org.rulii.validation.ValidationException;
@@ -44,6 +46,8 @@ public class DefaultRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategy
     @Override
     public T run(RuleSet<?> ruleSet, RuleContext ruleContext) throws UnrulyException {
         Assert.notNull(ruleContext, "context cannot be null");
+        // Do not start if we are already past the deadline
+        ruleContext.getDeadline().check();
         // Run the input validators first (if any)
         runInputValidators(ruleSet, ruleContext);
         // Continue to run the ruleset
@@ -52,6 +56,9 @@ public class DefaultRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategy
         NamedScope ruleSetScope = createRuleSetScope(ruleSet, ruleContext, ruleSetStatus);
         ruleContext.getTracer().fireOnRuleSetStart(ruleSet, ruleSetScope);
         if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] Execution. Scope [" +  ruleSetScope.getName() + "] created.");
+        // Memoized Condition results (if enabled) live until the outermost RuleSet completes
+        ConditionCache conditionCache = ruleContext.getConditionCache();
+        if (conditionCache != null) conditionCache.enter();
 
         try {
             // Run the PreCondition if there is one.
@@ -72,6 +79,9 @@ public class DefaultRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategy
             // Check if we got an expected ValidationException then rethrow it
             if (rootCause instanceof ValidationException) {
                 throw (ValidationException) rootCause;
+            } else if (rootCause instanceof ExecutionCancelledException) {
+                if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] execution stopped. " + rootCause.getMessage());
+                throw (ExecutionCancelledException) rootCause;
             } else {
                 getLogger().error("RuleSet [" + ruleSet.getName() + "] execution caused an error.", e);
                 ruleContext.getTracer().fireOnRuleSetError(ruleSet, ruleSetStatus, e);
@@ -80,6 +90,7 @@ public class DefaultRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategy
 
         } finally {
             removeRuleSetScope(ruleContext, ruleSetScope);
+            if (conditionCache != null) conditionCache.exit();
             ruleContext.getTracer().fireOnRuleSetEnd(ruleSet, ruleSetScope, ruleSetStatus);
             if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] Executed. Scope cleared.");
         }
@@ -98,6 +109,8 @@ public class DefaultRuleSetExecutionStrategy<T> extends RuleSetExecutionStrategy
         try {
             // Execute the rules/actions in order; STOP if the stopCondition is met.
             for (Rule rule : ruleSet.getRules()) {
+                // Stop if the deadline has expired (or the execution was cancelled)
+                ruleContext.getDeadline().check();
                 // Run the rule/action
                 if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] running rule [" + rule.getName() + "]");
                 RuleResult executionResult = rule.run(ruleContext);
@@ -0,0 +1,235 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.BindingListener;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.NamedScope;
+import org.rulii.context.RuleContext;
+import org.rulii.lib.apache.reflect.TypeUtils;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Forward-chaining RuleSet execution strategy. Rather than running the Rules once (top to bottom) the Rules are placed
+ * on an agenda and fired one at a time until the agenda is empty (a fixpoint is reached), the stop condition is met or
+ * the maximum number of cycles is exceeded.
+ *
+ * The agenda is a priority queue ordered by salience (highest first), then recency (most recently activated first) and
+ * then declaration order. Initially every Rule is on the agenda. Whenever a Binding value changes (or a new Binding is
+ * added) only the Rules that read the Binding (see RuleDependencyGraph) are put back on the agenda. A Rule is not
+ * re-activated by the changes it made itself.
+ *
+ * Every firing is recorded in the RuleSetExecutionStatus; a Rule may appear more than once.
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class ForwardChainingRuleSetExecutionStrategy<T> extends DefaultRuleSetExecutionStrategy<T> {
+
+    public static final int DEFAULT_MAX_CYCLES = 10_000;
+
+    private final int maxCycles;
+    private final ToIntFunction<Rule> salience;
+    private final Map<RuleSet<?>, RuleDependencyGraph> graphs = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public ForwardChainingRuleSetExecutionStrategy() {
+        this(DEFAULT_MAX_CYCLES, rule -> 0);
+    }
+
+    /**
+     * Creates a new forward-chaining strategy.
+     *
+     * @param maxCycles maximum number of Rule firings per execution.
+     * @param salience salience of each Rule; Rules with a higher salience fire first.
+     */
+    public ForwardChainingRuleSetExecutionStrategy(int maxCycles, ToIntFunction<Rule> salience) {
+        super();
+        Assert.isTrue(maxCycles > 0, "maxCycles must be > 0.");
+        Assert.notNull(salience, "salience cannot be null.");
+        this.maxCycles = maxCycles;
+        this.salience = salience;
+    }
+
+    @Override
+    protected void runRules(RuleSet<?> ruleSet, RuleContext ruleContext, RuleSetExecutionStatus status) {
+        // Run any PreAction if one is available.
+        runInitializer(ruleSet, ruleContext);
+        List<Rule> rules = ruleSet.getRules();
+        Agenda agenda = new Agenda(rules, getDependencyGraph(ruleSet, rules));
+        agenda.attach(ruleContext.getBindings());
+
+        try {
+            int cycles = 0;
+
+            for (int index = agenda.next(); index >= 0; index = agenda.next()) {
+                if (++cycles > maxCycles) {
+                    throw new UnrulyException("RuleSet [" + ruleSet.getName() + "] did not reach a fixpoint within ["
+                            + maxCycles + "] cycles.");
+                }
+
+                Rule rule = rules.get(index);
+                // Stop if the deadline has expired (or the execution was cancelled)
+                ruleContext.getDeadline().check();
+                // Fire the rule
+                if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] firing rule [" + rule.getName() + "]");
+                agenda.firing = index;
+                RuleResult executionResult;
+
+                try {
+                    executionResult = rule.run(ruleContext);
+                } finally {
+                    agenda.firing = -1;
+                }
+
+                status.add(executionResult);
+                // Fire Rule event
+                ruleContext.getTracer().fireOnRuleSetRuleRun(ruleSet, rule, executionResult, status);
+                // Check to see if we need to stop the execution?
+                if (ruleSet.getStopCondition() != null && ruleSet.getStopCondition().run(ruleContext)) {
+                    if (getLogger().isDebugEnabled()) getLogger().debug("Stopping RuleSet [" + ruleSet.getName() + "]. Stop condition met.");
+                    // Fire Stop event
+                    ruleContext.getTracer().fireOnRuleSetStop(ruleSet, ruleSet.getStopCondition(), status);
+                    break;
+                }
+            }
+        } finally {
+            agenda.detach();
+            // Run the Finalizer after executing the Rules
+            runFinalizer(ruleSet, ruleContext);
+        }
+    }
+
+    public int getMaxCycles() {
+        return maxCycles;
+    }
+
+    // Graphs are cached per RuleSet instance
+    private RuleDependencyGraph getDependencyGraph(RuleSet<?> ruleSet, List<Rule> rules) {
+        RuleDependencyGraph result = graphs.get(ruleSet);
+
+        if (result == null || result.size() != rules.size()) {
+            result = RuleDependencyGraph.build(new ArrayList<>(rules));
+            graphs.put(ruleSet, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Rules waiting to be fired. Listens to the Bindings (and their values) to re-activate the Rules that read them.
+     */
+    private final class Agenda implements BindingListener {
+
+        private final RuleDependencyGraph graph;
+        private final int[] saliences;
+        private final boolean[] queued;
+        private final PriorityQueue<Activation> queue;
+        private final Set<Binding<?>> watchedBindings = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<Bindings> watchedScopes = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long sequence = 0;
+        private int firing = -1;
+
+        private Agenda(List<Rule> rules, RuleDependencyGraph graph) {
+            super();
+            this.graph = graph;
+            this.saliences = new int[rules.size()];
+            this.queued = new boolean[rules.size()];
+            this.queue = new PriorityQueue<>(Math.max(1, rules.size()));
+
+            for (int i = 0; i < saliences.length; i++) saliences[i] = salience.applyAsInt(rules.get(i));
+            // Initial activations are fired in declaration order (within the same salience)
+            for (int i = saliences.length - 1; i >= 0; i--) activate(i);
+        }
+
+        void attach(Bindings bindings) {
+            if (!watchedScopes.add(bindings)) return;
+            bindings.addBindingListener(this);
+            for (Binding<?> binding : bindings) watch(binding);
+        }
+
+        void detach() {
+            for (Bindings bindings : watchedScopes) bindings.removeBindingListener(this);
+            for (Binding<?> binding : watchedBindings) binding.removeValueListener(this);
+            watchedScopes.clear();
+            watchedBindings.clear();
+        }
+
+        private void watch(Binding<?> binding) {
+            // New Bindings already get the value listener from the Bindings they were added to
+            if (watchedBindings.add(binding) && !binding.getBindingValueListeners().contains(this)) {
+                binding.addValueListener(this);
+            }
+        }
+
+        synchronized int next() {
+            Activation activation = queue.poll();
+            if (activation == null) return -1;
+            queued[activation.index] = false;
+            return activation.index;
+        }
+
+        private synchronized void activate(int index) {
+            if (queued[index]) return;
+            queued[index] = true;
+            queue.add(new Activation(index, saliences[index], sequence++));
+        }
+
+        private void changed(Binding<?> binding) {
+            Class<?> type = binding.getType() != null ? TypeUtils.getRawType(binding.getType(), null) : null;
+
+            for (int i = 0; i < saliences.length; i++) {
+                if (i != firing && graph.reads(i, binding.getName(), type)) activate(i);
+            }
+        }
+
+        @Override
+        public void onChange(Binding<?> binding, Object oldValue, Object newValue) {
+            if (!Objects.equals(oldValue, newValue)) changed(binding);
+        }
+
+        @Override
+        public void onBind(Binding<?> binding) {
+            watch(binding);
+            changed(binding);
+        }
+
+        @Override
+        public void onScopeAdd(NamedScope scope) {
+            attach(scope.getBindings());
+        }
+    }
+
+    private record Activation(int index, int salience, long sequence) implements Comparable<Activation> {
+
+        @Override
+        public int compareTo(Activation other) {
+            if (salience != other.salience) return Integer.compare(other.salience, salience);
+            if (sequence != other.sequence) return Long.compare(other.sequence, sequence);
+            return Integer.compare(index, other.index);
+        }
+    }
+}
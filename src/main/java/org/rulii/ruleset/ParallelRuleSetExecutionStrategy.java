@@ -0,0 +1,228 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.context.RuleContext;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * RuleSet execution strategy that runs independent Rules concurrently. The dependencies between the Rules are derived
+ * from their parameters (see RuleDependencyGraph); a Rule only starts once all the earlier Rules it depends on have
+ * finished.
+ *
+ * Results are merged into the RuleSetExecutionStatus (and reported to the Tracer) in declaration order and the stop
+ * condition is checked after each merged result just like the sequential strategy. Once the stop condition is met no
+ * new Rules are started. When the RuleSet has a stop condition only read-only Rules run ahead of it (their results are
+ * discarded if an earlier Rule stops the execution); Rules that write (have Binding parameters) or cannot be analyzed
+ * wait until all the earlier Rules have been merged and the stop condition has been checked.
+ *
+ * Rules share the RuleContext; any values they mutate (other than through Binding parameters) must be thread-safe.
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class ParallelRuleSetExecutionStrategy<T> extends DefaultRuleSetExecutionStrategy<T> {
+
+    private final ForkJoinPool pool;
+    private final Map<RuleSet<?>, RuleDependencyGraph> graphs = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public ParallelRuleSetExecutionStrategy() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelRuleSetExecutionStrategy(ForkJoinPool pool) {
+        super();
+        Assert.notNull(pool, "pool cannot be null.");
+        this.pool = pool;
+    }
+
+    @Override
+    protected void runRules(RuleSet<?> ruleSet, RuleContext ruleContext, RuleSetExecutionStatus status) {
+        // Run any PreAction if one is available.
+        runInitializer(ruleSet, ruleContext);
+
+        try {
+            List<Rule> rules = new ArrayList<>(ruleSet.getRules());
+            Execution execution = new Execution(ruleSet, rules, ruleContext, status);
+            RuleDependencyGraph graph = getDependencyGraph(ruleSet, rules);
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[rules.size()];
+
+            for (int i = 0; i < futures.length; i++) {
+                int index = i;
+                List<CompletableFuture<?>> dependencies = new ArrayList<>();
+                Arrays.stream(graph.getDependencies(i)).forEach(d -> dependencies.add(futures[d]));
+                // Writers must not run ahead of the stop condition
+                if (ruleSet.getStopCondition() != null && graph.writes(i)) dependencies.add(execution.merged[i]);
+                CompletableFuture<?> trigger = dependencies.isEmpty()
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new));
+                futures[i] = trigger.handleAsync((v, e) -> execution.run(index), pool);
+            }
+
+            CompletableFuture.allOf(futures).join();
+            execution.rethrow();
+        } finally {
+            // Run the Finalizer after executing the Rules
+            runFinalizer(ruleSet, ruleContext);
+        }
+    }
+
+    // Graphs are cached per RuleSet instance
+    private RuleDependencyGraph getDependencyGraph(RuleSet<?> ruleSet, List<Rule> rules) {
+        RuleDependencyGraph result = graphs.get(ruleSet);
+
+        if (result == null || result.size() != rules.size()) {
+            result = RuleDependencyGraph.build(rules);
+            graphs.put(ruleSet, result);
+        }
+
+        return result;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * State of a single RuleSet execution. Rules finish in any order; their results are merged (in order) as soon as
+     * all the earlier Rules have been merged.
+     */
+    private final class Execution {
+
+        private final RuleSet<?> ruleSet;
+        private final List<Rule> rules;
+        private final RuleContext ruleContext;
+        private final RuleSetExecutionStatus status;
+        private final RuleResult[] results;
+        private final Throwable[] errors;
+        private final boolean[] completed;
+        // merged[i] completes once all the Rules before i have been merged (or the execution has stopped)
+        private final CompletableFuture<?>[] merged;
+        private int cursor = 0;
+        private int released = 0;
+        private volatile boolean stopped = false;
+        private volatile Throwable failure;
+
+        private Execution(RuleSet<?> ruleSet, List<Rule> rules, RuleContext ruleContext, RuleSetExecutionStatus status) {
+            super();
+            this.ruleSet = ruleSet;
+            this.rules = rules;
+            this.ruleContext = ruleContext;
+            this.status = status;
+            this.results = new RuleResult[rules.size()];
+            this.errors = new Throwable[rules.size()];
+            this.completed = new boolean[rules.size()];
+            this.merged = new CompletableFuture<?>[rules.size()];
+            Arrays.setAll(merged, i -> new CompletableFuture<Void>());
+            release();
+        }
+
+        private Void run(int index) {
+            RuleResult result = null;
+            Throwable error = null;
+
+            if (!stopped) {
+                Rule rule = rules.get(index);
+
+                try {
+                    // Stop if the deadline has expired (or the execution was cancelled)
+                    ruleContext.getDeadline().check();
+                    if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] running rule [" + rule.getName() + "]");
+                    result = rule.run(ruleContext);
+                } catch (Throwable e) {
+                    error = e;
+                    // Do not start any more Rules
+                    stopped = true;
+                }
+            }
+
+            try {
+                complete(index, result, error);
+            } catch (Throwable e) {
+                // Stop condition (or a listener) failed
+                failure = e;
+                stopped = true;
+                release();
+            }
+
+            return null;
+        }
+
+        private synchronized void complete(int index, RuleResult result, Throwable error) {
+            results[index] = result;
+            errors[index] = error;
+            completed[index] = true;
+
+            // Merge all the contiguous results
+            while (cursor < results.length && completed[cursor]) {
+                RuleResult current = results[cursor];
+                if (errors[cursor] != null || current == null) break;
+
+                status.add(current);
+                cursor++;
+                // Fire Rule event
+                ruleContext.getTracer().fireOnRuleSetRuleRun(ruleSet, rules.get(cursor - 1), current, status);
+
+                // Check to see if we need to stop the execution?
+                if (ruleSet.getStopCondition() != null && ruleSet.getStopCondition().run(ruleContext)) {
+                    if (getLogger().isDebugEnabled()) getLogger().debug("Stopping RuleSet [" + ruleSet.getName() + "]. Stop condition met.");
+                    stopped = true;
+                    // Discard anything that ran ahead of the stop
+                    cursor = results.length;
+                    // Fire Stop event
+                    ruleContext.getTracer().fireOnRuleSetStop(ruleSet, ruleSet.getStopCondition(), status);
+                }
+            }
+
+            release();
+        }
+
+        // Lets the waiting Rules go once everything before them has been merged; all of them once the execution stops
+        private synchronized void release() {
+            int limit = stopped ? merged.length : Math.min(cursor + 1, merged.length);
+
+            while (released < limit) {
+                merged[released++].complete(null);
+            }
+        }
+
+        private synchronized void rethrow() {
+            if (failure != null) throw rethrow(failure, "Error trying to run RuleSet [" + ruleSet.getName() + "]");
+
+            // Report the first error (in declaration order) that was not preceded by a stop
+            for (int i = cursor; i < errors.length; i++) {
+                if (errors[i] != null) throw rethrow(errors[i], "Error trying to run Rule [" + rules.get(i).getName() + "]");
+            }
+        }
+
+        private RuntimeException rethrow(Throwable error, String message) {
+            if (error instanceof RuntimeException e) return e;
+            if (error instanceof Error e) throw e;
+            return new UnrulyException(message, error);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.lib.apache.reflect.TypeUtils;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.MethodDefinition;
+import org.rulii.model.ParameterDefinition;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleDefinition;
+
+import java.util.*;
+
+/**
+ * Dependency graph (DAG) between the Rules of a RuleSet derived from the parameters of their conditions and actions.
+ *
+ * Every parameter is treated as a read of its name and its (raw) type; Binding parameters are additionally treated as
+ * writes. Parameters typed as Object (ie: lambda parameters whose generic type is erased) are only matched by name. Rule B depends on an earlier Rule A if one writes something the other reads or writes. Rules that take the
+ * Bindings, the RuleContext or the RuleSetExecutionStatus (or whose parameters cannot be analyzed) can read/write
+ * anything; they act as barriers and depend on (and are depended on by) every other Rule.
+ *
+ * Note that changes made through shared mutable values (as opposed to Bindings) cannot be detected.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class RuleDependencyGraph {
+
+    private static final Class<?>[] BARRIER_TYPES = {Bindings.class, RuleContext.class, RuleSetExecutionStatus.class};
+
+    private final int[][] dependencies;
+    private final RuleAccess[] accesses;
+
+    private RuleDependencyGraph(int[][] dependencies, RuleAccess[] accesses) {
+        super();
+        this.dependencies = dependencies;
+        this.accesses = accesses;
+    }
+
+    /**
+     * Builds the dependency graph for the given Rules. Dependencies always point to earlier Rules (declaration order).
+     *
+     * @param rules rules in declaration order.
+     * @return dependency graph.
+     */
+    static RuleDependencyGraph build(List<Rule> rules) {
+        Assert.notNull(rules, "rules cannot be null.");
+        int size = rules.size();
+        RuleAccess[] accesses = new RuleAccess[size];
+        int index = 0;
+
+        for (Rule rule : rules) {
+            accesses[index++] = RuleAccess.of(rule);
+        }
+
+        int[][] dependencies = new int[size][];
+        List<Integer> current = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            current.clear();
+
+            for (int j = 0; j < i; j++) {
+                if (accesses[i].conflicts(accesses[j])) current.add(j);
+            }
+
+            dependencies[i] = current.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new RuleDependencyGraph(dependencies, accesses);
+    }
+
+    /**
+     * Indexes of the (earlier) Rules the given Rule depends on.
+     *
+     * @param index rule index.
+     * @return dependencies; never null.
+     */
+    int[] getDependencies(int index) {
+        return dependencies[index];
+    }
+
+    /**
+     * Determines whether the given Rule (may) read a Binding with the given name and type. Parameters typed as Object
+     * (ie: lambda Binding parameters whose generic type is erased) are only matched by name.
+     *
+     * @param index rule index.
+     * @param name binding name.
+     * @param type (raw) binding type.
+     * @return true if the Rule reads the Binding (or reads anything).
+     */
+    boolean reads(int index, String name, Class<?> type) {
+        RuleAccess access = accesses[index];
+        if (access.barrier || access.readNames.contains(name)) return true;
+        if (type == null || type == Object.class) return false;
+
+        for (Class<?> read : access.readTypes) {
+            if (read != Object.class && (read.isAssignableFrom(type) || type.isAssignableFrom(read))) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether the given Rule (may) write to the Bindings, ie: it has Binding parameters or it cannot be
+     * analyzed.
+     *
+     * @param index rule index.
+     * @return true if the Rule is not read-only.
+     */
+    boolean writes(int index) {
+        RuleAccess access = accesses[index];
+        return access.barrier || !access.writeNames.isEmpty();
+    }
+
+    /**
+     * Number of Rules in the graph.
+     *
+     * @return rule count.
+     */
+    int size() {
+        return dependencies.length;
+    }
+
+    private static final class RuleAccess {
+
+        private final boolean barrier;
+        private final Set<String> readNames = new HashSet<>();
+        private final Set<String> writeNames = new HashSet<>();
+        private final Set<Class<?>> readTypes = new HashSet<>();
+        private final Set<Class<?>> writeTypes = new HashSet<>();
+
+        private RuleAccess(RuleDefinition definition) {
+            super();
+            this.barrier = definition == null || !collect(definition);
+        }
+
+        static RuleAccess of(Rule rule) {
+            return new RuleAccess(rule.getDefinition());
+        }
+
+        private boolean collect(RuleDefinition definition) {
+            List<MethodDefinition> methods = new ArrayList<>();
+            if (definition.getPreConditionDefinition() != null) methods.add(definition.getPreConditionDefinition());
+            if (definition.getConditionDefinition() != null) methods.add(definition.getConditionDefinition());
+            if (definition.getThenActionDefinitions() != null) methods.addAll(definition.getThenActionDefinitions());
+            if (definition.getOtherwiseActionDefinition() != null) methods.add(definition.getOtherwiseActionDefinition());
+
+            for (MethodDefinition method : methods) {
+                for (ParameterDefinition parameter : method.getParameterDefinitions()) {
+                    if (!collect(parameter)) return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean collect(ParameterDefinition parameter) {
+            Class<?> type = TypeUtils.getRawType(parameter.isBindingType() || parameter.isOptionalType()
+                    ? parameter.getUnderlyingType() : parameter.getType(), null);
+
+            if (type == null || parameter.getName() == null) return false;
+
+            for (Class<?> barrierType : BARRIER_TYPES) {
+                if (barrierType.isAssignableFrom(type)) return false;
+            }
+
+            readNames.add(parameter.getName());
+            readTypes.add(type);
+
+            if (parameter.isBindingType()) {
+                writeNames.add(parameter.getName());
+                writeTypes.add(type);
+            }
+
+            return true;
+        }
+
+        boolean conflicts(RuleAccess other) {
+            if (barrier || other.barrier) return true;
+            return intersects(writeNames, other.readNames) || intersects(other.writeNames, readNames)
+                    || isAssignable(writeTypes, other.readTypes) || isAssignable(other.writeTypes, readTypes);
+        }
+
+        private static boolean intersects(Set<String> a, Set<String> b) {
+            if (a.isEmpty() || b.isEmpty()) return false;
+
+            for (String value : a) {
+                if (b.contains(value)) return true;
+            }
+
+            return false;
+        }
+
+        private static boolean isAssignable(Set<Class<?>> writes, Set<Class<?>> reads) {
+            for (Class<?> write : writes) {
+                // Object (ie: erased lambda Binding parameters) is only matched by name
+                if (write == Object.class) continue;
+
+                for (Class<?> read : reads) {
+                    if (read != Object.class && (write.isAssignableFrom(read) || read.isAssignableFrom(write))) return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -17,7 +17,10 @@
  */
 package org.rulii.ruleset;
 
+import org.rulii.bind.Bindings;
 import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextBuilder;
+import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.Runnable;
 import org.rulii.model.*;
 import org.rulii.model.action.Action;
@@ -29,6 +32,9 @@ import org.rulii.validation.ValidationRule;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a collection of Rules that can be executed together, typically in a specific sequence or according
@@ -84,6 +90,63 @@ public interface RuleSet<T> extends Runnable<T>, Identifiable, Iterable<Rule>, D
      */
     CompletableFuture<T> runAsync(RuleContext ruleContext, long timeOut, TimeUnit timeUnit);
 
+    /**
+     * Runs the RuleSet once per fact set using the standard RuleContext settings. See
+     * {@link #runBatch(Iterable, RuleContextBuilder)}.
+     *
+     * @param facts fact sets to run the RuleSet with.
+     * @return results in the same order as the facts.
+     * @throws UnrulyException if an error occurs during rule execution.
+     */
+    default List<T> runBatch(Iterable<? extends Bindings> facts) throws UnrulyException {
+        return runBatch(facts, RuleContext.builder().standard());
+    }
+
+    /**
+     * Runs the RuleSet once per fact set. The fact sets are split across the available cores and each thread reuses a
+     * single RuleContext (built from the given template) rather than building one per fact set. The template is read
+     * once; each fact set runs with its own child of the template Deadline and its own Condition results.
+     *
+     * A failing fact set aborts the whole batch: its error is thrown and no results are returned (fact sets that are
+     * already running on other threads are allowed to complete). Errors must be handled inside the RuleSet if partial
+     * results are required.
+     *
+     * @param facts fact sets to run the RuleSet with.
+     * @param template RuleContext settings shared by all the executions.
+     * @return results in the same order as the facts.
+     * @throws UnrulyException if an error occurs during rule execution.
+     */
+    default List<T> runBatch(Iterable<? extends Bindings> facts, RuleContextBuilder template) throws UnrulyException {
+        Assert.notNull(facts, "facts cannot be null.");
+        return runBatch(StreamSupport.stream(facts.spliterator(), false), template).collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily runs the RuleSet once per fact set. The returned Stream is parallel (call sequential() on it to run the
+     * fact sets one at a time); each thread reuses a single RuleContext built from a snapshot of the given template.
+     * An error thrown by one of the fact sets is propagated by the terminal operation of the Stream.
+     *
+     * @param facts fact sets to run the RuleSet with.
+     * @param template RuleContext settings shared by all the executions.
+     * @return stream of results (in encounter order of the facts).
+     */
+    default Stream<T> runBatch(Stream<? extends Bindings> facts, RuleContextBuilder template) {
+        Assert.notNull(facts, "facts cannot be null.");
+        RuleSetBatchRunner<T> runner = new RuleSetBatchRunner<>(this, template);
+        return facts.parallel().map(runner::run);
+    }
+
+    /**
+     * Creates a long-lived session that only re-runs the Rules whose inputs changed between runs.
+     *
+     * @param ruleContext context (and Bindings) the session runs with.
+     * @return new session.
+     * @see RuleSetSession
+     */
+    default RuleSetSession<T> session(RuleContext ruleContext) {
+        return new RuleSetSession<>(this, ruleContext);
+    }
+
     /**
      * Ruleset name.
      *
@@ -0,0 +1,103 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.bind.Bindings;
+import org.rulii.bind.NamedScope;
+import org.rulii.bind.ScopedBindings;
+import org.rulii.context.RuleContext;
+import org.rulii.context.Deadline;
+import org.rulii.context.RuleContextBuilder;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.condition.ConditionCache;
+
+/**
+ * Runs a RuleSet over many fact sets. Instead of building a new RuleContext per fact set, each thread builds a single
+ * RuleContext and the fact set of each item is swapped in/out as its global scope. The template is only read once (when
+ * the runner is created); the threads copy their settings from that snapshot so later changes to the template do not
+ * affect the batch. All the services (matching strategy, resolvers, tracer etc) are shared. The RuleSet is run using
+ * the given RuleSetExecutionStrategy (if one is provided) or the RuleSet's own.
+ *
+ * Per execution state does not cross items: each item runs with its own child of the template Deadline (so cancelling
+ * one item does not cancel the rest) and the memoized Condition results are cleared once the item completes.
+ *
+ * A failing item does not leave anything behind in the thread's RuleContext; the error is rethrown to the caller.
+ *
+ * Note that all the items run on the same thread share the RuleContext id and creation time.
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+final class RuleSetBatchRunner<T> {
+
+    private final RuleSet<T> ruleSet;
+    private final RuleSetExecutionStrategy<T> strategy;
+    private final RuleContext prototype;
+    private final ThreadLocal<RuleContext> contexts;
+
+    RuleSetBatchRunner(RuleSet<T> ruleSet, RuleContextBuilder template) {
+        this(ruleSet, template, null);
+    }
+
+    RuleSetBatchRunner(RuleSet<T> ruleSet, RuleContextBuilder template, RuleSetExecutionStrategy<T> strategy) {
+        super();
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(template, "template cannot be null.");
+        this.ruleSet = ruleSet;
+        this.strategy = strategy;
+        // Builders are not thread-safe; take a single snapshot rather than building from the template on each thread
+        synchronized (template) {
+            this.prototype = template.build();
+        }
+
+        this.contexts = ThreadLocal.withInitial(() -> createContext(prototype));
+    }
+
+    /**
+     * Runs the RuleSet with the given facts as the global scope.
+     *
+     * @param facts facts of the current item.
+     * @return RuleSet result.
+     */
+    T run(Bindings facts) {
+        Assert.notNull(facts, "facts cannot be null.");
+        RuleContext ruleContext = contexts.get();
+        ScopedBindings bindings = ruleContext.getBindings();
+        Deadline deadline = prototype.getDeadline();
+        if (deadline != Deadline.none()) ruleContext = ruleContext.withDeadline(deadline.child());
+        NamedScope globalScope = bindings.addScope(ScopedBindings.GLOBAL_SCOPE, facts);
+
+        try {
+            return strategy != null ? strategy.run(ruleSet, ruleContext) : ruleSet.run(ruleContext);
+        } finally {
+            // Removes anything that may have been left above as well
+            bindings.removeScope(globalScope);
+            ConditionCache conditionCache = ruleContext.getConditionCache();
+            if (conditionCache != null) conditionCache.clear();
+        }
+    }
+
+    private static RuleContext createContext(RuleContext prototype) {
+        RuleContext result = RuleContext.builder().with(prototype).build();
+        // Global scope is supplied per item
+        result.getBindings().removeScope(ScopedBindings.GLOBAL_SCOPE);
+        return result;
+    }
+}
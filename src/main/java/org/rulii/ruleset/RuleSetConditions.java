@@ -44,7 +44,7 @@ public final class RuleSetConditions {
      */
     public static Condition stopOnPassCount(int count) {
         return Condition.builder().with((RuleSetExecutionStatus ruleSetResult) ->
-                ruleSetResult.getPassed().size() >= count
+                ruleSetResult.getPassedCount() >= count
         )
                 .param(0)
                     .matchUsing(MatchByTypeMatchingStrategy.class)
@@ -69,7 +69,7 @@ public final class RuleSetConditions {
      */
     public static Condition stopOnFailCount(int count) {
         return Condition.builder().with((RuleSetExecutionStatus ruleSetResult) ->
-                        ruleSetResult.getFailed().size() >= count
+                        ruleSetResult.getFailedCount() >= count
                 )
                 .param(0)
                     .matchUsing(MatchByTypeMatchingStrategy.class)
@@ -94,7 +94,7 @@ public final class RuleSetConditions {
      */
     public static Condition stopOnSkipCount(int count) {
         return Condition.builder().with((RuleSetExecutionStatus ruleSetResult) ->
-                        ruleSetResult.getSkipped().size() >= count
+                        ruleSetResult.getSkippedCount() >= count
                 )
                 .param(0)
                     .matchUsing(MatchByTypeMatchingStrategy.class)
@@ -27,25 +27,39 @@ import java.util.function.Predicate;
 /**
  * Represents the execution status of a rule set.
  *
+ * The results are kept in an append-only array along with running counts per RuleExecutionStatus; the last result
+ * and the pass/fail/skip counts are therefore O(1) which keeps the (per rule) stop condition checks cheap.
+ *
  * @author Max Arulananthan
  * @since 1.0
  */
 public class RuleSetExecutionStatus implements Iterable<RuleResult> {
-    private final List<RuleResult> statuses = Collections.synchronizedList(new LinkedList<>());
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private RuleResult[] statuses = new RuleResult[INITIAL_CAPACITY];
+    private int size = 0;
+    private final int[] counts = new int[RuleExecutionStatus.values().length];
     private boolean preConditionCheck = false;
 
     public RuleSetExecutionStatus() {
         super();
     }
 
-    public void add(RuleResult result) {
+    public synchronized void add(RuleResult result) {
         Assert.notNull(result, "result cannot be null.");
-        statuses.add(result);
+        Assert.notNull(result.status(), "result.status cannot be null.");
+
+        if (size == statuses.length) {
+            statuses = Arrays.copyOf(statuses, size << 1);
+        }
+
+        statuses[size++] = result;
+        counts[result.status().ordinal()]++;
     }
 
-    public RuleResult getLastResult() {
-        int size = size();
-        return size > 0 ? statuses.get(size - 1) : null;
+    public synchronized RuleResult getLastResult() {
+        return size > 0 ? statuses[size - 1] : null;
     }
 
     public List<RuleResult> getRuleResult(String ruleName) {
@@ -73,51 +87,97 @@ public class RuleSetExecutionStatus implements Iterable<RuleResult> {
         return getRuleResults(RuleExecutionStatus.SKIPPED);
     }
 
-    public RuleResult get(int index) {
-        return statuses.get(index);
+    /**
+     * Number of rules that passed so far.
+     *
+     * @return pass count.
+     */
+    public int getPassedCount() {
+        return getCount(RuleExecutionStatus.PASS);
+    }
+
+    /**
+     * Number of rules that failed so far.
+     *
+     * @return fail count.
+     */
+    public int getFailedCount() {
+        return getCount(RuleExecutionStatus.FAIL);
+    }
+
+    /**
+     * Number of rules that were skipped so far.
+     *
+     * @return skip count.
+     */
+    public int getSkippedCount() {
+        return getCount(RuleExecutionStatus.SKIPPED);
+    }
+
+    /**
+     * Number of results that have any one of the given statuses.
+     *
+     * @param statuses desired statuses.
+     * @return result count.
+     */
+    public synchronized int getCount(RuleExecutionStatus...statuses) {
+        if (statuses == null) return 0;
+        if (statuses.length == 1) return counts[statuses[0].ordinal()];
+
+        int result = 0;
+
+        for (RuleExecutionStatus status : toSet(statuses)) {
+            result += counts[status.ordinal()];
+        }
+
+        return result;
+    }
+
+    public synchronized RuleResult get(int index) {
+        Objects.checkIndex(index, size);
+        return statuses[index];
     }
 
     public boolean isAllPass() {
-        return isTrue(r -> r.status().isPass());
+        return isTrue(RuleExecutionStatus.PASS);
     }
 
     public boolean isAllPassOrSkip() {
-        return isTrue(r -> r.status().isPass() || r.status().isSkipped());
+        return isTrue(RuleExecutionStatus.PASS, RuleExecutionStatus.SKIPPED);
     }
 
     public boolean isAnyPass() {
-        return isTrue(r -> !r.status().isPass());
+        return getPassedCount() > 0;
     }
 
     public boolean isAnySkip() {
-        return isTrue(r -> !r.status().isSkipped());
+        return getSkippedCount() > 0;
     }
 
     public boolean isAllSkip() {
-        return isTrue(r -> r.status().isSkipped());
+        return isTrue(RuleExecutionStatus.SKIPPED);
     }
 
     public boolean isAllFail() {
-        return isTrue(r -> r.status().isFail());
+        return isTrue(RuleExecutionStatus.FAIL);
     }
 
     public boolean isAnyFail() {
-        return isTrue(r -> !r.status().isFail());
+        return getFailedCount() > 0;
     }
 
     public boolean isAllFailOrSkip() {
-        return isTrue(r -> r.status().isFail() || r.status().isSkipped());
+        return isTrue(RuleExecutionStatus.FAIL, RuleExecutionStatus.SKIPPED);
     }
 
-    public boolean isTrue(RuleExecutionStatus...statuses) {
-        Set<RuleExecutionStatus> values = statuses != null ? new HashSet<>(Arrays.asList(statuses)) : new HashSet<>();
-        return isTrue(r -> values.contains(r.status()));
+    public synchronized boolean isTrue(RuleExecutionStatus...statuses) {
+        return getCount(statuses) == size;
     }
 
     public boolean isTrue(Predicate<RuleResult> predicate) {
         boolean result = true;
 
-        for (RuleResult ruleResult : statuses) {
+        for (RuleResult ruleResult : this) {
             if (!predicate.test(ruleResult)) {
                 result = false;
                 break;
@@ -128,14 +188,14 @@ public class RuleSetExecutionStatus implements Iterable<RuleResult> {
     }
 
     public List<RuleResult> getRuleResults(RuleExecutionStatus...statuses) {
-        Set<RuleExecutionStatus> values = statuses != null ? new HashSet<>(Arrays.asList(statuses)) : new HashSet<>();
+        Set<RuleExecutionStatus> values = toSet(statuses);
         return getRuleResults(r -> values.contains(r.status()));
     }
 
     public List<RuleResult> getRuleResults(Predicate<RuleResult> predicate) {
         List<RuleResult> result = new ArrayList<>();
 
-        for (RuleResult ruleResult : statuses) {
+        for (RuleResult ruleResult : this) {
             if (predicate.test(ruleResult)) {
                 result.add(ruleResult);
             }
@@ -144,13 +204,27 @@ public class RuleSetExecutionStatus implements Iterable<RuleResult> {
         return Collections.unmodifiableList(result);
     }
 
+    /**
+     * Iterates over the results added up to this point. Results added afterwards are not seen by the iterator; the
+     * array is append-only so no copy is required.
+     *
+     * @return results iterator.
+     */
     @Override
     public Iterator<RuleResult> iterator() {
-        return statuses.iterator();
+        RuleResult[] values;
+        int count;
+
+        synchronized (this) {
+            values = statuses;
+            count = size;
+        }
+
+        return Arrays.asList(values).subList(0, count).iterator();
     }
 
-    public int size() {
-        return statuses.size();
+    public synchronized int size() {
+        return size;
     }
 
     public boolean isPreConditionCheck() {
@@ -161,8 +235,14 @@ public class RuleSetExecutionStatus implements Iterable<RuleResult> {
         this.preConditionCheck = preConditionCheck;
     }
 
+    private static Set<RuleExecutionStatus> toSet(RuleExecutionStatus...statuses) {
+        Set<RuleExecutionStatus> result = EnumSet.noneOf(RuleExecutionStatus.class);
+        if (statuses != null) Collections.addAll(result, statuses);
+        return result;
+    }
+
     @Override
-    public String toString() {
-        return "pre = " + preConditionCheck + "; " + statuses;
+    public synchronized String toString() {
+        return "pre = " + preConditionCheck + "; " + Arrays.asList(statuses).subList(0, size);
     }
 }
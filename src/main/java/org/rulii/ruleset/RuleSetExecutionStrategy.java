@@ -19,8 +19,11 @@ package org.rulii.ruleset;
 
 import org.rulii.context.RuleContext;
 import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
 
 /**
  * An interface representing a strategy for executing a rule set.
@@ -52,6 +55,87 @@ public interface RuleSetExecutionStrategy<T> {
         return new AsyncRuleSetExecutionStrategy<>();
     }
 
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that runs the given strategy asynchronously on the
+     * RuleContext's ExecutorService.
+     *
+     * @param delegate strategy used to run the rule set.
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new RuleSetExecutionStrategy instance for asynchronous execution
+     */
+    static <T> RuleSetExecutionStrategy<CompletableFuture<T>> buildAsync(RuleSetExecutionStrategy<T> delegate) {
+        return new AsyncRuleSetExecutionStrategy<>(delegate);
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that runs independent rules concurrently on the
+     * common ForkJoinPool.
+     *
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new ParallelRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildParallel() {
+        return new ParallelRuleSetExecutionStrategy<>();
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that runs independent rules concurrently on the
+     * given ForkJoinPool.
+     *
+     * @param pool pool to run the rules on.
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new ParallelRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildParallel(ForkJoinPool pool) {
+        return new ParallelRuleSetExecutionStrategy<>(pool);
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that evaluates structurally identical Conditions
+     * (shared by many Rules) only once per execution.
+     *
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new ConditionNetworkRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildConditionNetwork() {
+        return new ConditionNetworkRuleSetExecutionStrategy<>();
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that adapts the order the rules are tried in (based
+     * on their cost and how often they meet the stop condition).
+     *
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new AdaptiveRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildAdaptive() {
+        return new AdaptiveRuleSetExecutionStrategy<>();
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that keeps firing the rules (forward-chaining)
+     * until no more rules are activated by Binding changes.
+     *
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new ForwardChainingRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildForwardChaining() {
+        return new ForwardChainingRuleSetExecutionStrategy<>();
+    }
+
+    /**
+     * Builds and returns a new instance of RuleSetExecutionStrategy that keeps firing the rules (forward-chaining)
+     * until no more rules are activated by Binding changes.
+     *
+     * @param maxCycles maximum number of rule firings per execution.
+     * @param salience salience of each rule; rules with a higher salience fire first.
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return a new ForwardChainingRuleSetExecutionStrategy instance
+     */
+    static <T> RuleSetExecutionStrategy<T> buildForwardChaining(int maxCycles, ToIntFunction<Rule> salience) {
+        return new ForwardChainingRuleSetExecutionStrategy<>(maxCycles, salience);
+    }
+
     /**
      * Executes a ruleSet based on the provided RuleContext.
      *
@@ -27,11 +27,10 @@ import org.rulii.lib.apache.commons.logging.LogFactory;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
 import org.rulii.rule.Rule;
+import org.rulii.util.IdGenerator;
 import org.rulii.validation.RuleViolations;
 import org.rulii.validation.ValidationException;
 
-import java.util.UUID;
-
 /**
  * An abstract class representing a template for executing a rule set.
  *
@@ -45,6 +44,23 @@ public abstract class RuleSetExecutionStrategyTemplate<T> implements RuleSetExec
 
     private static final Log logger = LogFactory.getLog(RuleSetExecutionStrategyTemplate.class);
 
+    // Whether the strategy class still overrides the (deprecated) getRuleSetScopeName(RuleSet)
+    private static final ClassValue<Boolean> LEGACY_SCOPE_NAME = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != RuleSetExecutionStrategyTemplate.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("getRuleSetScopeName", RuleSet.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Keep looking
+                }
+            }
+
+            return false;
+        }
+    };
+
     protected RuleSetExecutionStrategyTemplate() {
         super();
     }
@@ -102,7 +118,7 @@ public abstract class RuleSetExecutionStrategyTemplate<T> implements RuleSetExec
         Assert.notNull(ruleContext, "ruleContext cannot be null.");
         Assert.notNull(ruleResultSet, "ruleResultSet cannot be null.");
 
-        NamedScope result = ruleContext.getBindings().addScope(getRuleSetScopeName(ruleSet));
+        NamedScope result = ruleContext.getBindings().addScope(getRuleSetScopeName(ruleSet, ruleContext));
 
         if (!(result.getBindings() instanceof PromiscuousBinder bindings)) {
             throw new UnrulyException("IllegalState CurrentScope does not allow reserved keyword binding.");
@@ -121,15 +137,32 @@ public abstract class RuleSetExecutionStrategyTemplate<T> implements RuleSetExec
         return result;
     }
 
+    /**
+     * Retrieves the name of the scope for the rule set. Calls getRuleSetScopeName(RuleSet) if the strategy overrides it.
+     *
+     * @param ruleSet ruleSet to be executed.
+     * @param ruleContext the RuleContext whose IdGenerator is used to make the name unique.
+     * @return the scope name for the rule set
+     */
+    protected String getRuleSetScopeName(RuleSet<?> ruleSet, RuleContext ruleContext) {
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(ruleContext, "ruleContext cannot be null.");
+        if (LEGACY_SCOPE_NAME.get(getClass())) return getRuleSetScopeName(ruleSet);
+        return ruleSet.getName() + "-scope-" + ruleContext.getIdGenerator().generate();
+    }
+
     /**
      * Retrieves the name of the scope for the rule set.
      *
      * @param ruleSet ruleSet to be executed.
      * @return the scope name for the rule set
+     * @deprecated override {@link #getRuleSetScopeName(RuleSet, RuleContext)} instead; this method is still called if
+     * it is overridden.
      */
+    @Deprecated
     protected String getRuleSetScopeName(RuleSet<?> ruleSet) {
         Assert.notNull(ruleSet, "ruleSet cannot be null.");
-        return ruleSet.getName() + "-scope-" + UUID.randomUUID();
+        return ruleSet.getName() + "-scope-" + IdGenerator.sequential().generate();
     }
 
     /**
@@ -0,0 +1,326 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextBuilder;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Flow.Processor that runs a RuleSet for every item it receives and publishes the results (in the order the items
+ * were received). Items are converted into Bindings (facts) and the RuleSet is run on the given Executor.
+ *
+ * Backpressure: at most maxConcurrency items are outstanding at any point in time (running, or finished and waiting
+ * for the downstream to request them); more items are only requested from the upstream as results are delivered.
+ *
+ * Errors: the first RuleSet error (or null result, which cannot be published) cancels the upstream and is signalled
+ * to the downstream once all the preceding results have been delivered. Upstream errors are signalled once the
+ * outstanding items have been delivered.
+ *
+ * Only a single Subscriber is supported.
+ *
+ * @param <I> type of the incoming items.
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleSetProcessor<I, T> implements Flow.Processor<I, T> {
+
+    private final RuleSetBatchRunner<T> runner;
+    private final Function<? super I, ? extends Bindings> mapper;
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Map<Long, Completion<T>> completions = new HashMap<>();
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super T> downstream;
+    private long demand = 0;
+    private long pendingRequests = 0;
+    private long nextIndex = 0;
+    private long emitIndex = 0;
+    private int outstanding = 0;
+    private boolean upstreamDone = false;
+    private Throwable upstreamError;
+    private boolean done = false;
+
+    /**
+     * Creates a new RuleSetProcessor.
+     *
+     * @param ruleSet RuleSet to run per item.
+     * @param strategy strategy used to run the RuleSet.
+     * @param template RuleContext settings shared by all the executions; the RuleSet runs on its ExecutorService.
+     * @param mapper converts the incoming items to Bindings.
+     * @param maxConcurrency maximum number of outstanding items.
+     */
+    public RuleSetProcessor(RuleSet<T> ruleSet, RuleSetExecutionStrategy<T> strategy, RuleContextBuilder template,
+                            Function<? super I, ? extends Bindings> mapper, int maxConcurrency) {
+        this(ruleSet, strategy, template, mapper, maxConcurrency, template.getExecutorService());
+    }
+
+    /**
+     * Creates a new RuleSetProcessor.
+     *
+     * @param ruleSet RuleSet to run per item.
+     * @param strategy strategy used to run the RuleSet.
+     * @param template RuleContext settings shared by all the executions.
+     * @param mapper converts the incoming items to Bindings.
+     * @param maxConcurrency maximum number of outstanding items.
+     * @param executor executor to run the RuleSet on.
+     */
+    public RuleSetProcessor(RuleSet<T> ruleSet, RuleSetExecutionStrategy<T> strategy, RuleContextBuilder template,
+                            Function<? super I, ? extends Bindings> mapper, int maxConcurrency, Executor executor) {
+        super();
+        Assert.notNull(strategy, "strategy cannot be null.");
+        Assert.notNull(mapper, "mapper cannot be null.");
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0.");
+        Assert.notNull(executor, "executor cannot be null.");
+        this.runner = new RuleSetBatchRunner<>(ruleSet, template, strategy);
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a new RuleSetProcessor that consumes Bindings using the standard RuleContext settings.
+     *
+     * @param ruleSet RuleSet to run per item.
+     * @param maxConcurrency maximum number of outstanding items.
+     * @param <T> the type of the result generated by executing the rule set.
+     * @return new RuleSetProcessor.
+     */
+    public static <T> RuleSetProcessor<Bindings, T> of(RuleSet<T> ruleSet, int maxConcurrency) {
+        return new RuleSetProcessor<>(ruleSet, RuleSetExecutionStrategy.build(), RuleContext.builder().standard(),
+                bindings -> bindings, maxConcurrency);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Assert.notNull(subscription, "subscription cannot be null.");
+
+        synchronized (this) {
+            if (upstream == null && !done) {
+                upstream = subscription;
+                subscription = null;
+            }
+        }
+
+        // Already subscribed (or done)
+        if (subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void onNext(I item) {
+        Assert.notNull(item, "item cannot be null.");
+        long index;
+
+        synchronized (this) {
+            if (done) return;
+            pendingRequests--;
+            outstanding++;
+            index = nextIndex++;
+        }
+
+        try {
+            executor.execute(() -> run(index, item));
+        } catch (Exception e) {
+            complete(index, null, e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (this) {
+            upstreamDone = true;
+            upstreamError = throwable;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamDone = true;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Assert.notNull(subscriber, "subscriber cannot be null.");
+        boolean accepted;
+
+        synchronized (this) {
+            accepted = downstream == null;
+            if (accepted) downstream = subscriber;
+        }
+
+        if (!accepted) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override public void request(long n) {}
+                @Override public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("RuleSetProcessor only supports a single Subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(new Subscription());
+        drain();
+    }
+
+    private void run(long index, I item) {
+        try {
+            T result = runner.run(mapper.apply(item));
+            complete(index, result, result == null ? new UnrulyException("RuleSet returned null; nulls cannot be published.") : null);
+        } catch (Throwable e) {
+            complete(index, null, e);
+        }
+    }
+
+    private void complete(long index, T result, Throwable error) {
+        synchronized (this) {
+            completions.put(index, new Completion<>(result, error));
+        }
+
+        drain();
+    }
+
+    /**
+     * Delivers the completed results (in order) as far as the downstream demand allows and requests more items from
+     * the upstream. Only one thread drains at a time; signals arriving while draining cause another pass.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+
+        do {
+            List<T> results = new ArrayList<>();
+            Throwable error = null;
+            boolean complete = false;
+            boolean cancelUpstream = false;
+            long request = 0;
+            Flow.Subscriber<? super T> subscriber;
+            Flow.Subscription subscription;
+
+            synchronized (this) {
+                subscriber = downstream;
+                subscription = upstream;
+                if (done || subscriber == null) continue;
+
+                while (completions.containsKey(emitIndex)) {
+                    // Errors do not need any demand
+                    if (demand == 0 && completions.get(emitIndex).error() == null) break;
+                    Completion<T> completion = completions.remove(emitIndex++);
+                    outstanding--;
+
+                    if (completion.error() != null) {
+                        error = completion.error();
+                        break;
+                    }
+
+                    results.add(completion.result());
+                    demand--;
+                }
+
+                if (error == null && upstreamDone && outstanding == 0) {
+                    error = upstreamError;
+                    complete = error == null;
+                }
+
+                if (error != null || complete) {
+                    cancelUpstream = !upstreamDone;
+                    done = true;
+                    completions.clear();
+                } else if (!upstreamDone && subscription != null) {
+                    request = maxConcurrency - outstanding - pendingRequests;
+                    if (request > 0) pendingRequests += request;
+                }
+            }
+
+            for (T result : results) {
+                subscriber.onNext(result);
+            }
+
+            if (error != null) {
+                if (subscription != null && cancelUpstream) subscription.cancel();
+                subscriber.onError(error);
+            } else if (complete) {
+                subscriber.onComplete();
+            } else if (request > 0) {
+                subscription.request(request);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void cancel() {
+        Flow.Subscription subscription;
+
+        synchronized (this) {
+            if (done) return;
+            done = true;
+            completions.clear();
+            subscription = upstream;
+        }
+
+        if (subscription != null) subscription.cancel();
+    }
+
+    private record Completion<T>(T result, Throwable error) {}
+
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                Flow.Subscriber<? super T> subscriber = downstream;
+                cancel();
+                subscriber.onError(new IllegalArgumentException("request must be greater than 0 [" + n + "]"));
+                return;
+            }
+
+            synchronized (RuleSetProcessor.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            RuleSetProcessor.this.cancel();
+        }
+    }
+}
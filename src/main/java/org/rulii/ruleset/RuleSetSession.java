@@ -0,0 +1,357 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.ruleset;
+
+import org.rulii.bind.Binding;
+import org.rulii.bind.BindingListener;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.ImmutableBinding;
+import org.rulii.bind.ReservedBindings;
+import org.rulii.bind.match.BindingMatchingStrategy;
+import org.rulii.bind.match.ParameterMatch;
+import org.rulii.bind.match.ParameterResolver;
+import org.rulii.context.RuleContext;
+import org.rulii.convert.ConverterRegistry;
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.AbstractRunnable;
+import org.rulii.model.MethodDefinition;
+import org.rulii.model.Runnable;
+import org.rulii.model.UnrulyException;
+import org.rulii.model.condition.CompositeCondition;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.util.reflect.ObjectFactory;
+
+import java.util.*;
+
+/**
+ * Long-lived RuleSet execution that only re-runs the Rules whose inputs changed. The first run executes every Rule;
+ * afterwards each Rule is re-run only if one of the Bindings it read (as matched to the parameters of its conditions
+ * and actions while it last ran) changed value since it last ran. The remaining Rules reuse their previous results.
+ * Only the parameters that were actually matched count as reads; ie: the operands of a composite condition that were
+ * short-circuited, or the actions that did not run.
+ *
+ * The session listens to the Bindings of the RuleContext (BindingValueListener/BindingListener). Rules that take the
+ * RuleContext, the Bindings or any other reserved Binding (or whose parameters cannot be analyzed) are re-run every
+ * time. Changes made inside a value (ie: a mutable fact) are not visible to the session; use invalidate() after such
+ * changes. Sessions are not thread-safe; close the session once it is no longer needed to detach the listeners.
+ *
+ * <pre>
+ * RuleSetSession&lt;RuleSetExecutionStatus&gt; session = ruleSet.session(RuleContext.builder().build(cart));
+ * session.run();
+ * cart.setValue("total", 150);
+ * session.run(); // only the Rules that read "total" are re-run
+ * </pre>
+ *
+ * @param <T> the type of the result generated by executing the rule set.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleSetSession<T> implements AutoCloseable {
+
+    private final RuleSet<?> ruleSet;
+    private final RuleContext ruleContext;
+    private final List<Rule> rules;
+    private final RuleResult[] results;
+    private final boolean[] dirty;
+    private final Reads[] reads;
+    private final Tracker tracker = new Tracker();
+    private final TrackingParameterResolver resolver;
+    private final IncrementalStrategy strategy = new IncrementalStrategy();
+    private RuleSetExecutionStatus status;
+    private long reruns = 0;
+    private boolean closed = false;
+
+    public RuleSetSession(RuleSet<?> ruleSet, RuleContext ruleContext) {
+        super();
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(ruleContext, "ruleContext cannot be null.");
+        this.ruleSet = ruleSet;
+        this.ruleContext = ruleContext;
+        this.rules = new ArrayList<>(ruleSet.getRules());
+        this.results = new RuleResult[rules.size()];
+        this.dirty = new boolean[rules.size()];
+        this.reads = new Reads[rules.size()];
+        Arrays.fill(dirty, true);
+        this.resolver = new TrackingParameterResolver(ruleContext.getParameterResolver());
+        tracker.attach(ruleContext.getBindings());
+    }
+
+    /**
+     * Runs the RuleSet; only the Rules whose inputs changed since the last run are re-run.
+     *
+     * @return result of the RuleSet.
+     * @throws UnrulyException if an error occurs during rule execution.
+     */
+    public T run() throws UnrulyException {
+        Assert.isTrue(!closed, "RuleSetSession is closed.");
+        return strategy.run(ruleSet, ruleContext);
+    }
+
+    /**
+     * Marks all the Rules as changed; they will all be re-run on the next run.
+     */
+    public void invalidate() {
+        Arrays.fill(dirty, true);
+    }
+
+    /**
+     * Rules that will be re-run on the next run.
+     *
+     * @return changed rules (in declaration order).
+     */
+    public List<Rule> getDirtyRules() {
+        List<Rule> result = new ArrayList<>();
+
+        for (int i = 0; i < rules.size(); i++) {
+            if (isDirty(i)) result.add(rules.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Status of the last run.
+     *
+     * @return last status; null if the session has not run yet.
+     */
+    public RuleSetExecutionStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Total number of Rules (re)run by this session.
+     *
+     * @return rule run count.
+     */
+    public long getRerunCount() {
+        return reruns;
+    }
+
+    public RuleContext getRuleContext() {
+        return ruleContext;
+    }
+
+    /**
+     * Detaches the session from the Bindings.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        tracker.detach();
+    }
+
+    private boolean isDirty(int index) {
+        return dirty[index] || results[index] == null || reads[index] == null || reads[index].always;
+    }
+
+    // Runs the dirty Rules and reuses the previous results of the remaining Rules
+    private final class IncrementalStrategy extends DefaultRuleSetExecutionStrategy<T> {
+
+        @Override
+        protected void runRules(RuleSet<?> ruleSet, RuleContext ruleContext, RuleSetExecutionStatus status) {
+            RuleSetSession.this.status = status;
+            // Run any PreAction if one is available.
+            runInitializer(ruleSet, ruleContext);
+
+            try {
+                for (int i = 0; i < rules.size(); i++) {
+                    Rule rule = rules.get(i);
+                    RuleResult executionResult = results[i];
+
+                    if (isDirty(i)) {
+                        // Stop if the deadline has expired (or the execution was cancelled)
+                        ruleContext.getDeadline().check();
+                        if (getLogger().isDebugEnabled()) getLogger().debug("RuleSet [" + ruleSet.getName() + "] re-running rule [" + rule.getName() + "]");
+                        dirty[i] = false;
+                        tracker.running = i;
+                        Reads ruleReads = Reads.of(rule);
+                        resolver.reads = ruleReads;
+                        boolean completed = false;
+
+                        try {
+                            // Run with a view of the context that records the Bindings matched to the parameters
+                            executionResult = rule.run(ruleContext.withParameterResolver(resolver));
+                            completed = true;
+                        } finally {
+                            tracker.running = -1;
+                            resolver.reads = null;
+                            // Failed Rules are re-run next time
+                            if (!completed) dirty[i] = true;
+                        }
+
+                        results[i] = executionResult;
+                        reads[i] = ruleReads;
+                        reruns++;
+                        ruleContext.getTracer().fireOnRuleSetRuleRun(ruleSet, rule, executionResult, status);
+                    }
+
+                    status.add(executionResult);
+                    // Check to see if we need to stop the execution?
+                    if (ruleSet.getStopCondition() != null && ruleSet.getStopCondition().run(ruleContext)) {
+                        if (getLogger().isDebugEnabled()) getLogger().debug("Stopping RuleSet [" + ruleSet.getName() + "]. Stop condition met.");
+                        ruleContext.getTracer().fireOnRuleSetStop(ruleSet, ruleSet.getStopCondition(), status);
+                        break;
+                    }
+                }
+            } finally {
+                // Run the Finalizer after executing the Rules
+                runFinalizer(ruleSet, ruleContext);
+            }
+        }
+    }
+
+    // Marks the Rules that read a changed Binding as dirty
+    private final class Tracker implements BindingListener {
+
+        private final Set<Binding<?>> watched = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Bindings bindings;
+        private int running = -1;
+
+        void attach(Bindings bindings) {
+            this.bindings = bindings;
+            bindings.addBindingListener(this);
+
+            for (Binding<?> binding : bindings) {
+                if (watched.add(binding)) binding.addValueListener(this);
+            }
+        }
+
+        void detach() {
+            bindings.removeBindingListener(this);
+            for (Binding<?> binding : watched) binding.removeValueListener(this);
+            watched.clear();
+        }
+
+        @Override
+        public void onChange(Binding<?> binding, Object oldValue, Object newValue) {
+            if (Objects.equals(oldValue, newValue)) return;
+
+            for (int i = 0; i < reads.length; i++) {
+                // A Rule is not invalidated by its own changes
+                if (i != running && reads[i] != null && reads[i].bindings.contains(binding)) dirty[i] = true;
+            }
+        }
+
+        @Override
+        public void onBind(Binding<?> binding) {
+            // The value listener is added by the Bindings itself
+            watched.add(binding);
+
+            // The new Binding may now be matched instead of the old one
+            for (int i = 0; i < reads.length; i++) {
+                if (i != running && reads[i] != null && reads[i].names.contains(binding.getName())) dirty[i] = true;
+            }
+        }
+    }
+
+    // Records the parameter matches of the Rule that is running
+    private static final class TrackingParameterResolver implements ParameterResolver {
+
+        private final ParameterResolver target;
+        private Reads reads;
+
+        TrackingParameterResolver(ParameterResolver target) {
+            super();
+            this.target = target;
+        }
+
+        @Override
+        public List<ParameterMatch> match(MethodDefinition definition, Bindings bindings,
+                                          BindingMatchingStrategy matchingStrategy,
+                                          ObjectFactory objectFactory) {
+            List<ParameterMatch> result = target.match(definition, bindings, matchingStrategy, objectFactory);
+            if (reads != null) reads.add(result);
+            return result;
+        }
+
+        @Override
+        public List<Object> resolve(List<ParameterMatch> matches, MethodDefinition definition, Bindings bindings,
+                                    BindingMatchingStrategy matchingStrategy, ConverterRegistry registry,
+                                    ObjectFactory objectFactory) {
+            return target.resolve(matches, definition, bindings, matchingStrategy, registry, objectFactory);
+        }
+
+        @Override
+        public boolean isAutoConvert() {
+            return target.isAutoConvert();
+        }
+    }
+
+    // Bindings (and names) read by a Rule
+    private static final class Reads {
+
+        private boolean always;
+        private final Set<Binding<?>> bindings = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<String> names = new HashSet<>();
+
+        private Reads(boolean always) {
+            super();
+            this.always = always;
+        }
+
+        // Reads are recorded while the Rule runs; Rules with Runnables that may bypass the ParameterResolver are
+        // always re-run
+        static Reads of(Rule rule) {
+            List<Runnable<?>> runnables = new ArrayList<>();
+            runnables.add(rule.getPreCondition());
+            runnables.add(rule.getCondition());
+            if (rule.getActions() != null) runnables.addAll(rule.getActions());
+            runnables.add(rule.getOtherwiseAction());
+
+            for (Runnable<?> runnable : runnables) {
+                if (runnable != null && !isAnalyzable(runnable)) return new Reads(true);
+            }
+
+            return new Reads(false);
+        }
+
+        private static boolean isAnalyzable(Runnable<?> runnable) {
+            if (runnable instanceof CompositeCondition composite) {
+                for (Runnable<?> operand : composite.getOperands()) {
+                    if (!isAnalyzable(operand)) return false;
+                }
+
+                return true;
+            }
+
+            return runnable instanceof AbstractRunnable;
+        }
+
+        void add(List<ParameterMatch> matches) {
+            if (always) return;
+
+            for (ParameterMatch match : matches) {
+                names.add(match.getDefinition().getName());
+                Binding<?> binding = match.getBinding();
+                if (binding == null) continue;
+                if (binding instanceof ImmutableBinding<?> immutable) binding = immutable.getSource();
+
+                if (ReservedBindings.isReserved(binding.getName())) {
+                    always = true;
+                    return;
+                }
+
+                bindings.add(binding);
+                names.add(binding.getName());
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.rulii.ruleset;
 
+import org.rulii.context.Deadline;
 import org.rulii.context.RuleContext;
 import org.rulii.lib.spring.util.Assert;
 import org.rulii.model.UnrulyException;
@@ -33,6 +34,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * A class that represents a set of rules grouped and executed within a specified context.
@@ -105,7 +107,27 @@ public class RulingFamily<T> implements RuleSet<T> {
     public CompletableFuture<T> runAsync(RuleContext ruleContext, long timeOut, TimeUnit timeUnit) {
         Assert.notNull(ruleContext, "context cannot be null");
         Assert.notNull(timeUnit, "timeUnit cannot be null.");
-        CompletableFuture<T> result = asyncStrategy.run(this, ruleContext);
+        // Deadline makes sure the rules stop running once we time out
+        Deadline deadline = ruleContext.getDeadline().child(timeOut, timeUnit);
+        CompletableFuture<T> execution = asyncStrategy.run(this, ruleContext.withDeadline(deadline));
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        execution.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (deadline.isExpired() && !ruleContext.getDeadline().isExpired()) {
+                // Our deadline stopped the execution (it can beat orTimeout); report it as a time-out
+                result.completeExceptionally(new TimeoutException());
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+
+        // Pass on any cancellations
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) execution.cancel(true);
+        });
+
         return result.orTimeout(timeOut, timeUnit);
     }
 
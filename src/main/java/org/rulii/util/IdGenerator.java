@@ -0,0 +1,56 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util;
+
+import java.util.UUID;
+
+/**
+ * Generates identifiers for Bindings, Scopes and RuleContexts. Identifiers only have to be unique within the running
+ * JVM; they are used for tracing/debugging and are never persisted.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Default generator; a per-JVM sequence that does not touch SecureRandom.
+     *
+     * @return sequential id generator.
+     */
+    static IdGenerator sequential() {
+        return SequentialIdGenerator.getInstance();
+    }
+
+    /**
+     * Random UUID based generator. Globally unique but considerably slower as it goes through SecureRandom.
+     *
+     * @return uuid id generator.
+     */
+    static IdGenerator uuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * Generates a new id.
+     *
+     * @return new unique id.
+     */
+    String generate();
+}
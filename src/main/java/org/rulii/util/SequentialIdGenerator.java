@@ -0,0 +1,66 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-JVM sequential id generator. Each thread reserves a block of ids from a shared counter so that the counter is
+ * only touched once every BLOCK_SIZE ids; ids are therefore unique but not strictly ordered across threads. A random
+ * prefix (picked once per JVM) keeps ids from different runs apart in logs.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class SequentialIdGenerator implements IdGenerator {
+
+    private static final SequentialIdGenerator INSTANCE = new SequentialIdGenerator();
+
+    static final int BLOCK_SIZE = 1024;
+
+    private final String prefix = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36) + "-";
+    private final AtomicLong counter = new AtomicLong();
+    private final ThreadLocal<long[]> blocks = ThreadLocal.withInitial(() -> new long[] {0, 0});
+
+    private SequentialIdGenerator() {
+        super();
+    }
+
+    public static SequentialIdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String generate() {
+        // block[0] = next id, block[1] = end of the reserved block (exclusive)
+        long[] block = blocks.get();
+
+        if (block[0] == block[1]) {
+            block[0] = counter.getAndAdd(BLOCK_SIZE);
+            block[1] = block[0] + BLOCK_SIZE;
+        }
+
+        return prefix + Long.toString(block[0]++, 36);
+    }
+
+    @Override
+    public String toString() {
+        return "SequentialIdGenerator";
+    }
+}
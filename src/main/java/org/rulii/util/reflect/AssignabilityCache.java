@@ -0,0 +1,90 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.lib.apache.reflect.TypeUtils;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoized version of TypeUtils.isAssignable. The answer for a given pair of types never changes, therefore it is
+ * computed once and cached.
+ *
+ * Class to Class checks use a ClassValue per target class whose results are stored against the subject class; neither
+ * class references the other, so caching a check does not keep either class (or its ClassLoader) from being unloaded.
+ * All other combinations (ParameterizedType, TypeVariable etc) are stored in a concurrent map keyed by the pair. That
+ * map holds its types strongly and is therefore bounded; once full, results are computed but no longer stored.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class AssignabilityCache {
+
+    // Max generic type pairs cached
+    private static final int MAX_TYPE_ENTRIES = 8192;
+
+    // Target class -> (subject class -> assignable)
+    private static final ClassValue<ClassValue<Boolean>> CLASS_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassValue<Boolean> computeValue(Class<?> to) {
+            return new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> from) {
+                    return TypeUtils.isAssignable(from, to);
+                }
+            };
+        }
+    };
+
+    private static final Map<TypePair, Boolean> TYPE_CACHE = new ConcurrentHashMap<>();
+
+    private AssignabilityCache() {
+        super();
+    }
+
+    /**
+     * Checks if the subject type may be implicitly cast to the target type (see TypeUtils.isAssignable).
+     *
+     * @param type the subject type to be assigned to the target type.
+     * @param toType the target type.
+     * @return true if type is assignable to toType.
+     */
+    public static boolean isAssignable(Type type, Type toType) {
+        // Nulls are not cached
+        if (type == null || toType == null) return TypeUtils.isAssignable(type, toType);
+        if (type == toType) return true;
+
+        if (type instanceof Class<?> from && toType instanceof Class<?> to) {
+            return CLASS_CACHE.get(to).get(from);
+        }
+
+        TypePair key = new TypePair(type, toType);
+        Boolean result = TYPE_CACHE.get(key);
+
+        if (result == null) {
+            result = TypeUtils.isAssignable(type, toType);
+            if (TYPE_CACHE.size() < MAX_TYPE_ENTRIES) TYPE_CACHE.put(key, result);
+        }
+
+        return result;
+    }
+
+    private record TypePair(Type type, Type toType) {}
+}
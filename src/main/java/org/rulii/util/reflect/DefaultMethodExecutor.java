@@ -20,12 +20,18 @@ package org.rulii.util.reflect;
 import org.rulii.lib.spring.util.Assert;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The DefaultMethodExecutor class is an implementation of the MethodExecutor interface.
  * It is responsible for executing a target method using a given delegate MethodExecutor.
  *
- * By default, it uses the MethodHandleMethodExecutor if possible, otherwise it falls back to the ReflectiveMethodExecutor.
+ * Methods of the rulii functional interfaces (ie: lambdas) are called directly using the
+ * FunctionalInterfaceMethodExecutor and methods with compile time generated metadata are called through the
+ * GeneratedMethodExecutor. Otherwise, it uses the LambdaMethodExecutor if possible, then the SpreadMethodHandleMethodExecutor, then the
+ * MethodHandleMethodExecutor, otherwise it falls back to the ReflectiveMethodExecutor. The selected delegate is cached
+ * per Method and shared by all the DefaultMethodExecutors of that Method.
  *
  * The DefaultMethodExecutor class has the following public methods:
  *  - execute(Object target, Object... userArgs): Executes the target method and returns the result.
@@ -38,14 +44,17 @@ import java.lang.reflect.Method;
  */
 public class DefaultMethodExecutor implements MethodExecutor {
 
+    private static final Map<Method, MethodExecutor> CACHE = new ConcurrentHashMap<>();
+
     private final Method method;
-    private MethodExecutor delegate;
+    private final MethodExecutor delegate;
 
     /**
      * The DefaultMethodExecutor class is an implementation of the MethodExecutor interface.
      * It is responsible for executing a target method using a given delegate MethodExecutor.
      *
-     * By default, it uses the MethodHandleMethodExecutor if possible, otherwise it falls back to the ReflectiveMethodExecutor.
+     * By default, it uses the LambdaMethodExecutor if possible, then the SpreadMethodHandleMethodExecutor, then the
+     * MethodHandleMethodExecutor, otherwise it falls back to the ReflectiveMethodExecutor.
      *
      * The DefaultMethodExecutor class has the following public methods:
      *  - execute(Object target, Object... userArgs): Executes the target method and returns the result.
@@ -58,10 +67,34 @@ public class DefaultMethodExecutor implements MethodExecutor {
         Assert.notNull(method, "method cannot be null.");
         this.method = method;
         ReflectionUtils.makeAccessible(method);
+        this.delegate = CACHE.computeIfAbsent(method, DefaultMethodExecutor::createDelegate);
+    }
+
+    private static MethodExecutor createDelegate(Method method) {
+        if (FunctionalInterfaceMethodExecutor.isSupported(method)) {
+            return new FunctionalInterfaceMethodExecutor(method);
+        }
+
+        // Direct invoker generated at compile time (rulii-processor)
+        MethodExecutor generated = GeneratedRuleMetadataRegistry.getMethodExecutor(method);
+        if (generated != null) return generated;
+
+        try {
+            return new LambdaMethodExecutor(method);
+        } catch (Exception e) {
+            // Try the next one
+        }
+
+        try {
+            return new SpreadMethodHandleMethodExecutor(method);
+        } catch (Exception e) {
+            // Try the next one
+        }
+
         try {
-            this.delegate = new MethodHandleMethodExecutor(method);
+            return new MethodHandleMethodExecutor(method);
         } catch (Exception e) {
-            this.delegate = new ReflectiveMethodExecutor(method);
+            return new ReflectiveMethodExecutor(method);
         }
     }
 
@@ -24,7 +24,9 @@ import org.rulii.model.UnrulyException;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.WeakHashMap;
 
 /**
@@ -35,9 +37,9 @@ import java.util.WeakHashMap;
  */
 public class DefaultObjectFactory implements ObjectFactory {
 
-    // Post Ctor cache by class.
-    private static final Map<Class<?>, Method> postConstructorCache = new WeakHashMap<>();
-    private static final Map<Class<?>, Object> objectCache          = new WeakHashMap<>();
+    // Post Ctor cache by class (Optional as there may not be a post ctor).
+    private static final Map<Class<?>, Optional<Method>> postConstructorCache = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Class<?>, Object> objectCache          = Collections.synchronizedMap(new WeakHashMap<>());
 
     private final boolean useCache;
 
@@ -150,30 +152,32 @@ public class DefaultObjectFactory implements ObjectFactory {
     public <T> T create(Class<T> type, boolean isUseCache) {
         Assert.notNull(type, "type cannot be null.");
 
-        if (isUseCache && objectCache.containsKey(type)) return (T) objectCache.get(type);
+        if (isUseCache) {
+            Object cached = objectCache.get(type);
+            if (cached != null) return (T) cached;
+        }
 
         // Create the object
         T result = createInternal(type);
 
-        Method postConstructor;
-
         // Check if we cached the post constructor
-        if (postConstructorCache.containsKey(type)) {
-            postConstructor = postConstructorCache.get(type);
-        } else {
+        Optional<Method> postConstructor = postConstructorCache.get(type);
+
+        if (postConstructor == null) {
             // Find the post constructor if one exists.
-            postConstructor = ReflectionUtils.getPostConstructMethods(type);
+            postConstructor = Optional.ofNullable(ReflectionUtils.getPostConstructMethods(type));
             // Cache the post constructor
             postConstructorCache.put(type, postConstructor);
         }
 
-        if (postConstructor != null) {
-            // Call the Post Constructor
-            ReflectionUtils.invokePostConstruct(postConstructor, result);
-        }
+        // Call the Post Constructor
+        postConstructor.ifPresent(method -> ReflectionUtils.invokePostConstruct(method, result));
 
-        // Cache it
-        if (isUseCache) objectCache.put(type, result);
+        // Cache it (the first object created wins if created concurrently)
+        if (isUseCache) {
+            Object existing = objectCache.putIfAbsent(type, result);
+            if (existing != null) return (T) existing;
+        }
 
         return result;
     }
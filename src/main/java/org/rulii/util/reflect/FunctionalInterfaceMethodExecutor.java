@@ -0,0 +1,153 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+import org.rulii.model.action.*;
+import org.rulii.model.function.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MethodExecutor for the rulii functional interfaces (NoArgAction ... DecAction and NoArgFunction ... DecFunction).
+ * Lambda based Conditions/Actions/Functions are defined against the functional interface method with the lambda itself
+ * as the target; this executor simply casts the target and calls the interface method directly (no reflection,
+ * MethodHandles or generated classes involved).
+ *
+ * The SerializedLambda is still used to derive the metadata (parameter names, generic types etc).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class FunctionalInterfaceMethodExecutor implements MethodExecutor {
+
+    private static final Map<Class<?>, Dispatcher> DISPATCHERS = createDispatchers();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Class<?>, Dispatcher> createDispatchers() {
+        Map<Class<?>, Dispatcher> result = new HashMap<>();
+        result.put(NoArgFunction.class, (target, args) -> ((NoArgFunction) target).apply());
+        result.put(UnaryFunction.class, (target, args) -> ((UnaryFunction) target).apply(args[0]));
+        result.put(BiFunction.class, (target, args) -> ((BiFunction) target).apply(args[0], args[1]));
+        result.put(TriFunction.class, (target, args) -> ((TriFunction) target).apply(args[0], args[1], args[2]));
+        result.put(QuadFunction.class, (target, args) -> ((QuadFunction) target).apply(args[0], args[1], args[2], args[3]));
+        result.put(QuinFunction.class, (target, args) -> ((QuinFunction) target).apply(args[0], args[1], args[2], args[3], args[4]));
+        result.put(SexFunction.class, (target, args) -> ((SexFunction) target).apply(args[0], args[1], args[2], args[3], args[4], args[5]));
+        result.put(SeptFunction.class, (target, args) -> ((SeptFunction) target).apply(args[0], args[1], args[2], args[3], args[4], args[5], args[6]));
+        result.put(OctFunction.class, (target, args) -> ((OctFunction) target).apply(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7]));
+        result.put(NovFunction.class, (target, args) -> ((NovFunction) target).apply(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7], args[8]));
+        result.put(DecFunction.class, (target, args) -> ((DecFunction) target).apply(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7], args[8], args[9]));
+        result.put(NoArgAction.class, (target, args) -> { ((NoArgAction) target).run(); return null; });
+        result.put(UnaryAction.class, (target, args) -> { ((UnaryAction) target).run(args[0]); return null; });
+        result.put(BiAction.class, (target, args) -> { ((BiAction) target).run(args[0], args[1]); return null; });
+        result.put(TriAction.class, (target, args) -> { ((TriAction) target).run(args[0], args[1], args[2]); return null; });
+        result.put(QuadAction.class, (target, args) -> { ((QuadAction) target).run(args[0], args[1], args[2], args[3]); return null; });
+        result.put(QuinAction.class, (target, args) -> { ((QuinAction) target).run(args[0], args[1], args[2], args[3], args[4]); return null; });
+        result.put(SexAction.class, (target, args) -> { ((SexAction) target).run(args[0], args[1], args[2], args[3], args[4], args[5]); return null; });
+        result.put(SeptAction.class, (target, args) -> { ((SeptAction) target).run(args[0], args[1], args[2], args[3], args[4], args[5], args[6]); return null; });
+        result.put(OctAction.class, (target, args) -> { ((OctAction) target).run(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7]); return null; });
+        result.put(NovAction.class, (target, args) -> { ((NovAction) target).run(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7], args[8]); return null; });
+        result.put(DecAction.class, (target, args) -> { ((DecAction) target).run(args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7], args[8], args[9]); return null; });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private final Method method;
+    private final int parameterCount;
+    private final Dispatcher dispatcher;
+
+    public FunctionalInterfaceMethodExecutor(Method method) {
+        super();
+        Assert.notNull(method, "method cannot be null.");
+        this.dispatcher = findDispatcher(method);
+        Assert.notNull(dispatcher, "method [" + method + "] is not a supported functional interface method.");
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+    }
+
+    /**
+     * Determines whether the given method is the functional method of one of the supported functional interfaces.
+     *
+     * @param method method to check.
+     * @return true if the method can be dispatched directly; false otherwise.
+     */
+    public static boolean isSupported(Method method) {
+        return findDispatcher(method) != null;
+    }
+
+    /**
+     * Finds the Dispatcher for the given method. The method is either declared on one of the functional interfaces or on
+     * the (synthetic) lambda class implementing one.
+     *
+     * @param method target method.
+     * @return dispatcher if one is found; null otherwise.
+     */
+    private static Dispatcher findDispatcher(Method method) {
+        if (method == null || method.isDefault() || Modifier.isStatic(method.getModifiers())) return null;
+
+        Class<?> declaringClass = method.getDeclaringClass();
+        Dispatcher result = DISPATCHERS.get(declaringClass);
+
+        if (result != null || !declaringClass.isSynthetic()) return result;
+
+        for (Class<?> type : declaringClass.getInterfaces()) {
+            Dispatcher dispatcher = DISPATCHERS.get(type);
+            if (dispatcher == null) continue;
+            Method functionalMethod = type.getMethods()[0];
+
+            if (functionalMethod.getName().equals(method.getName())
+                    && functionalMethod.getParameterCount() == method.getParameterCount()) {
+                return dispatcher;
+            }
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T execute(Object target, Object... args) throws Throwable {
+        if (parameterCount != (args == null ? 0 : args.length)) {
+            throw new UnrulyException("Invalid number of args passed to Method call [" + method
+                    + "] required [" + parameterCount + "]");
+        }
+
+        return (T) dispatcher.dispatch(target, args);
+    }
+
+    @Override
+    public final Method method() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionalInterfaceMethodExecutor{" +
+                "method=" + method +
+                '}';
+    }
+
+    @FunctionalInterface
+    private interface Dispatcher {
+        Object dispatch(Object target, Object[] args);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.lang.reflect.Method;
+
+/**
+ * MethodExecutor that calls the method directly through the compile time generated metadata (no reflection or
+ * MethodHandles involved).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see GeneratedRuleMetadata
+ */
+public class GeneratedMethodExecutor implements MethodExecutor {
+
+    private final Method method;
+    private final GeneratedRuleMetadata metadata;
+    private final int index;
+
+    public GeneratedMethodExecutor(Method method, GeneratedRuleMetadata metadata, int index) {
+        super();
+        Assert.notNull(method, "method cannot be null.");
+        Assert.notNull(metadata, "metadata cannot be null.");
+        Assert.isTrue(index >= 0 && index < metadata.getMethodKeys().length, "invalid method index [" + index + "]");
+        this.method = method;
+        this.metadata = metadata;
+        this.index = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T execute(Object target, Object...userArgs) throws Throwable {
+        if (method.getParameterCount() != (userArgs == null ? 0 : userArgs.length)) {
+            throw new UnrulyException("Invalid number of args passed to Method call [" + method
+                    + "] required [" + method.getParameterCount() + "]");
+        }
+
+        return (T) metadata.invoke(index, target, userArgs);
+    }
+
+    @Override
+    public Method method() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedMethodExecutor{" +
+                "method=" + method +
+                ", metadata=" + metadata.getClass().getName() +
+                '}';
+    }
+}
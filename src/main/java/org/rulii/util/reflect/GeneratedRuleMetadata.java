@@ -0,0 +1,128 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rule metadata generated at compile time by the rulii annotation processor (rulii-processor). The generated class
+ * lives next to the Rule class and is named after it ie: org.acme.Rules$Adult -&gt; org.acme.Rules_Adult_RuliiMetadata.
+ *
+ * Each annotated method (@Given, @Then, @Condition etc.) is identified by its index and its key (see
+ * GeneratedRuleMetadataRegistry.key). The generated class lists the annotated methods along with their annotations,
+ * descriptions and parameters (so neither the annotations need to be searched nor the bytecode read) and provides
+ * direct (non-reflective) invocation of the methods.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ * @see GeneratedRuleMetadataRegistry
+ */
+public interface GeneratedRuleMetadata {
+
+    /**
+     * Suffix of the generated metadata class names.
+     */
+    String CLASS_NAME_SUFFIX = "_RuliiMetadata";
+
+    /**
+     * Class this metadata was generated for.
+     *
+     * @return rule class.
+     */
+    Class<?> getRuleClass();
+
+    /**
+     * Keys of the methods described by this metadata (in index order).
+     *
+     * @return method keys.
+     */
+    String[] getMethodKeys();
+
+    /**
+     * Annotated methods described by this metadata (in index order).
+     *
+     * @return annotated methods; null if the metadata does not describe the methods (ie: it was generated by an older
+     * processor).
+     */
+    default List<MethodMetadata> getMethods() {
+        return null;
+    }
+
+    /**
+     * Determines whether any of the super classes (or interfaces) of the rule class declare rulii annotated methods.
+     * Such methods are not described by this metadata.
+     *
+     * @return true if the annotated methods must be discovered reflectively; false otherwise.
+     */
+    default boolean inheritsRuleMethods() {
+        return true;
+    }
+
+    /**
+     * Source parameter names of the method at the given index.
+     *
+     * @param index method index.
+     * @return parameter names.
+     */
+    String[] getParameterNames(int index);
+
+    /**
+     * Determines whether the method at the given index can be invoked directly (ie: it is not private).
+     *
+     * @param index method index.
+     * @return true if the method can be invoked; false otherwise.
+     */
+    boolean isInvokable(int index);
+
+    /**
+     * Invokes the method at the given index.
+     *
+     * @param index method index.
+     * @param target target object (ignored for static methods).
+     * @param args method arguments.
+     * @return result of the method; null for void methods.
+     * @throws Throwable thrown by the method.
+     */
+    Object invoke(int index, Object target, Object[] args) throws Throwable;
+
+    /**
+     * Annotated method.
+     *
+     * @param key method key (see GeneratedRuleMetadataRegistry.key).
+     * @param annotations rulii annotations on the method (the declared annotation and the @Condition/@Action/@Function
+     *                    it is meta-annotated with) keyed by the annotation class name along with their attribute values
+     *                    (defaults included).
+     * @param description method description (@Description); can be null.
+     * @param parameters method parameters.
+     */
+    record MethodMetadata(String key, Map<String, Map<String, Object>> annotations, String description,
+                          List<ParameterMetadata> parameters) {
+    }
+
+    /**
+     * Parameter of an annotated method.
+     *
+     * @param name source parameter name.
+     * @param description parameter description (@Description); can be null.
+     * @param defaultValue default value text (@Param defaultValue); can be null.
+     * @param matchUsing class name of the BindingMatchingStrategy (@Param matchUsing); can be null.
+     */
+    record ParameterMetadata(String name, String description, String defaultValue, String matchUsing) {
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.annotation.Action;
+import org.rulii.annotation.Condition;
+import org.rulii.annotation.Function;
+import org.rulii.lib.spring.util.Assert;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Locates the compile time generated metadata (GeneratedRuleMetadata) of a class. The lookup result (including the
+ * absence of metadata) is cached per class so a class is only probed once. Classes without generated metadata fall
+ * back to the reflective/bytecode based discovery.
+ *
+ * The results are stored against the class itself (ClassValue) so that the cache does not keep the classes (or their
+ * ClassLoaders) alive.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class GeneratedRuleMetadataRegistry {
+
+    private static final ClassValue<Optional<Entry>> CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<Entry> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private GeneratedRuleMetadataRegistry() {
+        super();
+    }
+
+    /**
+     * Generated metadata of the given class.
+     *
+     * @param c desired class.
+     * @return generated metadata; null if there isn't any.
+     */
+    public static GeneratedRuleMetadata get(Class<?> c) {
+        Entry result = getEntry(c);
+        return result != null ? result.metadata : null;
+    }
+
+    /**
+     * Source parameter names of the given method as recorded by the generated metadata.
+     *
+     * @param method desired method.
+     * @return parameter names; null if the method does not have any generated metadata.
+     */
+    public static String[] getParameterNames(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        Entry entry = getEntry(method.getDeclaringClass());
+        if (entry == null) return null;
+        Integer index = entry.indexes.get(key(method));
+        if (index == null) return null;
+        String[] result = entry.metadata.getParameterNames(index);
+        return result != null && result.length == method.getParameterCount() ? result.clone() : null;
+    }
+
+    /**
+     * Generated metadata (annotations, description and parameters) of the given method.
+     *
+     * @param method desired method.
+     * @return method metadata; null if the method does not have any generated metadata.
+     */
+    public static GeneratedRuleMetadata.MethodMetadata getMethodMetadata(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        Entry entry = getEntry(method.getDeclaringClass());
+        if (entry == null || entry.methods == null) return null;
+        Integer index = entry.indexes.get(key(method));
+        if (index == null) return null;
+        GeneratedRuleMetadata.MethodMetadata result = entry.methods.get(index);
+        return result.parameters().size() == method.getParameterCount() ? result : null;
+    }
+
+    /**
+     * Methods of the given class annotated with the given rulii annotation (directly or through a meta-annotation) as
+     * listed by the generated metadata.
+     *
+     * @param c desired class.
+     * @param annotationClass rulii method annotation (ie: @Given, @Action or an annotation meta-annotated with
+     *                        @Condition/@Action/@Function).
+     * @return annotated methods; null if they must be discovered reflectively (there is no generated metadata, the super
+     * classes declare annotated methods or the annotation is not a rulii method annotation).
+     */
+    public static Method[] getMethodsWithAnnotation(Class<?> c, Class<? extends Annotation> annotationClass) {
+        Assert.notNull(annotationClass, "annotationClass cannot be null.");
+        Entry entry = getEntry(c);
+        if (entry == null || entry.annotatedMethods == null || !isRuleAnnotation(annotationClass)) return null;
+        String name = annotationClass.getName();
+        List<Method> result = new ArrayList<>();
+
+        for (int i = 0; i < entry.annotatedMethods.length; i++) {
+            if (entry.methods.get(i).annotations().containsKey(name)) result.add(entry.annotatedMethods[i]);
+        }
+
+        return result.toArray(new Method[0]);
+    }
+
+    /**
+     * Direct (generated) MethodExecutor for the given method.
+     *
+     * @param method desired method.
+     * @return generated MethodExecutor; null if the method cannot be invoked directly.
+     */
+    public static MethodExecutor getMethodExecutor(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        Entry entry = getEntry(method.getDeclaringClass());
+        if (entry == null) return null;
+        Integer index = entry.indexes.get(key(method));
+        return index != null && entry.metadata.isInvokable(index)
+                ? new GeneratedMethodExecutor(method, entry.metadata, index)
+                : null;
+    }
+
+    /**
+     * Key identifying a method within its class; ie: isAdult(int,java.lang.String[]). The parameter types are the
+     * canonical names of the erased types.
+     *
+     * @param method desired method.
+     * @return method key.
+     */
+    public static String key(Method method) {
+        Assert.notNull(method, "method cannot be null.");
+        StringBuilder result = new StringBuilder(method.getName()).append("(");
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) result.append(",");
+            result.append(parameterTypes[i].getCanonicalName());
+        }
+
+        return result.append(")").toString();
+    }
+
+    /**
+     * Name of the generated metadata class for the given class; ie: org.acme.Rules$Adult -&gt;
+     * org.acme.Rules_Adult_RuliiMetadata.
+     *
+     * @param c desired class.
+     * @return generated class name.
+     */
+    public static String getMetadataClassName(Class<?> c) {
+        Assert.notNull(c, "c cannot be null.");
+        String packageName = c.getPackageName();
+        String simpleName = packageName.isEmpty() ? c.getName() : c.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_')
+                + GeneratedRuleMetadata.CLASS_NAME_SUFFIX;
+    }
+
+    // Only the rulii method annotations are recorded by the generated metadata
+    private static boolean isRuleAnnotation(Class<? extends Annotation> annotationClass) {
+        return annotationClass == Condition.class || annotationClass == Action.class || annotationClass == Function.class
+                || annotationClass.isAnnotationPresent(Condition.class) || annotationClass.isAnnotationPresent(Action.class)
+                || annotationClass.isAnnotationPresent(Function.class);
+    }
+
+    private static Entry getEntry(Class<?> c) {
+        Assert.notNull(c, "c cannot be null.");
+        return CACHE.get(c).orElse(null);
+    }
+
+    private static Optional<Entry> load(Class<?> c) {
+        // Generated classes only exist for named classes compiled from source
+        if (c.isPrimitive() || c.isArray() || c.isHidden() || c.isSynthetic() || c.getCanonicalName() == null
+                || c.getClassLoader() == null) return Optional.empty();
+
+        try {
+            Class<?> generated = Class.forName(getMetadataClassName(c), true, c.getClassLoader());
+            if (!GeneratedRuleMetadata.class.isAssignableFrom(generated)) return Optional.empty();
+            GeneratedRuleMetadata metadata = (GeneratedRuleMetadata) generated.getDeclaredConstructor().newInstance();
+            // Make sure the metadata was generated for this class
+            if (!c.equals(metadata.getRuleClass())) return Optional.empty();
+            return Optional.of(new Entry(metadata));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // No (usable) generated metadata
+            return Optional.empty();
+        }
+    }
+
+    private static final class Entry {
+
+        private final GeneratedRuleMetadata metadata;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<GeneratedRuleMetadata.MethodMetadata> methods;
+        // Methods in index order; null if the annotated methods must be discovered reflectively
+        private final Method[] annotatedMethods;
+
+        private Entry(GeneratedRuleMetadata metadata) {
+            super();
+            this.metadata = metadata;
+            String[] keys = metadata.getMethodKeys();
+
+            for (int i = 0; i < keys.length; i++) {
+                indexes.put(keys[i], i);
+            }
+
+            List<GeneratedRuleMetadata.MethodMetadata> methods = metadata.getMethods();
+            this.methods = methods != null && methods.size() == keys.length ? List.copyOf(methods) : null;
+            this.annotatedMethods = this.methods != null && !metadata.inheritsRuleMethods()
+                    ? resolve(metadata.getRuleClass(), keys)
+                    : null;
+        }
+
+        private static Method[] resolve(Class<?> c, String[] keys) {
+            Map<String, Method> declared = new HashMap<>();
+
+            for (Method method : c.getDeclaredMethods()) {
+                if (!method.isBridge() && !method.isSynthetic()) declared.put(key(method), method);
+            }
+
+            Method[] result = new Method[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                result[i] = declared.get(keys[i]);
+                // Stale metadata
+                if (result[i] == null) return null;
+            }
+
+            return result;
+        }
+    }
+}
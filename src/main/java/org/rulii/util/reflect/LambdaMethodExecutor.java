@@ -0,0 +1,344 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * MethodExecutor that uses the LambdaMetafactory to generate a class that calls the target method directly (same as a
+ * method reference would). Once generated, calling the method costs no more than an interface call.
+ *
+ * Only instance methods with up to 8 parameters are supported; the target class must also be accessible (private
+ * lookup) from this module. The constructor fails with an UnrulyException otherwise and the caller is expected to
+ * fall back to another MethodExecutor.
+ *
+ * Primitive parameters are unboxed from their exact wrapper type only. Calls that rely on a widening conversion (ie:
+ * an Integer passed to a long parameter) are made through a MethodHandle adapted with asType instead, which applies
+ * the same conversions as the other MethodExecutors.
+ *
+ * The generation is relatively expensive; the executors should be cached (see DefaultMethodExecutor).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class LambdaMethodExecutor implements MethodExecutor {
+
+    /**
+     * Maximum number of method parameters supported.
+     */
+    public static final int MAX_PARAMETER_COUNT = 8;
+
+    private static final Class<?>[] INVOKERS = {Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class, Invoker4.class, Invoker5.class, Invoker6.class, Invoker7.class, Invoker8.class};
+    private static final Class<?>[] VOID_INVOKERS = {VoidInvoker0.class, VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class, VoidInvoker4.class, VoidInvoker5.class, VoidInvoker6.class, VoidInvoker7.class, VoidInvoker8.class};
+
+    private static final MethodType ADAPTED_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final int parameterCount;
+    private final boolean voidMethod;
+    private final Object invoker;
+    // Wrapper types of the primitive parameters (null entries for the reference parameters); null if there are none
+    private final Class<?>[] wrappers;
+    // (target, Object[])Object handle that converts the arguments; only created if there are primitive parameters
+    private final MethodHandle adapted;
+
+    public LambdaMethodExecutor(Method method) {
+        super();
+        Assert.notNull(method, "method cannot be null.");
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+        this.voidMethod = method.getReturnType() == void.class;
+        this.invoker = createInvoker(method, parameterCount, voidMethod);
+        this.wrappers = getWrappers(method);
+        this.adapted = wrappers != null ? createAdapted(method) : null;
+    }
+
+    private static Class<?>[] getWrappers(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?>[] result = null;
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!parameterTypes[i].isPrimitive()) continue;
+            if (result == null) result = new Class<?>[parameterTypes.length];
+            result[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+        }
+
+        return result;
+    }
+
+    private static MethodHandle createAdapted(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflect(method).asFixedArity()
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(ADAPTED_TYPE);
+        } catch (Throwable e) {
+            throw new UnrulyException("Unable to generate invoker for method [" + method + "]", e);
+        }
+    }
+
+    private static Object createInvoker(Method method, int parameterCount, boolean voidMethod) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            throw new UnrulyException("Static methods are not supported [" + method + "]");
+        }
+
+        if (parameterCount > MAX_PARAMETER_COUNT) {
+            throw new UnrulyException("Method [" + method + "] has too many parameters. Max supported ["
+                    + MAX_PARAMETER_COUNT + "]");
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle implementation = lookup.unreflect(method);
+            Class<?> invokerType = voidMethod ? VOID_INVOKERS[parameterCount] : INVOKERS[parameterCount];
+            // Invoker signature (Object target, Object arg0 ...)Object|void
+            MethodType invokerMethodType = MethodType.genericMethodType(parameterCount + 1);
+            MethodType instantiatedMethodType = implementation.type().wrap();
+
+            if (voidMethod) {
+                invokerMethodType = invokerMethodType.changeReturnType(void.class);
+                instantiatedMethodType = instantiatedMethodType.changeReturnType(void.class);
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(invokerType),
+                    invokerMethodType, implementation, instantiatedMethodType);
+            return site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new UnrulyException("Unable to generate invoker for method [" + method + "]", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T execute(Object target, Object... args) throws Throwable {
+        if (parameterCount != (args == null ? 0 : args.length)) {
+            throw new UnrulyException("Invalid number of args passed to Method call [" + method
+                    + "] required [" + parameterCount + "]");
+        }
+
+        // The generated invoker only unboxes the exact wrapper types
+        if (wrappers != null && !isExact(args)) return (T) (Object) adapted.invokeExact(target, args);
+
+        if (voidMethod) {
+            executeVoid(target, args);
+            return null;
+        }
+
+        return (T) switch (parameterCount) {
+            case 0 -> ((Invoker0) invoker).invoke(target);
+            case 1 -> ((Invoker1) invoker).invoke(target, args[0]);
+            case 2 -> ((Invoker2) invoker).invoke(target, args[0], args[1]);
+            case 3 -> ((Invoker3) invoker).invoke(target, args[0], args[1], args[2]);
+            case 4 -> ((Invoker4) invoker).invoke(target, args[0], args[1], args[2], args[3]);
+            case 5 -> ((Invoker5) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4]);
+            case 6 -> ((Invoker6) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5]);
+            case 7 -> ((Invoker7) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5], args[6]);
+            case 8 -> ((Invoker8) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7]);
+            default -> throw new UnrulyException("Unsupported parameter count [" + parameterCount + "]");
+        };
+    }
+
+    private void executeVoid(Object target, Object... args) throws Throwable {
+        switch (parameterCount) {
+            case 0 -> ((VoidInvoker0) invoker).invoke(target);
+            case 1 -> ((VoidInvoker1) invoker).invoke(target, args[0]);
+            case 2 -> ((VoidInvoker2) invoker).invoke(target, args[0], args[1]);
+            case 3 -> ((VoidInvoker3) invoker).invoke(target, args[0], args[1], args[2]);
+            case 4 -> ((VoidInvoker4) invoker).invoke(target, args[0], args[1], args[2], args[3]);
+            case 5 -> ((VoidInvoker5) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4]);
+            case 6 -> ((VoidInvoker6) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5]);
+            case 7 -> ((VoidInvoker7) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5], args[6]);
+            case 8 -> ((VoidInvoker8) invoker).invoke(target, args[0], args[1], args[2], args[3], args[4], args[5], args[6], args[7]);
+            default -> throw new UnrulyException("Unsupported parameter count [" + parameterCount + "]");
+        }
+    }
+
+    private boolean isExact(Object[] args) {
+        for (int i = 0; i < wrappers.length; i++) {
+            // Nulls fail either way
+            if (wrappers[i] != null && args[i] != null && args[i].getClass() != wrappers[i]) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public final Method method() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaMethodExecutor{" +
+                "method=" + method +
+                '}';
+    }
+
+    /**
+     * Invoker for methods with 0 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker0 {
+        Object invoke(Object target) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 1 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker1 {
+        Object invoke(Object target, Object arg0) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 2 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker2 {
+        Object invoke(Object target, Object arg0, Object arg1) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 3 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker3 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 4 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker4 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 5 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker5 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 6 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker6 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 7 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker7 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6) throws Throwable;
+    }
+
+    /**
+     * Invoker for methods with 8 parameter(s).
+     */
+    @FunctionalInterface
+    public interface Invoker8 {
+        Object invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 0 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker0 {
+        void invoke(Object target) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 1 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker1 {
+        void invoke(Object target, Object arg0) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 2 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker2 {
+        void invoke(Object target, Object arg0, Object arg1) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 3 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker3 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 4 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker4 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 5 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker5 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 6 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker6 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 7 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker7 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6) throws Throwable;
+    }
+
+    /**
+     * Invoker for void methods with 8 parameter(s).
+     */
+    @FunctionalInterface
+    public interface VoidInvoker8 {
+        void invoke(Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7) throws Throwable;
+    }
+}
@@ -35,6 +35,7 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -57,7 +58,7 @@ public final class ReflectionUtils {
                     || clazz.getPackage().getName().startsWith("javax.");
 
     private static final Map<Type, Object> DEFAULT_VALUE_MAP = new HashMap<>();
-    private static final Map<Class<?>, MethodHandles.Lookup> METHOD_HANDLE_CACHE = new HashMap<>();
+    private static final Map<Class<?>, MethodHandles.Lookup> METHOD_HANDLE_CACHE = new ConcurrentHashMap<>();
 
     private static boolean DEFAULT_BOOLEAN;
     private static byte DEFAULT_BYTE;
@@ -184,13 +185,16 @@ public final class ReflectionUtils {
     }
 
     /**
-     * Finds all the methods that are annotated with annotationClass.
+     * Finds all the methods that are annotated with annotationClass. The method list generated at compile time (see
+     * GeneratedRuleMetadataRegistry) is used if there is one; otherwise the class is introspected.
      *
      * @param clazz class to look up.
      * @param annotationClass annotation to look for.
      * @return all methods that are annotated with annotationClass or any other annotation that has annotationClass on it.
      */
     public static Method[] getMethodsWithAnnotation(Class<?> clazz, Class<? extends Annotation> annotationClass) {
+        Method[] result = GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(clazz, annotationClass);
+        if (result != null) return result;
         return getMethods(clazz, m -> isAnnotated(m, annotationClass));
     }
 
@@ -248,14 +252,7 @@ public final class ReflectionUtils {
     public static MethodHandles.Lookup getMethodLookup(Class<?> c) {
         Assert.notNull(c, "c cannot be null.");
 
-        MethodHandles.Lookup result = METHOD_HANDLE_CACHE.get(c);
-
-        if (result == null) {
-            result = MethodHandles.lookup().in(c);
-            METHOD_HANDLE_CACHE.put(c, result);
-        }
-
-        return result;
+        return METHOD_HANDLE_CACHE.computeIfAbsent(c, key -> MethodHandles.lookup().in(key));
     }
 
     /**
@@ -0,0 +1,91 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.util.reflect;
+
+import org.rulii.lib.spring.util.Assert;
+import org.rulii.model.UnrulyException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * MethodExecutor that adapts the MethodHandle once (at construction time) to a fixed (Object, Object[])Object shape
+ * and calls it using invokeExact. Unlike invokeWithArguments, this does not copy the arguments nor look up a generic
+ * invoker per call and the JIT is able to inline the call.
+ *
+ * Static methods simply ignore the target.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class SpreadMethodHandleMethodExecutor implements MethodExecutor {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final int parameterCount;
+    private final MethodHandle invoker;
+
+    public SpreadMethodHandleMethodExecutor(Method method) throws IllegalAccessException {
+        super();
+        Assert.notNull(method, "method cannot be null.");
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+        this.invoker = createInvoker(method);
+    }
+
+    private static MethodHandle createInvoker(Method method) throws IllegalAccessException {
+        MethodHandle result = ReflectionUtils.getMethodHandle(method).asFixedArity();
+
+        // Static methods do not take the target; accept it and ignore it.
+        if (Modifier.isStatic(method.getModifiers())) {
+            result = MethodHandles.dropArguments(result, 0, Object.class);
+        }
+
+        // (target, arg1, ... argN)R -> (target, Object[])R -> (Object, Object[])Object
+        return result
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T execute(Object target, Object... userArgs) throws Throwable {
+        if (parameterCount != (userArgs == null ? 0 : userArgs.length)) {
+            throw new UnrulyException("Invalid number of args passed to Method call [" + method
+                    + "] required [" + parameterCount + "]");
+        }
+
+        return (T) (Object) invoker.invokeExact(target, userArgs);
+    }
+
+    @Override
+    public final Method method() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "SpreadMethodHandleMethodExecutor{" +
+                "method=" + method +
+                '}';
+    }
+}
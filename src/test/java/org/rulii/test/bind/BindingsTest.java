@@ -606,4 +606,40 @@ public class BindingsTest {
         Assertions.assertTrue(value2.isPresent());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void typeIndexTest() {
+        Bindings bindings = Bindings.builder().standard();
+        bindings.bind("a", Integer.class, 1);
+        bindings.bind("b", int.class, 2);
+        bindings.bind("c", String.class, "x");
+        bindings.bind("d", new TypeReference<List<Integer>>() {}, new ArrayList<>());
+        bindings.bind("e", new TypeReference<ArrayList<String>>() {}, new ArrayList<>());
+        bindings.bind("f", String[].class, new String[0]);
+
+        Assertions.assertEquals(Set.of("a", "b"), names(bindings.getBindings(Integer.class)));
+        Assertions.assertEquals(Set.of("a", "b"), names(bindings.getBindings(int.class)));
+        Assertions.assertEquals(Set.of("a", "b"), names(bindings.getBindings(long.class)));
+        Assertions.assertEquals(Set.of("a", "b"), names(bindings.getBindings(Number.class)));
+        Assertions.assertEquals(Set.of("c"), names(bindings.getBindings(CharSequence.class)));
+        Assertions.assertEquals(Set.of("d"), names(bindings.getBindings(new TypeReference<List<Integer>>() {}.getType())));
+        Assertions.assertEquals(Set.of("e"), names(bindings.getBindings(new TypeReference<List<String>>() {}.getType())));
+        Assertions.assertEquals(Set.of("d", "e"), names(bindings.getBindings(Collection.class)));
+        Assertions.assertEquals(Set.of("f"), names(bindings.getBindings(Object[].class)));
+        Assertions.assertEquals(Set.of("a", "b", "c", "e", "f"), names(bindings.getBindings(java.io.Serializable.class)));
+        Assertions.assertEquals(6, bindings.getBindings(Object.class).size());
+        Assertions.assertTrue(bindings.getBindings(Map.class).isEmpty());
+
+        // Scoped
+        ScopedBindings scoped = Bindings.builder().scoped("root", bindings);
+        scoped.addScope();
+        scoped.bind("g", Integer.class, 3);
+        Assertions.assertEquals(Set.of("g"), names(scoped.getBindings(Integer.class)));
+        Assertions.assertEquals(Set.of("a", "b", "g"), names(scoped.getAllBindings(Integer.class)));
+    }
+
+    private static Set<String> names(List<? extends Binding<?>> bindings) {
+        Set<String> result = new HashSet<>();
+        bindings.forEach(b -> result.add(b.getName()));
+        return result;
+    }
+}
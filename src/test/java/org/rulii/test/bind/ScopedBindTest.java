@@ -563,4 +563,113 @@ public class ScopedBindTest {
         Assertions.assertTrue(result.containsKey("binding_test"));
         Assertions.assertEquals("test_value", result.get("binding_test"));
     }
+
+    @Test
+    public void nameLookupCacheTest() {
+        Bindings global = Bindings.builder().standard();
+        global.bind("x", 1);
+        ScopedBindings bindings = Bindings.builder().scoped("root", global);
+
+        for (int i = 0; i < 20; i++) {
+            bindings.addScope("scope-" + i);
+            bindings.bind("local" + i, i);
+        }
+
+        Assertions.assertEquals(1, (Integer) bindings.getValue("x"));
+        Assertions.assertEquals(5, (Integer) bindings.getValue("local5"));
+        Assertions.assertNull(bindings.getBinding("y"));
+
+        // Binding added to the current scope
+        bindings.bind("y", 2);
+        Assertions.assertEquals(2, (Integer) bindings.getValue("y"));
+
+        // Binding added directly to an outer scope's Bindings
+        global.bind("z", 3);
+        Assertions.assertEquals(3, (Integer) bindings.getValue("z"));
+
+        // New scope shadows the outer Binding
+        bindings.addScope();
+        bindings.bind("x", 10);
+        Assertions.assertEquals(10, (Integer) bindings.getValue("x"));
+
+        // Shadow goes away with the scope
+        bindings.removeScope();
+        Assertions.assertEquals(1, (Integer) bindings.getValue("x"));
+
+        // Removing scopes removes their Bindings
+        bindings.removeScope("scope-10");
+        Assertions.assertNull(bindings.getBinding("local15"));
+        Assertions.assertNull(bindings.getBinding("y"));
+        Assertions.assertEquals(9, (Integer) bindings.getValue("local9"));
+        Assertions.assertEquals(11, bindings.getScopeSize());
+    }
+
+    @Test
+    public void anonymousScopeTest() {
+        ScopedBindings bindings = Bindings.builder().scoped();
+        int size = bindings.getScopeSize();
+        NamedScope scope = bindings.addScope();
+
+        Assertions.assertTrue(scope.isAnonymous());
+        Assertions.assertSame(scope, bindings.getCurrentScope());
+        Assertions.assertFalse(bindings.containsScope("anonymous"));
+        Assertions.assertTrue(scope.asImmutable().isAnonymous());
+
+        // Anonymous scopes have a stable generated name but cannot be looked up by it
+        String name = scope.getName();
+        Assertions.assertNotNull(name);
+        Assertions.assertEquals(name, scope.getName());
+        Assertions.assertEquals(name, scope.asImmutable().getName());
+        Assertions.assertEquals(name, bindings.getScopeName(scope.getBindings()));
+        Assertions.assertNotEquals(name, bindings.addScope().getName());
+        Assertions.assertFalse(bindings.containsScope(name));
+        bindings.removeScope();
+
+        bindings.bind("x", 1);
+        Assertions.assertEquals(1, (Integer) bindings.getValue("x"));
+        bindings.removeScope(scope);
+        Assertions.assertNull(bindings.getBinding("x"));
+        Assertions.assertEquals(size, bindings.getScopeSize());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NamedScope(null, Bindings.builder().standard()));
+    }
+
+    @Test
+    public void versionTest() {
+        Bindings global = Bindings.builder().standard();
+        ScopedBindings bindings = Bindings.builder().scoped("root", global);
+        long version = bindings.getVersion();
+
+        Assertions.assertTrue(version >= 0);
+        Assertions.assertEquals(version, bindings.getVersion());
+
+        // Binding directly against a scope (not through the ScopedBindings) changes the version
+        global.bind("x", 1);
+        Assertions.assertTrue(bindings.getVersion() > version);
+        Assertions.assertEquals(1, (Integer) bindings.getValue("x"));
+
+        version = bindings.getVersion();
+        NamedScope scope = bindings.addScope("scope-1", Bindings.builder().standard().asImmutable());
+        Assertions.assertTrue(bindings.getVersion() > version);
+
+        // Value changes do not change the version
+        version = bindings.getVersion();
+        bindings.setValue("x", 2);
+        Assertions.assertEquals(version, bindings.getVersion());
+
+        // Nested ScopedBindings notify their parent
+        ScopedBindings nested = Bindings.builder().scoped();
+        bindings.removeScope(scope);
+        bindings.addScope("nested", nested);
+        version = bindings.getVersion();
+        nested.addScope().getBindings().bind("y", 1);
+        Assertions.assertTrue(bindings.getVersion() > version);
+
+        // Removed scopes no longer change the version
+        bindings.removeScope("nested");
+        version = bindings.getVersion();
+        nested.bind("z", 1);
+        Assertions.assertEquals(version, bindings.getVersion());
+        Assertions.assertNull(bindings.getBinding("z"));
+    }
 }
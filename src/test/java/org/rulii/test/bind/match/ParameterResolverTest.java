@@ -25,21 +25,28 @@ import org.rulii.bind.BindingException;
 import org.rulii.bind.Bindings;
 import org.rulii.bind.ScopedBindings;
 import org.rulii.bind.match.*;
+import org.rulii.context.RuleContext;
 import org.rulii.convert.ConverterRegistry;
 import org.rulii.model.Definable;
 import org.rulii.model.MethodDefinition;
 import org.rulii.model.SourceDefinition;
 import org.rulii.model.action.Action;
+import org.rulii.model.action.Actions;
 import org.rulii.model.condition.Condition;
+import org.rulii.model.condition.Conditions;
 import org.rulii.model.function.Function;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
 import org.rulii.util.TypeReference;
 import org.rulii.util.reflect.LambdaUtils;
 import org.rulii.util.reflect.ObjectFactory;
 import org.rulii.util.reflect.ReflectionUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Parameter Resolver tests.
@@ -714,6 +721,130 @@ public class ParameterResolverTest {
         return resolver.resolve(matches, definition, bindings, strategy, ConverterRegistry.builder().build(), ObjectFactory.builder().build());
     }
 
+    @Test
+    public void bindingPlanTest() {
+        ParameterResolver resolver = ParameterResolver.builder().build();
+        MethodDefinition definition = MethodDefinition.load(TestClass.class,
+                method -> method.getName().equals("testMethod2"), SourceDefinition.build()).get(0);
+        BindingMatchingStrategy strategy = BindingMatchingStrategy.builder().matchByName();
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+        ConverterRegistry registry = ConverterRegistry.builder().build();
+
+        ScopedBindings bindings = Bindings.builder().scoped();
+        Binding<Integer> a = bindings.bind("a", int.class, 10);
+        List<ParameterMatch> matches1 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertFalse(matches1.get(1).isMatched());
+        BindingPlan plan1 = definition.getBindingPlan(bindings.getLayout());
+        Assertions.assertNotNull(plan1);
+
+        // Same layout; plan is reused
+        List<ParameterMatch> matches2 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertSame(plan1, definition.getBindingPlan(bindings.getLayout()));
+        Assertions.assertSame(a, matches2.get(0).getBinding());
+        Assertions.assertEquals(matches1.get(0).getDescription(), matches2.get(0).getDescription());
+
+        // Value changes do not change the layout
+        long version = bindings.getVersion();
+        bindings.setValue("a", 20);
+        Assertions.assertEquals(version, bindings.getVersion());
+        Assertions.assertEquals(20, resolver.resolve(resolver.match(definition, bindings, strategy, objectFactory),
+                definition, bindings, strategy, registry, objectFactory).get(0));
+        Assertions.assertSame(plan1, definition.getBindingPlan(bindings.getLayout()));
+
+        // New Binding changes the layout
+        bindings.bind("values", new TypeReference<Map<String, Integer>>() {}, new HashMap<>());
+        Assertions.assertNull(definition.getBindingPlan(bindings.getLayout()));
+        List<ParameterMatch> matches3 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertTrue(matches3.get(1).isMatched());
+        BindingPlan plan2 = definition.getBindingPlan(bindings.getLayout());
+        Assertions.assertNotSame(plan1, plan2);
+
+        // New Scope changes the layout
+        bindings.addScope();
+        bindings.bind("a", int.class, 30);
+        List<ParameterMatch> matches4 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertEquals(30, resolver.resolve(matches4, definition, bindings, strategy, registry, objectFactory).get(0));
+
+        // Removing the scope goes back to the previous layout (and plan)
+        bindings.removeScope();
+        List<ParameterMatch> matches5 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertSame(plan2, definition.getBindingPlan(bindings.getLayout()));
+        Assertions.assertEquals(20, resolver.resolve(matches5, definition, bindings, strategy, registry, objectFactory).get(0));
+
+        // Changes made directly to a scope's Bindings are picked up as well
+        Bindings global = Bindings.builder().standard();
+        bindings.addScope("global", global);
+        resolver.match(definition, bindings, strategy, objectFactory);
+        global.bind("a", int.class, 40);
+        List<ParameterMatch> matches6 = resolver.match(definition, bindings, strategy, objectFactory);
+        Assertions.assertEquals(40, resolver.resolve(matches6, definition, bindings, strategy, registry, objectFactory).get(0));
+
+        // Different Bindings with the same layout reuse the plan; the Bindings are looked up again
+        ScopedBindings other = Bindings.builder().scoped();
+        other.bind("a", int.class, 50);
+        other.bind("values", new TypeReference<Map<String, Integer>>() {}, new HashMap<>());
+        Assertions.assertSame(plan2, definition.getBindingPlan(other.getLayout()));
+        List<ParameterMatch> matches7 = resolver.match(definition, other, strategy, objectFactory);
+        Assertions.assertSame(other.getBinding("a"), matches7.get(0).getBinding());
+        Assertions.assertEquals(50, resolver.resolve(matches7, definition, other, strategy, registry, objectFactory).get(0));
+    }
+
+    @Test
+    public void bindingPlanShadowedTest() {
+        ParameterResolver resolver = ParameterResolver.builder().build();
+        MethodDefinition definition = MethodDefinition.load(TestClass.class,
+                method -> method.getName().equals("testMethod2"), SourceDefinition.build()).get(0);
+        BindingMatchingStrategy strategy = BindingMatchingStrategy.builder().matchByType();
+        ObjectFactory objectFactory = ObjectFactory.builder().build();
+
+        // The type match comes from the outer scope; the inner scope hides the name with a different type
+        ScopedBindings bindings = Bindings.builder().scoped();
+        bindings.bind("a", int.class, 10);
+        bindings.addScope();
+        bindings.bind("a", String.class, "x");
+        Assertions.assertEquals(10, resolver.match(definition, bindings, strategy, objectFactory).get(0).getBinding().getValue());
+        Assertions.assertNotNull(definition.getBindingPlan(bindings.getLayout()));
+
+        ScopedBindings other = Bindings.builder().scoped();
+        other.bind("a", int.class, 20);
+        other.addScope();
+        other.bind("a", String.class, "y");
+        Assertions.assertEquals(20, resolver.match(definition, other, strategy, objectFactory).get(0).getBinding().getValue());
+    }
+
+    @Test
+    public void bindingPlanAcrossRunsTest() {
+        CountingMatchingStrategy strategy = new CountingMatchingStrategy();
+        RuleSet<?> ruleSet = RuleSet.builder().with("PlanRuleSet")
+                .rule(Rule.builder().name("Rule1")
+                        .given(Conditions.condition((Integer total, String name) -> total > 100 && name != null))
+                        .then(Actions.action((Binding<Integer> discount) -> discount.setValue(10)))
+                        .build())
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            Bindings facts = Bindings.builder().standard(total -> 150, discount -> 0, name -> "x");
+            // Every run uses a new RuleContext (and hence new Bindings)
+            ruleSet.run(RuleContext.builder().with(facts).matchUsing(strategy).build());
+            Assertions.assertEquals(10, facts.getValue("discount", Integer.class));
+        }
+
+        // The matching only ran during the first run; the other runs reused the plans
+        Assertions.assertEquals(3, strategy.count.get());
+    }
+
+    private static class CountingMatchingStrategy implements BindingMatchingStrategy {
+
+        private final BindingMatchingStrategy target = BindingMatchingStrategy.builder().matchByName();
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public <T> List<BindingMatch<T>> match(Bindings bindings, String name, Type type, boolean containsGenericInfo) {
+            count.incrementAndGet();
+            return target.match(bindings, name, type, containsGenericInfo);
+        }
+    }
+
     private static class TestClass {
 
         public boolean testMethod1(String a, Set<Integer> b, Binding<List<Integer>> c, Map<?, Long> d) {
@@ -25,11 +25,14 @@ import org.rulii.bind.ReservedBindings;
 import org.rulii.context.RuleContext;
 import org.rulii.context.RuleContextBuilder;
 import org.rulii.context.RuleContextOptions;
+import org.rulii.context.RuleExecutors;
+import org.rulii.context.SharedExecutorService;
+import org.rulii.util.IdGenerator;
 
 import java.time.Clock;
-import java.util.Locale;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class contains unit tests for the RuleContext class.
@@ -83,4 +86,88 @@ public class RuleContextTest {
         RuleContext context = builder.build();
         Assertions.assertNotNull(context, "Rule context should not be null.");
     }
+
+    @Test
+    public void idGeneratorTest() throws Exception {
+        // Ids are unique across threads
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 5000; j++) ids.add(IdGenerator.sequential().generate());
+                }));
+            }
+
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(20000, ids.size());
+
+        // Custom generator is used for the context id
+        AtomicInteger counter = new AtomicInteger();
+        RuleContext context = RuleContext.builder().standard()
+                .idGenerator(() -> "ctx-" + counter.incrementAndGet())
+                .build();
+        Assertions.assertEquals("ctx-1", context.getId());
+        Assertions.assertNotNull(context.getIdGenerator());
+
+        // Default comes from the options
+        Assertions.assertSame(RuleContextOptions.standard().getIdGenerator(), RuleContext.builder().build().getIdGenerator());
+        Assertions.assertNotEquals(RuleContext.builder().build().getId(), RuleContext.builder().build().getId());
+    }
+
+    @Test
+    public void executorsTest() throws Exception {
+        // Shared executor is the default; it uses daemon threads and can be closed and re-used
+        SharedExecutorService shared = RuleExecutors.shared();
+        Assertions.assertSame(shared, RuleContext.builder().build().getExecutorService());
+        Assertions.assertSame(shared, RuleContextOptions.standard().getExecutorService());
+        Assertions.assertTrue(shared.submit(() -> Thread.currentThread().isDaemon()).get());
+        Assertions.assertFalse(shared.isShutdown());
+        shared.close();
+        Assertions.assertFalse(shared.isStarted());
+        Assertions.assertTrue(shared.isShutdown());
+        Assertions.assertTrue(shared.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(shared.isTerminated());
+        Assertions.assertEquals(1, shared.submit(() -> 1).get());
+        Assertions.assertTrue(shared.isStarted());
+        Assertions.assertFalse(shared.isShutdown());
+        Assertions.assertFalse(shared.isTerminated());
+
+        // Waits for all the released pools
+        CountDownLatch latch = new CountDownLatch(1);
+        shared.execute(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        shared.shutdown();
+        shared.submit(() -> 1).get();
+        shared.shutdown();
+        Assertions.assertFalse(shared.awaitTermination(50, TimeUnit.MILLISECONDS));
+        latch.countDown();
+        Assertions.assertTrue(shared.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Executors can be supplied through the options
+        ExecutorService virtual = RuleExecutors.virtualThreads();
+        ExecutorService workStealing = RuleExecutors.workStealing(2);
+
+        try {
+            RuleContext context = RuleContext.builder().with(RuleContextOptions.standard(virtual)).build();
+            Assertions.assertSame(virtual, context.getExecutorService());
+            Assertions.assertSame(virtual, RuleContext.builder().with(context).build().getExecutorService());
+            Assertions.assertEquals(2, virtual.submit(() -> 2).get());
+            Assertions.assertEquals(3, workStealing.submit(() -> 3).get());
+        } finally {
+            virtual.shutdown();
+            workStealing.shutdown();
+        }
+    }
 }
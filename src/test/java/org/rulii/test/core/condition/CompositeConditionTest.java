@@ -25,6 +25,9 @@ import org.rulii.model.UnrulyException;
 import org.rulii.model.condition.CompositeCondition;
 import org.rulii.model.condition.Condition;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * This class contains unit tests for the CompositeCondition class, which represents
  * a condition that can be composed of multiple sub-conditions.
@@ -127,4 +130,62 @@ public class CompositeConditionTest {
         RuleContext context = RuleContext.builder().build(Bindings.builder().scoped());
         Assertions.assertTrue(xorCondition.isTrue(context));
     }
+
+    @Test
+    public void andShortCircuitTest() {
+        AtomicInteger calls = new AtomicInteger();
+        Condition falseCondition = context -> false;
+        Condition counted = context -> calls.incrementAndGet() > 0;
+        Assertions.assertFalse(falseCondition.and(counted).isTrue());
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertTrue(counted.and(counted).isTrue());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void orShortCircuitTest() {
+        AtomicInteger calls = new AtomicInteger();
+        Condition trueCondition = context -> true;
+        Condition counted = context -> calls.incrementAndGet() < 0;
+        Assertions.assertTrue(trueCondition.or(counted).isTrue());
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertFalse(counted.or(counted).isTrue());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void flattenTest() {
+        Condition condition3 = context -> true;
+        CompositeCondition andCondition = condition1.and(condition2).and(condition3);
+        Assertions.assertEquals(List.of(condition1, condition2, condition3), andCondition.getOperands());
+        Assertions.assertEquals(condition1, andCondition.getLeftOperand());
+        Assertions.assertEquals(List.of(condition2, condition3),
+                ((CompositeCondition) andCondition.getRightOperand()).getOperands());
+        Assertions.assertFalse(andCondition.isTrue());
+
+        // Mixed operators are not flattened
+        CompositeCondition mixed = condition1.and(condition2).or(condition3);
+        Assertions.assertEquals(2, mixed.getOperands().size());
+        Assertions.assertEquals("||", mixed.getSymbol());
+        Assertions.assertTrue(mixed.isTrue());
+    }
+
+    @Test
+    public void xorTest_multipleConditions() {
+        Condition trueCondition = context -> true;
+        Condition falseCondition = context -> false;
+        Assertions.assertTrue(trueCondition.xor(trueCondition).xor(trueCondition).isTrue());
+        Assertions.assertFalse(trueCondition.xor(falseCondition).xor(trueCondition).isTrue());
+    }
+
+    @Test
+    public void compositeErrorTest() {
+        Condition error = context -> { throw new IllegalStateException("boom"); };
+        Assertions.assertThrows(UnrulyException.class, () -> condition1.and(error).isTrue());
+    }
+
+    @Test
+    public void doubleNotTest() {
+        Assertions.assertSame(condition1, condition1.not().not());
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.processor;
+
+import org.rulii.rule.Rule;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles test sources with the rulii-processor, the same way a build using the processor would. The processor itself
+ * is compiled (once) from the processor module sources so that the tests always run the current processor; the test
+ * sources are compiled against the rulii classes without debug info (-g:none) so that nothing but the generated
+ * metadata can provide the parameter names.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public final class ProcessorCompiler {
+
+    private static final Path PROCESSOR_SOURCES = Path.of(System.getProperty("basedir", "."), "processor", "src", "main", "java");
+    private static ClassLoader processorClassLoader;
+
+    private ProcessorCompiler() {
+        super();
+    }
+
+    /**
+     * Compiles the given sources (class name -&gt; source) running the given processors.
+     *
+     * @param output output directory (also on the classpath; ie: incremental compilation).
+     * @param sources sources to compile.
+     * @param processorNames class names of the processors to run (org.rulii.processor.*).
+     * @return compilation result.
+     */
+    public static Result compile(Path output, Map<String, String> sources, String...processorNames) {
+        try {
+            Path generated = Files.createDirectories(output.resolve("generated-sources"));
+            Path classes = Files.createDirectories(output.resolve("classes"));
+            List<Processor> processors = new ArrayList<>();
+
+            for (String processorName : processorNames) {
+                processors.add((Processor) Class.forName(processorName, true, getProcessorClassLoader())
+                        .getDeclaredConstructor().newInstance());
+            }
+
+            List<JavaFileObject> units = new ArrayList<>();
+            sources.forEach((name, source) -> units.add(new SourceFile(name, source)));
+
+            List<String> options = List.of("-g:none", "-d", classes.toString(), "-s", generated.toString(),
+                    "-classpath", getClassPath(classes));
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+                JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+                task.setProcessors(processors);
+                boolean success = task.call();
+                return new Result(success, classes, generated, diagnostics.getDiagnostics());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the processors", e);
+        }
+    }
+
+    private static synchronized ClassLoader getProcessorClassLoader() throws IOException {
+        if (processorClassLoader != null) return processorClassLoader;
+
+        Path output = Files.createTempDirectory("rulii-processor");
+        List<File> sources;
+
+        try (Stream<Path> files = Files.walk(PROCESSOR_SOURCES)) {
+            sources = files.filter(p -> p.toString().endsWith(".java")).map(Path::toFile).toList();
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            boolean success = compiler.getTask(null, fileManager, null,
+                    List.of("-proc:none", "-d", output.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(sources)).call();
+            if (!success) throw new IllegalStateException("Unable to compile the processor " + PROCESSOR_SOURCES);
+        }
+
+        processorClassLoader = new URLClassLoader(new URL[] {output.toUri().toURL()}, ProcessorCompiler.class.getClassLoader());
+        return processorClassLoader;
+    }
+
+    // rulii classes + the output (previously compiled classes)
+    private static String getClassPath(Path classes) {
+        try {
+            Path rulii = Path.of(Rule.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return rulii + File.pathSeparator + classes;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to locate the rulii classes", e);
+        }
+    }
+
+    /**
+     * Result of a compilation.
+     *
+     * @param success true if the compilation succeeded.
+     * @param classes directory containing the compiled classes (and resources).
+     * @param generated directory containing the generated sources.
+     * @param diagnostics compiler diagnostics.
+     */
+    public record Result(boolean success, Path classes, Path generated, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        /**
+         * Creates a ClassLoader that loads the compiled classes (and resources).
+         *
+         * @return new ClassLoader.
+         */
+        public URLClassLoader createClassLoader() {
+            try {
+                return new URLClassLoader(new URL[] {classes.toUri().toURL()}, ProcessorCompiler.class.getClassLoader());
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Reads the given generated source (ie: org/acme/Rules_RuliiMetadata.java).
+         *
+         * @param path relative path of the source.
+         * @return source text; null if it was not generated.
+         */
+        public String getGeneratedSource(String path) {
+            return read(generated.resolve(path));
+        }
+
+        /**
+         * Reads the given resource written to the class output (ie: META-INF/rulii/rulii.index).
+         *
+         * @param path relative path of the resource.
+         * @return resource text; null if it was not generated.
+         */
+        public String getResource(String path) {
+            return read(classes.resolve(path));
+        }
+
+        private static String read(Path path) {
+            try {
+                return Files.exists(path) ? Files.readString(path) : null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
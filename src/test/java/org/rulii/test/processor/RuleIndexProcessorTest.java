@@ -0,0 +1,219 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.registry.RuleIndex;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the RuleIndexProcessor; the fixtures are compiled with the processor and the generated index is used.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleIndexProcessorTest {
+
+    private static final String PROCESSOR = "org.rulii.processor.RuleIndexProcessor";
+    private static final String PACKAGE = "org.rulii.test.processor.indexed";
+
+    private static final String RULES = """
+            package org.rulii.test.processor.indexed;
+
+            import org.rulii.annotation.Action;
+            import org.rulii.annotation.Condition;
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+
+            public class Rules {
+
+                @Rule
+                public static class AgeRule {
+
+                    @Given
+                    public boolean isAdult(int age) {
+                        return age >= 18;
+                    }
+
+                    // Rules are only indexed as rules
+                    @Condition
+                    public boolean isValid(int age) {
+                        return age > 0;
+                    }
+                }
+
+                public static class Conditions {
+
+                    @Condition
+                    public boolean isPositive(int value) {
+                        return value > 0;
+                    }
+
+                    @Action
+                    public void log(int value) {
+                    }
+                }
+
+                // None of the following can be created; hence not indexed
+                @Rule
+                static class PackageRule {
+                }
+
+                @Rule
+                public abstract static class AbstractRule {
+                }
+
+                @Rule
+                public class InnerRule {
+                }
+
+                @Rule
+                public static class NoDefaultCtorRule {
+
+                    public NoDefaultCtorRule(int value) {
+                        super();
+                    }
+                }
+            }
+            """;
+
+    private static final String STATE_RULE = """
+            package org.rulii.test.processor.indexed;
+
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+
+            @Rule
+            public class StateRule {
+
+                @Given
+                public boolean isValid(String state) {
+                    return state != null;
+                }
+            }
+            """;
+
+    private static final String STATE_ACTIONS = """
+            package org.rulii.test.processor.indexed;
+
+            import org.rulii.annotation.Action;
+
+            public class StateRule {
+
+                @Action
+                public void log(String state) {
+                }
+            }
+            """;
+
+    private static final String STATE_PLAIN = """
+            package org.rulii.test.processor.indexed;
+
+            public class StateRule {
+            }
+            """;
+
+    private static final String INCOME_RULE = """
+            package org.rulii.test.processor.indexed;
+
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+
+            @Rule
+            public class IncomeRule {
+
+                @Given
+                public boolean isEligible(int income) {
+                    return income > 50_000;
+                }
+            }
+            """;
+
+    public RuleIndexProcessorTest() {
+        super();
+    }
+
+    @Test
+    public void indexTest(@TempDir Path output) throws ClassNotFoundException {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".Rules", RULES), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        Assertions.assertEquals("""
+                # Generated by org.rulii.processor.RuleIndexProcessor (kind package class)
+                action org.rulii.test.processor.indexed org.rulii.test.processor.indexed.Rules$Conditions
+                condition org.rulii.test.processor.indexed org.rulii.test.processor.indexed.Rules$Conditions
+                rule org.rulii.test.processor.indexed org.rulii.test.processor.indexed.Rules$AgeRule
+                """, result.getResource(RuleIndex.INDEX_LOCATION).replace(System.lineSeparator(), "\n"));
+
+        ClassLoader classLoader = result.createClassLoader();
+        RuleIndex index = RuleIndex.load(classLoader);
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".Rules$AgeRule")), index.getRuleClasses(PACKAGE));
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".Rules$Conditions")),
+                index.getClasses(RuleIndex.Kind.CONDITION, PACKAGE));
+        // Indexed once per kind of method it declares
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".Rules$Conditions")),
+                index.getClasses(RuleIndex.Kind.ACTION, PACKAGE));
+    }
+
+    @Test
+    public void incrementalTest(@TempDir Path output) throws Exception {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".StateRule", STATE_RULE), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        // Only the new class is compiled; the existing index entries (of classes that still exist) are kept
+        result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".IncomeRule", INCOME_RULE), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        ClassLoader classLoader = result.createClassLoader();
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".IncomeRule"), classLoader.loadClass(PACKAGE + ".StateRule")),
+                RuleIndex.load(classLoader).getRuleClasses(PACKAGE));
+
+        // Recompiled classes are re-indexed from their current annotations
+        result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".StateRule", STATE_ACTIONS), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        classLoader = result.createClassLoader();
+        RuleIndex index = RuleIndex.load(classLoader);
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".IncomeRule")), index.getRuleClasses(PACKAGE));
+        Assertions.assertEquals(List.of(classLoader.loadClass(PACKAGE + ".StateRule")),
+                index.getClasses(RuleIndex.Kind.ACTION, PACKAGE));
+
+        // Including the ones that no longer use any of the annotations
+        result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".StateRule", STATE_PLAIN), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        Assertions.assertFalse(result.getResource(RuleIndex.INDEX_LOCATION).contains(PACKAGE + ".StateRule"));
+        Assertions.assertTrue(result.getResource(RuleIndex.INDEX_LOCATION).contains(PACKAGE + ".IncomeRule"));
+
+        // Recompile it as a rule again
+        result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".StateRule", STATE_RULE), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        // Classes that no longer exist are dropped
+        Files.delete(result.classes().resolve("org/rulii/test/processor/indexed/StateRule.class"));
+        result = ProcessorCompiler.compile(output, Map.of(PACKAGE + ".Rules", RULES), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        String text = result.getResource(RuleIndex.INDEX_LOCATION);
+        Assertions.assertTrue(text.contains(PACKAGE + ".IncomeRule"));
+        Assertions.assertTrue(text.contains(PACKAGE + ".Rules$AgeRule"));
+        Assertions.assertFalse(text.contains(PACKAGE + ".StateRule"));
+    }
+}
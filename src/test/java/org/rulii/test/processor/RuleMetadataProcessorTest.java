@@ -0,0 +1,301 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.annotation.Condition;
+import org.rulii.annotation.Description;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.bind.match.MatchByNameMatchingStrategy;
+import org.rulii.model.MethodDefinition;
+import org.rulii.model.ParameterDefinition;
+import org.rulii.model.SourceDefinition;
+import org.rulii.util.reflect.GeneratedRuleMetadata;
+import org.rulii.util.reflect.GeneratedRuleMetadataRegistry;
+import org.rulii.util.reflect.ReflectionUtils;
+
+import javax.tools.Diagnostic;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the RuleMetadataProcessor; the fixtures are compiled with the processor and the generated output is used.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleMetadataProcessorTest {
+
+    private static final String PROCESSOR = "org.rulii.processor.RuleMetadataProcessor";
+
+    private static final String TYPES_RULE = """
+            package org.rulii.test.processor.generated;
+
+            import org.rulii.annotation.Function;
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+            import org.rulii.annotation.Then;
+
+            import java.util.List;
+
+            @Rule
+            public class TypesRule {
+
+                public TypesRule() {
+                    super();
+                }
+
+                @Given
+                public boolean isValid(Secret secret, int count) {
+                    return secret != null && count > 0;
+                }
+
+                @Then
+                public void then(Shared shared, List<String> values) {
+                }
+
+                @Function
+                public Secret create(int count) {
+                    return new Secret();
+                }
+
+                @Function
+                public static <T extends Number> double sum(T value, T[] values) {
+                    return value.doubleValue() + values.length;
+                }
+
+                private static class Secret {
+                }
+
+                static class Shared {
+                }
+            }
+            """;
+
+    private static final String PRIVATE_RULE = """
+            package org.rulii.test.processor.generated;
+
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+
+            public class Outer {
+
+                @Rule
+                private static class PrivateRule {
+
+                    @Given
+                    public boolean isValid(int value) {
+                        return value > 0;
+                    }
+                }
+            }
+            """;
+
+    private static final String CHECK_ANNOTATION = """
+            package org.rulii.test.processor.generated;
+
+            import org.rulii.annotation.Condition;
+
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Retention;
+            import java.lang.annotation.RetentionPolicy;
+            import java.lang.annotation.Target;
+
+            @Retention(RetentionPolicy.RUNTIME)
+            @Target(ElementType.METHOD)
+            @Condition(name = "custom")
+            public @interface Check {
+            }
+            """;
+
+    private static final String DESCRIBED_RULE = """
+            package org.rulii.test.processor.generated;
+
+            import org.rulii.annotation.Description;
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Param;
+            import org.rulii.annotation.Rule;
+            import org.rulii.annotation.Then;
+            import org.rulii.bind.Binding;
+            import org.rulii.bind.match.MatchByNameMatchingStrategy;
+
+            @Rule
+            public class DescribedRule {
+
+                public DescribedRule() {
+                    super();
+                }
+
+                @Given
+                @Description("Checks the value")
+                public boolean isValid(@Description("Value to check") @Param(defaultValue = "10") Integer value) {
+                    return value > 5;
+                }
+
+                @Then(order = 2)
+                public void second(@Param(matchUsing = MatchByNameMatchingStrategy.class) Binding<String> label) {
+                    label.setValue(label.getValue() + "second");
+                }
+
+                @Then(order = 1)
+                public void first(Binding<String> label) {
+                    label.setValue(label.getValue() + "first-");
+                }
+
+                @Check
+                public boolean check() {
+                    return true;
+                }
+            }
+            """;
+
+    private static final String SUB_RULE = """
+            package org.rulii.test.processor.generated;
+
+            import org.rulii.annotation.Rule;
+            import org.rulii.annotation.Then;
+
+            @Rule
+            public class SubRule extends DescribedRule {
+
+                public SubRule() {
+                    super();
+                }
+
+                @Then(order = 3)
+                public void third() {
+                }
+            }
+            """;
+
+    public RuleMetadataProcessorTest() {
+        super();
+    }
+
+    @Test
+    public void accessibleTypesTest(@TempDir Path output) throws Throwable {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output,
+                Map.of("org.rulii.test.processor.generated.TypesRule", TYPES_RULE), PROCESSOR);
+        // Private parameter/return types must not end up in the generated class
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        Class<?> rule = result.createClassLoader().loadClass("org.rulii.test.processor.generated.TypesRule");
+        GeneratedRuleMetadata metadata = GeneratedRuleMetadataRegistry.get(rule);
+        Assertions.assertNotNull(metadata);
+
+        List<String> keys = Arrays.asList(metadata.getMethodKeys());
+        int isValid = keys.indexOf("isValid(org.rulii.test.processor.generated.TypesRule.Secret,int)");
+        int then = keys.indexOf("then(org.rulii.test.processor.generated.TypesRule.Shared,java.util.List)");
+        int create = keys.indexOf("create(int)");
+        int sum = keys.indexOf("sum(java.lang.Number,java.lang.Number[])");
+
+        // Not invoked directly; the names are still recorded
+        Assertions.assertFalse(metadata.isInvokable(isValid));
+        Assertions.assertArrayEquals(new String[] {"secret", "count"}, metadata.getParameterNames(isValid));
+        Assertions.assertFalse(metadata.isInvokable(create));
+        // Package private types are accessible from the generated class
+        Assertions.assertTrue(metadata.isInvokable(then));
+        Assertions.assertArrayEquals(new String[] {"shared", "values"}, metadata.getParameterNames(then));
+        Assertions.assertTrue(metadata.isInvokable(sum));
+        Assertions.assertEquals(3.0, metadata.invoke(sum, null, new Object[] {1, new Integer[] {1, 2}}));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> metadata.invoke(isValid, null, new Object[2]));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void methodMetadataTest(@TempDir Path output) throws Throwable {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output, Map.of(
+                "org.rulii.test.processor.generated.Check", CHECK_ANNOTATION,
+                "org.rulii.test.processor.generated.DescribedRule", DESCRIBED_RULE,
+                "org.rulii.test.processor.generated.SubRule", SUB_RULE), PROCESSOR);
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        ClassLoader classLoader = result.createClassLoader();
+        Class<?> rule = classLoader.loadClass("org.rulii.test.processor.generated.DescribedRule");
+        Class<? extends Annotation> check = (Class<? extends Annotation>) classLoader.loadClass("org.rulii.test.processor.generated.Check");
+        Method isValid = rule.getMethod("isValid", Integer.class);
+        Method second = rule.getMethod("second", Binding.class);
+
+        GeneratedRuleMetadata metadata = GeneratedRuleMetadataRegistry.get(rule);
+        Assertions.assertEquals(4, metadata.getMethods().size());
+        Assertions.assertFalse(metadata.inheritsRuleMethods());
+
+        GeneratedRuleMetadata.MethodMetadata method = GeneratedRuleMetadataRegistry.getMethodMetadata(isValid);
+        Assertions.assertEquals("Checks the value", method.description());
+        Assertions.assertEquals(Map.of("name", "given"), method.annotations().get(Given.class.getName()));
+        Assertions.assertEquals(Map.of("name", "N/A"), method.annotations().get(Condition.class.getName()));
+        Assertions.assertEquals(List.of(new GeneratedRuleMetadata.ParameterMetadata("value", "Value to check", "10", null)),
+                method.parameters());
+        Assertions.assertEquals(Map.of("name", "then", "order", 2),
+                GeneratedRuleMetadataRegistry.getMethodMetadata(second).annotations().get(Then.class.getName()));
+        Assertions.assertEquals(MatchByNameMatchingStrategy.class.getName(),
+                GeneratedRuleMetadataRegistry.getMethodMetadata(second).parameters().get(0).matchUsing());
+
+        // Annotated methods come from the generated list
+        Assertions.assertEquals(Set.of("isValid", "check"), names(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(rule, Condition.class)));
+        Assertions.assertEquals(Set.of("isValid"), names(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(rule, Given.class)));
+        Assertions.assertEquals(Set.of("first", "second"), names(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(rule, Then.class)));
+        Assertions.assertEquals(Set.of("check"), names(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(rule, check)));
+        Assertions.assertNull(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(rule, Description.class));
+
+        // Definitions are built from the generated metadata (there is no debug info)
+        MethodDefinition definition = MethodDefinition.load(isValid, true, SourceDefinition.build());
+        Assertions.assertEquals("Checks the value", definition.getDescription());
+        Assertions.assertEquals("Value to check", definition.getParameterDefinition("value").getDescription());
+        Assertions.assertEquals("10", definition.getParameterDefinition("value").getDefaultValueText());
+        Assertions.assertEquals(MatchByNameMatchingStrategy.class, ParameterDefinition.load(second, true,
+                SourceDefinition.build()).get(0).getMatchUsing());
+
+        Bindings bindings = Bindings.builder().standard(label -> "");
+        Assertions.assertTrue(org.rulii.rule.Rule.builder().build(rule).run(bindings).status().isPass());
+        Assertions.assertEquals("first-second", bindings.getValue("label", String.class));
+
+        // Inherited annotated methods are discovered reflectively
+        Class<?> subRule = classLoader.loadClass("org.rulii.test.processor.generated.SubRule");
+        Assertions.assertTrue(GeneratedRuleMetadataRegistry.get(subRule).inheritsRuleMethods());
+        Assertions.assertNull(GeneratedRuleMetadataRegistry.getMethodsWithAnnotation(subRule, Then.class));
+        Assertions.assertEquals(Set.of("first", "second", "third"), names(ReflectionUtils.getMethodsWithAnnotation(subRule, Then.class)));
+    }
+
+    private static Set<String> names(Method[] methods) {
+        return Arrays.stream(methods).map(Method::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void privateClassTest(@TempDir Path output) {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output,
+                Map.of("org.rulii.test.processor.generated.Outer", PRIVATE_RULE), PROCESSOR);
+
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        Assertions.assertNull(result.getGeneratedSource("org/rulii/test/processor/generated/Outer_PrivateRule_RuliiMetadata.java"));
+        Assertions.assertTrue(result.diagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                && d.getMessage(null).contains("not accessible")));
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.registry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.annotation.Function;
+import org.rulii.annotation.Given;
+import org.rulii.annotation.Then;
+import org.rulii.bind.Binding;
+import org.rulii.context.RuleContext;
+import org.rulii.model.UnrulyException;
+import org.rulii.registry.AlreadyRegisteredException;
+import org.rulii.registry.DefaultRuleRegistry;
+import org.rulii.registry.RuleIndex;
+import org.rulii.registry.RuleRegistry;
+import org.rulii.registry.RuleRegistryBuilder;
+import org.rulii.rule.Rule;
+import org.rulii.test.processor.ProcessorCompiler;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the RuleRegistry (bulk and indexed loading).
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleRegistryTest {
+
+    private static final List<Class<?>> RULE_CLASSES = List.of(AgeRule.class, StateRule.class, IncomeRule.class);
+
+    private static final String INDEXED_RULES = """
+            package org.rulii.test.registry.indexed;
+
+            import org.rulii.annotation.Function;
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Rule;
+
+            public class Rules {
+
+                @Rule("ageRule")
+                public static class AgeRule {
+
+                    @Given
+                    public boolean isAdult(int age) {
+                        return age >= 18;
+                    }
+                }
+
+                @Rule("stateRule")
+                public static class StateRule {
+
+                    @Given
+                    public boolean isValid(String state) {
+                        return state != null && state.length() == 2;
+                    }
+                }
+
+                @Rule("incomeRule")
+                public static class IncomeRule {
+
+                    @Given
+                    public boolean isEligible(int income) {
+                        return income > 50_000;
+                    }
+                }
+
+                public static class Discounts {
+
+                    @Function
+                    public int discount(int total) {
+                        return total > 100 ? 10 : 0;
+                    }
+                }
+
+                // Not indexed; it cannot be created
+                @Rule("brokenRule")
+                public static class BrokenRule {
+
+                    public BrokenRule(int value) {
+                        super();
+                    }
+
+                    @Given
+                    public boolean isTrue() {
+                        return true;
+                    }
+                }
+            }
+            """;
+
+    public RuleRegistryTest() {
+        super();
+    }
+
+    @Test
+    public void loadTest() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            DefaultRuleRegistry registry = new DefaultRuleRegistry();
+            List<Rule> rules = registry.load(RULE_CLASSES, pool);
+
+            Assertions.assertEquals(3, rules.size());
+            Assertions.assertEquals("ageRule", rules.get(0).getName());
+            Assertions.assertEquals("incomeRule", rules.get(2).getName());
+            Assertions.assertEquals(3, registry.getCount());
+            Assertions.assertSame(rules.get(1), registry.get("stateRule"));
+            Rule ageRule = registry.get("ageRule");
+            Assertions.assertTrue(ageRule.isTrue(RuleContext.builder().build(age -> 20)));
+
+            RuleRegistry built = new RuleRegistryBuilder().load(RULE_CLASSES).build();
+            Assertions.assertEquals(3, built.getRules().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentLoadTest() throws InterruptedException {
+        int count = 8;
+        DefaultRuleRegistry[] registries = new DefaultRuleRegistry[count];
+        Thread[] threads = new Thread[count];
+        Throwable[] errors = new Throwable[count];
+
+        // Build the same Rule classes concurrently
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            registries[i] = new DefaultRuleRegistry();
+            threads[i] = new Thread(() -> {
+                try {
+                    registries[index].load(RULE_CLASSES);
+                } catch (Throwable e) {
+                    errors[index] = e;
+                }
+            });
+            threads[i].start();
+        }
+
+        for (int i = 0; i < count; i++) {
+            threads[i].join();
+            Assertions.assertNull(errors[i]);
+            Assertions.assertEquals(3, registries[i].getCount());
+        }
+
+        // Concurrent loads share the same (first) definitions
+        Rule first = registries[0].get("incomeRule");
+        Rule last = registries[count - 1].get("incomeRule");
+        Assertions.assertSame(first.getCondition().getDefinition(), last.getCondition().getDefinition());
+    }
+
+    @Test
+    public void atomicRegistrationTest() {
+        DefaultRuleRegistry registry = new DefaultRuleRegistry();
+        registry.register(Rule.builder().build(AgeRule.class));
+
+        // Name already in use; nothing is registered
+        Assertions.assertThrows(AlreadyRegisteredException.class, () -> registry.load(RULE_CLASSES));
+        Assertions.assertEquals(1, registry.getCount());
+        Assertions.assertFalse(registry.isNameInUse("stateRule"));
+
+        // Rule that cannot be built; nothing is registered
+        Assertions.assertThrows(UnrulyException.class, () -> registry.load(List.of(StateRule.class, BrokenRule.class)));
+        Assertions.assertEquals(1, registry.getCount());
+
+        // Same name used twice in the batch
+        Assertions.assertThrows(AlreadyRegisteredException.class, () -> registry.registerAll(
+                List.of(Rule.builder().build(StateRule.class), Rule.builder().build(StateRule.class))));
+        Assertions.assertEquals(1, registry.getCount());
+
+        registry.registerAll(List.of(Rule.builder().build(StateRule.class), Rule.builder().build(IncomeRule.class)));
+        Assertions.assertEquals(3, registry.getCount());
+    }
+
+    @Test
+    public void indexTest(@TempDir Path output) throws ClassNotFoundException {
+        // The index is generated by the rulii-processor
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output,
+                Map.of("org.rulii.test.registry.indexed.Rules", INDEXED_RULES), "org.rulii.processor.RuleIndexProcessor");
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+
+        ClassLoader classLoader = result.createClassLoader();
+        Class<?> ageRule = classLoader.loadClass("org.rulii.test.registry.indexed.Rules$AgeRule");
+        Class<?> incomeRule = classLoader.loadClass("org.rulii.test.registry.indexed.Rules$IncomeRule");
+        Class<?> stateRule = classLoader.loadClass("org.rulii.test.registry.indexed.Rules$StateRule");
+        Class<?> discounts = classLoader.loadClass("org.rulii.test.registry.indexed.Rules$Discounts");
+
+        RuleIndex index = RuleIndex.load(classLoader);
+        Assertions.assertEquals(4, index.getEntries().stream()
+                .filter(entry -> entry.packageName().equals("org.rulii.test.registry.indexed")).count());
+        Assertions.assertEquals(List.of(ageRule, incomeRule, stateRule), index.getRuleClasses("org.rulii.test.registry.indexed"));
+        Assertions.assertEquals(List.of(discounts), index.getClasses(RuleIndex.Kind.FUNCTION, "org.rulii.test.registry.indexed"));
+        Assertions.assertTrue(index.getRuleClasses("org.acme").isEmpty());
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+
+        try {
+            RuleRegistry registry = new RuleRegistryBuilder().loadIndexed("org.rulii.test.registry.indexed").build();
+            Assertions.assertEquals(3, registry.getCount());
+            Assertions.assertEquals(3, registry.getRulesInPackage("org.rulii.test.registry.indexed").size());
+            Assertions.assertTrue(registry.getRulesInPackage("org.acme").isEmpty());
+            Assertions.assertEquals("stateRule", registry.getRule(stateRule).get(0).getName());
+            Assertions.assertTrue(registry.getRule(BrokenRule.class).isEmpty());
+
+            // Lookups reflect new registrations
+            ((DefaultRuleRegistry) registry).register(Rule.builder().with(ageRule).name("anotherAgeRule").build());
+            Assertions.assertEquals(2, registry.getRule(ageRule).size());
+            Assertions.assertEquals(4, registry.getRulesInPackage("org.rulii.test.registry.indexed").size());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @org.rulii.annotation.Rule("ageRule")
+    public static class AgeRule {
+
+        @Given
+        public boolean isAdult(int age) {
+            return age >= 18;
+        }
+    }
+
+    @org.rulii.annotation.Rule("stateRule")
+    public static class StateRule {
+
+        @Given
+        public boolean isValid(String state) {
+            return state != null && state.length() == 2;
+        }
+    }
+
+    @org.rulii.annotation.Rule("incomeRule")
+    public static class IncomeRule {
+
+        @Given
+        public boolean isEligible(int income) {
+            return income > 50_000;
+        }
+
+        @Then
+        public void then(Binding<Boolean> eligible) {
+            eligible.setValue(true);
+        }
+    }
+
+    public static class Discounts {
+
+        @Function
+        public int discount(int total) {
+            return total > 100 ? 10 : 0;
+        }
+    }
+
+    @org.rulii.annotation.Rule("brokenRule")
+    public static class BrokenRule {
+
+        // No default ctor
+        public BrokenRule(int value) {
+            super();
+        }
+
+        @Given
+        public boolean isTrue() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.rule;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.rule.table.Cell;
+import org.rulii.rule.table.DecisionTable;
+import org.rulii.ruleset.RuleSet;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for DecisionTables.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class DecisionTableTest {
+
+    public DecisionTableTest() {
+        super();
+    }
+
+    @Test
+    public void matchTest() {
+        DecisionTable<String> table = DecisionTable.<String>builder("age", "state")
+                .name("pricing")
+                .row("senior-ca", Cell.ge(65), Cell.eq("CA"))
+                .row("adult-west", Cell.range(21, false, 65, false), Cell.in("CA", "OR", "WA"))
+                .row("adult", Cell.gt(21), Cell.any())
+                .row("minor", Cell.le(21), Cell.any())
+                .build();
+
+        Assertions.assertEquals("senior-ca", table.evaluate(Bindings.builder().standard(age -> 70, state -> "CA")));
+        Assertions.assertEquals("adult", table.evaluate(Bindings.builder().standard(age -> 70, state -> "NY")));
+        Assertions.assertEquals("adult-west", table.evaluate(Bindings.builder().standard(age -> 30L, state -> "WA")));
+        Assertions.assertEquals("minor", table.evaluate(Bindings.builder().standard(age -> 21, state -> "CA")));
+        Assertions.assertEquals(List.of("adult-west", "adult"),
+                table.evaluateAll(Bindings.builder().standard(age -> 22.5, state -> "OR")));
+        // Missing bindings only match wildcards
+        Assertions.assertNull(table.evaluate(Bindings.builder().standard(state -> "CA")));
+        // Values that cannot be compared with the ranges do not match them
+        Assertions.assertTrue(table.matchValues("old", "CA").isEmpty());
+        Assertions.assertEquals(2, table.matchValues(new BigDecimal("65.0"), "CA").size());
+        // NaN does not match any range; infinities are the extremes
+        Assertions.assertTrue(table.matchValues(Double.NaN, "CA").isEmpty());
+        Assertions.assertEquals(List.of("senior-ca", "adult"), table.matchValues(Double.POSITIVE_INFINITY, "CA")
+                .stream().map(DecisionTable.Row::getOutcome).toList());
+        Assertions.assertEquals(List.of("minor"), table.matchValues(Float.NEGATIVE_INFINITY, "CA")
+                .stream().map(DecisionTable.Row::getOutcome).toList());
+    }
+
+    @Test
+    public void nonFiniteCellTest() {
+        Assertions.assertFalse(Cell.gt(1).matches(Double.NaN));
+        Assertions.assertFalse(Cell.le(1).matches(Float.NaN));
+        Assertions.assertTrue(Cell.gt(1).matches(Double.POSITIVE_INFINITY));
+        Assertions.assertFalse(Cell.gt(1).matches(Double.NEGATIVE_INFINITY));
+        Assertions.assertTrue(Cell.lt(new BigDecimal("1e400")).matches(Double.NEGATIVE_INFINITY));
+        Assertions.assertFalse(Cell.lt(new BigDecimal("1e400")).matches(Double.POSITIVE_INFINITY));
+        Assertions.assertTrue(Cell.ge(Double.NEGATIVE_INFINITY).matches(Long.MIN_VALUE));
+        Assertions.assertTrue(Cell.eq(Double.NaN).matches(Double.NaN));
+        // Fractions are equal regardless of their type
+        Assertions.assertTrue(Cell.eq(1.5).matches(new BigDecimal("1.50")));
+        Assertions.assertTrue(Cell.eq(new BigDecimal("1.5")).matches(1.5));
+        Assertions.assertTrue(Cell.eq(1.1f).matches(new BigDecimal("1.1")));
+        Assertions.assertTrue(Cell.in(2.25, 3).matches(new BigDecimal("2.250")));
+        Assertions.assertFalse(Cell.eq(1.5).matches(new BigDecimal("1.51")));
+
+        DecisionTable<String> rates = DecisionTable.<String>builder("rate")
+                .row("low", Cell.eq(1.5))
+                .row("high", Cell.eq(new BigDecimal("2.75")))
+                .build();
+        Assertions.assertEquals("low", rates.evaluate(Bindings.builder().standard(rate -> new BigDecimal("1.500"))));
+        Assertions.assertEquals("high", rates.evaluate(Bindings.builder().standard(rate -> 2.75)));
+        Assertions.assertNull(rates.evaluate(Bindings.builder().standard(rate -> 2.5)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cell.gt(Double.NaN));
+    }
+
+    @Test
+    public void largeTableTest() {
+        Random random = new Random(7);
+        String[] states = {"CA", "OR", "WA", "NY", "TX"};
+        var builder = DecisionTable.<Integer>builder("amount", "state", "tier");
+
+        for (int i = 0; i < 5000; i++) {
+            int low = random.nextInt(10_000);
+            Cell amount = random.nextInt(10) == 0 ? Cell.any() : Cell.between(low, low + random.nextInt(500));
+            Cell state = random.nextBoolean() ? Cell.eq(states[random.nextInt(states.length)]) : Cell.any();
+            Cell tier = random.nextInt(3) == 0 ? Cell.in(random.nextInt(5), random.nextInt(5)) : Cell.lt(random.nextInt(5));
+            builder.row(i, amount, state, tier);
+        }
+
+        DecisionTable<Integer> table = builder.build();
+        Assertions.assertEquals(5000, table.size());
+
+        // Indexed matching must agree with checking every row
+        for (int i = 0; i < 500; i++) {
+            Object[] values = {random.nextInt(11_000), states[random.nextInt(states.length)], random.nextInt(6)};
+            List<Integer> expected = table.getRows().stream().filter(row -> row.matches(values))
+                    .map(DecisionTable.Row::getOutcome).toList();
+            Assertions.assertEquals(expected, table.matchValues(values).stream().map(DecisionTable.Row::getOutcome).toList());
+        }
+    }
+
+    @Test
+    public void ruleTest() {
+        DecisionTable<String> table = DecisionTable.<String>builder("age", "state")
+                .row("adult-ca", Cell.gt(21), Cell.eq("CA"))
+                .build();
+        Rule rule = Rule.builder().name("AdultInCalifornia").given(table.asCondition()).build();
+        Assertions.assertTrue(rule.isTrue(RuleContext.builder().build(age -> 25, state -> "CA")));
+        Assertions.assertFalse(rule.isTrue(RuleContext.builder().build(age -> 18, state -> "CA")));
+
+        RuleSet<String> ruleSet = RuleSet.builder().with("Routing")
+                .rule(rule)
+                .resultExtractor(table.asFunction())
+                .build();
+        Assertions.assertEquals("adult-ca", ruleSet.run(age -> 25, state -> "CA"));
+        Assertions.assertNull(ruleSet.run(age -> 25, state -> "NY"));
+    }
+
+    @Test
+    public void invalidTableTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DecisionTable.builder("a", "a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DecisionTable.builder("a").row(1, Cell.any(), Cell.any()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cell.between(10, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DecisionTable.builder("a")
+                .row(1, Cell.gt(1)).row(2, Cell.lt("z")).build());
+    }
+}
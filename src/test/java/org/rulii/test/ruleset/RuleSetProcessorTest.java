@@ -0,0 +1,196 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.ruleset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.rulii.bind.Bindings;
+import org.rulii.context.Deadline;
+import org.rulii.context.RuleContext;
+import org.rulii.rule.Rule;
+import org.rulii.ruleset.RuleSet;
+import org.rulii.ruleset.RuleSetExecutionStatus;
+import org.rulii.ruleset.RuleSetExecutionStrategy;
+import org.rulii.ruleset.RuleSetProcessor;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.rulii.model.condition.Conditions.condition;
+
+/**
+ * Tests for the streaming (Flow) RuleSet execution.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class RuleSetProcessorTest {
+
+    public RuleSetProcessorTest() {
+        super();
+    }
+
+    @Test
+    public void processTest() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("StreamRuleSet")
+                .rule(Rule.builder().name("Even").given(condition((Integer x) -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return x % 2 == 0;
+                })).build())
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            RuleSetProcessor<Integer, RuleSetExecutionStatus> processor = new RuleSetProcessor<>(ruleSet,
+                    RuleSetExecutionStrategy.build(), RuleContext.builder().standard(), i -> {
+                        Bindings bindings = Bindings.builder().standard();
+                        bindings.bind("x", i);
+                        return bindings;
+                    }, 3, executor);
+            CollectingSubscriber subscriber = new CollectingSubscriber();
+
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                processor.subscribe(subscriber);
+                for (int i = 0; i < 200; i++) publisher.submit(i);
+            }
+
+            Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            Assertions.assertNull(subscriber.error);
+            Assertions.assertEquals(200, subscriber.results.size());
+            Assertions.assertTrue(maxRunning.get() <= 3);
+
+            // Results are published in order
+            for (int i = 0; i < 200; i++) {
+                Assertions.assertEquals(i % 2 == 0, subscriber.results.get(i).isAllPass());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void errorTest() throws Exception {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("StreamRuleSet")
+                .rule(Rule.builder().name("Divide").given(condition((Integer x) -> 10 / x > 0)).build())
+                .build();
+
+        RuleSetProcessor<Bindings, RuleSetExecutionStatus> processor = RuleSetProcessor.of(ruleSet, 2);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        try (SubmissionPublisher<Bindings> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+
+            for (int i : new int[] {1, 2, 0, 3}) {
+                Bindings bindings = Bindings.builder().standard();
+                bindings.bind("x", i);
+                publisher.submit(bindings);
+            }
+        }
+
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertNotNull(subscriber.error);
+        Assertions.assertEquals(2, subscriber.results.size());
+    }
+
+    @Test
+    public void itemIsolationTest() throws Exception {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("StreamRuleSet")
+                .rule(Rule.builder().name("Even").given(condition((Integer x) -> x % 2 == 0)).build())
+                .build();
+        List<RuleContext> contexts = new CopyOnWriteArrayList<>();
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> delegate = RuleSetExecutionStrategy.build();
+        Deadline deadline = Deadline.cancellable();
+
+        RuleSetProcessor<Integer, RuleSetExecutionStatus> processor = new RuleSetProcessor<>(ruleSet,
+                (rules, ruleContext) -> {
+                    contexts.add(ruleContext);
+                    return delegate.run(rules, ruleContext);
+                }, RuleContext.builder().standard().deadline(deadline).memoizeConditions(true), i -> {
+                    Bindings bindings = Bindings.builder().standard();
+                    bindings.bind("x", i);
+                    return bindings;
+                }, 2);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            for (int i = 0; i < 20; i++) publisher.submit(i);
+        }
+
+        Assertions.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertEquals(20, contexts.size());
+
+        // Each item runs with its own deadline (bound by the template deadline)
+        Assertions.assertEquals(20, contexts.stream().map(RuleContext::getDeadline).distinct().count());
+        contexts.get(0).getDeadline().cancel();
+        Assertions.assertFalse(deadline.isCancelled());
+        Assertions.assertFalse(contexts.get(1).getDeadline().isExpired());
+        deadline.cancel();
+        Assertions.assertTrue(contexts.get(1).getDeadline().isExpired());
+
+        // Condition results do not cross items
+        for (RuleContext ruleContext : contexts) {
+            Assertions.assertEquals(0, ruleContext.getConditionCache().size());
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<RuleSetExecutionStatus> {
+
+        private final List<RuleSetExecutionStatus> results = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(RuleSetExecutionStatus item) {
+            results.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -21,14 +21,27 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.rulii.bind.Binding;
 import org.rulii.bind.Bindings;
+import org.rulii.bind.ScopedBindings;
+import org.rulii.context.Deadline;
+import org.rulii.context.ExecutionCancelledException;
 import org.rulii.context.RuleContext;
+import org.rulii.context.RuleContextBuilder;
+import org.rulii.model.UnrulyException;
 import org.rulii.model.action.Actions;
+import org.rulii.model.condition.Condition;
 import org.rulii.model.condition.Conditions;
+import org.rulii.model.function.UnaryFunction;
 import org.rulii.rule.Rule;
+import org.rulii.rule.RuleExecutionStatus;
+import org.rulii.rule.RuleResult;
+import org.rulii.ruleset.AdaptiveRuleSetExecutionStrategy;
+import org.rulii.ruleset.DefaultRuleSetExecutionStrategy;
 import org.rulii.ruleset.RuleSet;
 import org.rulii.ruleset.RuleSetBuilder;
 import org.rulii.ruleset.RuleSetConditions;
 import org.rulii.ruleset.RuleSetExecutionStatus;
+import org.rulii.ruleset.RuleSetExecutionStrategy;
+import org.rulii.ruleset.RuleSetSession;
 import org.rulii.validation.RuleViolations;
 import org.rulii.validation.ValidationException;
 import org.rulii.validation.ValidationExceptionThrowingRule;
@@ -43,10 +56,17 @@ import org.rulii.validation.rules.uppercase.UpperCaseValidationRule;
 import org.rulii.validation.rules.url.UrlValidationRule;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.rulii.model.action.Actions.action;
 import static org.rulii.model.condition.Conditions.condition;
@@ -680,4 +700,606 @@ public class RuleSetTest {
                     future.get();
                 });
     }
+
+    @Test
+    public void executionStatusCountsTest() {
+        Rule rule = Rule.builder().name("Rule1").given(Conditions.TRUE()).build();
+        RuleSetExecutionStatus status = new RuleSetExecutionStatus();
+
+        Assertions.assertNull(status.getLastResult());
+        Assertions.assertTrue(status.isAllPass());
+        Assertions.assertFalse(status.isAnyPass());
+
+        for (int i = 0; i < 100; i++) {
+            status.add(new RuleResult(rule, i % 10 == 0 ? RuleExecutionStatus.FAIL : RuleExecutionStatus.PASS));
+        }
+
+        status.add(new RuleResult(rule, RuleExecutionStatus.SKIPPED));
+
+        Assertions.assertEquals(101, status.size());
+        Assertions.assertEquals(90, status.getPassedCount());
+        Assertions.assertEquals(10, status.getFailedCount());
+        Assertions.assertEquals(1, status.getSkippedCount());
+        Assertions.assertEquals(11, status.getCount(RuleExecutionStatus.FAIL, RuleExecutionStatus.SKIPPED));
+        Assertions.assertEquals(90, status.getPassed().size());
+        Assertions.assertEquals(11, status.getFailedOrSkipped().size());
+        Assertions.assertEquals(RuleExecutionStatus.SKIPPED, status.getLastResult().status());
+        Assertions.assertEquals(RuleExecutionStatus.FAIL, status.get(10).status());
+        Assertions.assertTrue(status.isAnyPass());
+        Assertions.assertTrue(status.isAnyFail());
+        Assertions.assertTrue(status.isAnySkip());
+        Assertions.assertFalse(status.isAllPass());
+        Assertions.assertTrue(status.isTrue(RuleExecutionStatus.values()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> status.get(101));
+
+        int count = 0;
+        for (RuleResult ignored : status) count++;
+        Assertions.assertEquals(101, count);
+    }
+
+    @Test
+    public void parallelStrategyTest() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        RuleSetBuilder builder = RuleSet.builder().with("ParallelRuleSet");
+
+        // Independent rules; they can only pass if they all run at the same time
+        for (int i = 0; i < 4; i++) {
+            builder.rule(Rule.builder()
+                    .name("Independent" + i)
+                    .given(condition((Integer x) -> {
+                        latch.countDown();
+                        try {
+                            return latch.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            return false;
+                        }
+                    }))
+                    .build());
+        }
+
+        // Dependent rules; the second must see the value written by the first
+        builder.rule(Rule.builder()
+                        .name("Writer")
+                        .given(Conditions.TRUE())
+                        .then(action((Binding<Integer> y) -> y.setValue(10)))
+                        .build())
+                .rule(Rule.builder()
+                        .name("Reader")
+                        .given(condition((Integer y) -> y == 10))
+                        .build());
+
+        try {
+            RuleSet<RuleSetExecutionStatus> ruleSet = builder.build();
+            RuleSetExecutionStrategy<RuleSetExecutionStatus> strategy = RuleSetExecutionStrategy.buildParallel(pool);
+            RuleSetExecutionStatus status = strategy.run(ruleSet, RuleContext.builder().build(x -> 1, y -> 0));
+
+            Assertions.assertEquals(6, status.size());
+            Assertions.assertTrue(status.isAllPass());
+
+            // Results are in declaration order
+            for (int i = 0; i < ruleSet.size(); i++) {
+                Assertions.assertEquals(ruleSet.getRule(i), status.get(i).rule());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelStrategyObjectTypeTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+        UnaryFunction<Boolean, Object> await = value -> {
+            latch.countDown();
+            try {
+                return latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        };
+
+        // Object typed parameters with different names do not depend on each other (or on everything else)
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("ParallelRuleSet")
+                .rule(Rule.builder().name("Writer")
+                        .given(condition((Binding<Object> y) -> await.apply(y)))
+                        .then(action((Binding<Object> y) -> y.setValue(10)))
+                        .build())
+                .rule(Rule.builder().name("Reader").given(condition((Integer x) -> await.apply(x))).build())
+                .build();
+
+        try {
+            RuleSetExecutionStatus status = RuleSetExecutionStrategy.<RuleSetExecutionStatus>buildParallel(pool)
+                    .run(ruleSet, RuleContext.builder().build(x -> 1, y -> 0));
+            Assertions.assertTrue(status.isAllPass());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void ruleSetScopeNameTest() {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("ScopedRuleSet")
+                .rule(Rule.builder().name("Scope")
+                        .given(condition((Bindings bindings) -> ((ScopedBindings) bindings).containsScope("legacy-scope")))
+                        .build())
+                .build();
+
+        // Strategies that still override the deprecated signature keep working
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> legacy = new DefaultRuleSetExecutionStrategy<>() {
+            @Override
+            @SuppressWarnings("deprecation")
+            protected String getRuleSetScopeName(RuleSet<?> ruleSet) {
+                return "legacy-scope";
+            }
+        };
+
+        Assertions.assertTrue(legacy.run(ruleSet, RuleContext.builder().build()).isAllPass());
+        Assertions.assertFalse(ruleSet.run(RuleContext.builder().build()).isAllPass());
+    }
+
+    @Test
+    public void parallelStrategyStopTest() {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("ParallelRuleSet")
+                .rule(Rule.builder().name("Rule1").given(condition((Integer x) -> x > 0)).build())
+                .rule(Rule.builder().name("Rule2").given(condition((Integer x) -> x > 5)).build())
+                .rule(Rule.builder().name("Rule3").given(condition((Integer x) -> x > 0)).build())
+                .stopCondition(RuleSetConditions.stopWhenOneFails())
+                .build();
+
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> strategy = RuleSetExecutionStrategy.buildParallel();
+        RuleSetExecutionStatus status = strategy.run(ruleSet, RuleContext.builder().build(x -> 1));
+
+        Assertions.assertEquals(2, status.size());
+        Assertions.assertEquals(RuleExecutionStatus.FAIL, status.getLastResult().status());
+
+        // Errors are reported just like the sequential strategy
+        RuleSet<RuleSetExecutionStatus> failing = RuleSet.builder().with("FailingRuleSet")
+                .rule(Rule.builder().name("Rule1").given(condition((Integer x) -> x / 0 > 0)).build())
+                .build();
+        Assertions.assertThrows(UnrulyException.class, () -> strategy.run(failing, RuleContext.builder().build(x -> 1)));
+    }
+
+    @Test
+    public void parallelStrategyStopWriterTest() {
+        // Rule2 is independent of Rule1 but writes a Binding; it must not run ahead of the stop condition
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("ParallelRuleSet")
+                .rule(Rule.builder().name("Rule1").given(condition((Integer x) -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return x > 5;
+                })).build())
+                .rule(Rule.builder().name("Rule2")
+                        .given(Conditions.TRUE())
+                        .then(action((Binding<Integer> y) -> y.setValue(99)))
+                        .build())
+                .stopCondition(RuleSetConditions.stopWhenOneFails())
+                .build();
+
+        Bindings bindings = Bindings.builder().standard();
+        bindings.bind("x", Integer.class, 1);
+        bindings.bind("y", Integer.class, 0);
+
+        RuleSetExecutionStatus status = RuleSetExecutionStrategy.<RuleSetExecutionStatus>buildParallel()
+                .run(ruleSet, RuleContext.builder().build(bindings));
+
+        Assertions.assertEquals(1, status.size());
+        Assertions.assertEquals(0, (Integer) bindings.getValue("y"));
+    }
+
+    @Test
+    public void runBatchTest() {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("BatchRuleSet")
+                .rule(Rule.builder().name("Even").given(condition((Integer x) -> x % 2 == 0)).build())
+                .rule(Rule.builder().name("Positive").given(condition((Integer x) -> x > 0)).build())
+                .build();
+        List<Bindings> facts = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            Bindings bindings = Bindings.builder().standard();
+            bindings.bind("x", i);
+            facts.add(bindings);
+        }
+
+        List<RuleSetExecutionStatus> results = ruleSet.runBatch(facts);
+        Assertions.assertEquals(1000, results.size());
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i % 2 == 0 && i > 0, results.get(i).isAllPass());
+            Assertions.assertEquals(2, results.get(i).size());
+        }
+
+        // Sequential stream reuses a single RuleContext
+        Assertions.assertEquals(499, ruleSet.runBatch(facts.stream(), RuleContext.builder().standard())
+                .sequential()
+                .filter(RuleSetExecutionStatus::isAllPass)
+                .count());
+    }
+
+    @Test
+    public void runBatchIsolationTest() {
+        List<RuleContext> contexts = Collections.synchronizedList(new ArrayList<>());
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("BatchRuleSet")
+                .rule(Rule.builder().name("Even").given(condition((Integer x, RuleContext ruleContext) -> {
+                    contexts.add(ruleContext);
+                    return x % 2 == 0;
+                })).build())
+                .build();
+        List<Bindings> facts = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            Bindings bindings = Bindings.builder().standard();
+            bindings.bind("x", i);
+            facts.add(bindings);
+        }
+
+        Deadline deadline = Deadline.cancellable();
+        RuleContextBuilder template = RuleContext.builder().standard().deadline(deadline).memoizeConditions(true);
+        Stream<RuleSetExecutionStatus> results = ruleSet.runBatch(facts.stream(), template);
+        // The template is only read once
+        template.deadline(Deadline.after(0, TimeUnit.MILLISECONDS)).memoizeConditions(false);
+
+        Assertions.assertEquals(50, results.filter(RuleSetExecutionStatus::isAllPass).count());
+        Assertions.assertEquals(100, contexts.size());
+        Assertions.assertFalse(deadline.isCancelled());
+
+        for (RuleContext ruleContext : contexts) {
+            Assertions.assertNotNull(ruleContext.getConditionCache());
+            Assertions.assertEquals(0, ruleContext.getConditionCache().size());
+        }
+    }
+
+    @Test
+    public void deadlineTest() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        RuleSetBuilder builder = RuleSet.builder().with("SlowRuleSet");
+
+        for (int i = 0; i < 10; i++) {
+            builder.rule(Rule.builder().name("Slow" + i).given(condition((Integer x) -> {
+                count.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            })).build());
+        }
+
+        RuleSet<RuleSetExecutionStatus> ruleSet = builder.build();
+
+        // Timed out executions stop running rules
+        CompletableFuture<RuleSetExecutionStatus> future = ruleSet.runAsync(RuleContext.builder().build(x -> 1), 75, TimeUnit.MILLISECONDS);
+        ExecutionException timeout = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertInstanceOf(TimeoutException.class, timeout.getCause());
+        Thread.sleep(300);
+        Assertions.assertTrue(count.get() < 10);
+
+        // Cancelling the future stops the execution
+        count.set(0);
+        CompletableFuture<RuleSetExecutionStatus> cancelled = ruleSet.runAsync(RuleContext.builder().build(x -> 1));
+        Thread.sleep(75);
+        cancelled.cancel(true);
+        Thread.sleep(300);
+        Assertions.assertTrue(count.get() < 10);
+
+        // Expired deadline on the context
+        Deadline deadline = Deadline.cancellable();
+        RuleContext ruleContext = RuleContext.builder().with(x -> 1).deadline(deadline).build();
+        Assertions.assertSame(deadline, ruleContext.getDeadline());
+        deadline.cancel();
+        Assertions.assertThrows(ExecutionCancelledException.class, () -> ruleSet.run(ruleContext));
+        Assertions.assertTrue(Deadline.after(0, TimeUnit.MILLISECONDS).isExpired());
+        Assertions.assertFalse(Deadline.none().isExpired());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> Deadline.none().cancel());
+    }
+
+    @Test
+    public void memoizeConditionsTest() {
+        AtomicInteger count = new AtomicInteger();
+        Condition shared = condition((Integer x) -> {
+            count.incrementAndGet();
+            return x > 0;
+        });
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("MemoizedRuleSet")
+                .preCondition(RuleSetConditions.allMustPass())
+                .rule(Rule.builder().name("Rule1").given(shared).build())
+                .rule(Rule.builder().name("Rule2").given(shared).build())
+                .rule(Rule.builder().name("Rule3").given(shared).build())
+                .build();
+
+        // Without memoization the condition is evaluated by allMustPass and again by every rule
+        Assertions.assertEquals(3, ruleSet.run(RuleContext.builder().with(x -> 1).build()).getPassedCount());
+        Assertions.assertEquals(6, count.get());
+
+        count.set(0);
+        RuleContext ruleContext = RuleContext.builder().with(x -> 1).memoizeConditions(true).build();
+        Assertions.assertEquals(3, ruleSet.run(ruleContext).getPassedCount());
+        Assertions.assertEquals(1, count.get());
+        Assertions.assertEquals(5, ruleContext.getConditionCache().getHitCount());
+        // Results do not outlive the execution
+        Assertions.assertEquals(0, ruleContext.getConditionCache().size());
+
+        // Changing a Binding invalidates the results that depend on it
+        count.set(0);
+        Assertions.assertTrue(shared.isTrue(ruleContext));
+        Assertions.assertTrue(shared.isTrue(ruleContext));
+        Assertions.assertEquals(1, count.get());
+        ruleContext.getBindings().setValue("x", -1);
+        Assertions.assertFalse(shared.isTrue(ruleContext));
+        Assertions.assertEquals(2, count.get());
+        ruleContext.getConditionCache().clear();
+        Assertions.assertTrue(ruleContext.getBindings().getBinding("x").getBindingValueListeners().isEmpty());
+
+        // Running a Rule on its own releases the results as well
+        count.set(0);
+        Assertions.assertEquals(RuleExecutionStatus.FAIL, ruleSet.getRule(0).run(ruleContext).status());
+        Assertions.assertEquals(1, count.get());
+        Assertions.assertEquals(0, ruleContext.getConditionCache().size());
+        Assertions.assertTrue(ruleContext.getBindings().getBinding("x").getBindingValueListeners().isEmpty());
+    }
+
+    @Test
+    public void conditionNetworkTest() {
+        AtomicInteger positiveCount = new AtomicInteger();
+        AtomicInteger largeCount = new AtomicInteger();
+        UnaryFunction<Boolean, Integer> positive = (Integer x) -> positiveCount.incrementAndGet() > 0 && x > 0;
+        UnaryFunction<Boolean, Integer> large = (Integer x) -> largeCount.incrementAndGet() > 0 && x > 100;
+        RuleSetBuilder builder = RuleSet.builder().with("NetworkRuleSet");
+
+        // Every rule creates its own Conditions over the same two predicates
+        for (int i = 0; i < 10; i++) {
+            builder.rule(Rule.builder().name("Positive" + i).given(condition(positive)).build());
+            builder.rule(Rule.builder().name("Large" + i).given(condition(positive).and(condition(large))).build());
+        }
+
+        // Changing x invalidates the shared results
+        builder.rule(Rule.builder().name("Writer")
+                .given(Conditions.TRUE())
+                .then(action((Binding<Integer> x) -> x.setValue(500)))
+                .build());
+        builder.rule(Rule.builder().name("LargeAfterWrite").given(condition(large)).build());
+
+        RuleSet<RuleSetExecutionStatus> ruleSet = builder.build();
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> strategy = RuleSetExecutionStrategy.buildConditionNetwork();
+        RuleSetExecutionStatus status = strategy.run(ruleSet, RuleContext.builder().build(x -> 5));
+
+        Assertions.assertEquals(22, status.size());
+        Assertions.assertEquals(12, status.getPassedCount());
+        Assertions.assertEquals(1, positiveCount.get());
+        Assertions.assertEquals(2, largeCount.get());
+
+        // The default strategy evaluates every Condition
+        positiveCount.set(0);
+        largeCount.set(0);
+        Assertions.assertEquals(12, ruleSet.run(x -> 5).getPassedCount());
+        Assertions.assertEquals(20, positiveCount.get());
+        Assertions.assertEquals(11, largeCount.get());
+    }
+
+    @Test
+    public void conditionNetworkStatelessTargetTest() {
+        RuleSetBuilder builder = RuleSet.builder().with("NetworkRuleSet");
+        IsEven.COUNT.set(0);
+
+        // Stateless condition objects are shared; stateful ones are not
+        for (int i = 0; i < 5; i++) {
+            builder.rule(Rule.builder().name("Even" + i).given(condition(new IsEven())).build());
+            builder.rule(Rule.builder().name("Above" + i).given(condition(new IsAbove(i))).build());
+        }
+
+        RuleSetExecutionStatus status = RuleSetExecutionStrategy.<RuleSetExecutionStatus>buildConditionNetwork()
+                .run(builder.build(), RuleContext.builder().build(x -> 2));
+
+        Assertions.assertEquals(10, status.size());
+        Assertions.assertEquals(7, status.getPassedCount());
+        Assertions.assertEquals(1, IsEven.COUNT.get());
+    }
+
+    private static class IsEven implements UnaryFunction<Boolean, Integer> {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public Boolean apply(Integer x) {
+            COUNT.incrementAndGet();
+            return x % 2 == 0;
+        }
+    }
+
+    private static class IsAbove implements UnaryFunction<Boolean, Integer> {
+
+        private final int value;
+
+        IsAbove(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Boolean apply(Integer x) {
+            return x > value;
+        }
+    }
+
+    @Test
+    public void adaptiveStrategyTest() {
+        RuleSetBuilder builder = RuleSet.builder().with("Routes").stopCondition(RuleSetConditions.stopWhenOnePasses());
+
+        for (int i = 0; i < 20; i++) {
+            builder.rule(Rule.builder().name("Route" + i).given(condition((String route) -> false)).build());
+        }
+
+        builder.rule(Rule.builder().name("Default").given(condition((String route) -> "default".equals(route))).build());
+        RuleSet<RuleSetExecutionStatus> ruleSet = builder.build();
+
+        AdaptiveRuleSetExecutionStrategy<RuleSetExecutionStatus> strategy = new AdaptiveRuleSetExecutionStrategy<>(50, false);
+        Assertions.assertEquals("Route0", strategy.getRuleOrder(ruleSet).get(0).getName());
+
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(21, strategy.run(ruleSet, RuleContext.builder().build(route -> "default")).size());
+        }
+
+        // The rule that usually stops the RuleSet is now tried first
+        Assertions.assertEquals("Default", strategy.getRuleOrder(ruleSet).get(0).getName());
+        RuleSetExecutionStatus status = strategy.run(ruleSet, RuleContext.builder().build(route -> "default"));
+        Assertions.assertEquals(1, status.size());
+        Assertions.assertTrue(status.get(0).status().isPass());
+
+        AdaptiveRuleSetExecutionStrategy.RuleStatistics statistics = strategy.getStatistics(ruleSet).get(20);
+        Assertions.assertEquals(51, statistics.runs());
+        Assertions.assertEquals(51, statistics.stops());
+        Assertions.assertEquals(1.0, statistics.getStopRate());
+
+        // Deterministic strategies keep the declaration order
+        AdaptiveRuleSetExecutionStrategy<RuleSetExecutionStatus> deterministic = new AdaptiveRuleSetExecutionStrategy<>(1, true);
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(21, deterministic.run(ruleSet, RuleContext.builder().build(route -> "default")).size());
+        }
+
+        Assertions.assertEquals("Route0", deterministic.getRuleOrder(ruleSet).get(0).getName());
+        Assertions.assertEquals(5, deterministic.getStatistics(ruleSet).get(0).failed());
+    }
+
+    @Test
+    public void forwardChainingTest() {
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("Chaining")
+                .rule(Rule.builder().name("Shipping")
+                        .given(condition((Integer discount) -> discount > 0))
+                        .then(action((Binding<Boolean> freeShipping) -> freeShipping.setValue(true)))
+                        .build())
+                .rule(Rule.builder().name("Discount")
+                        .given(condition((Integer total) -> total > 100))
+                        .then(action((Binding<Integer> discount) -> discount.setValue(10)))
+                        .build())
+                .rule(Rule.builder().name("Unrelated")
+                        .given(condition((String name) -> name != null))
+                        .build())
+                .build();
+
+        // A single pass runs Shipping before the discount is set
+        Bindings facts = Bindings.builder().standard(total -> 150, discount -> 0, freeShipping -> false, name -> "x");
+        ruleSet.run(facts);
+        Assertions.assertFalse(facts.getValue("freeShipping", Boolean.class));
+
+        // Forward chaining re-activates only Shipping once the discount changes (recent activations fire first)
+        facts = Bindings.builder().standard(total -> 150, discount -> 0, freeShipping -> false, name -> "x");
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> strategy = RuleSetExecutionStrategy.buildForwardChaining();
+        RuleSetExecutionStatus status = strategy.run(ruleSet, RuleContext.builder().build(facts));
+        Assertions.assertTrue(facts.getValue("freeShipping", Boolean.class));
+        Assertions.assertEquals(4, status.size());
+        Assertions.assertEquals("Shipping", status.get(2).rule().getName());
+        Assertions.assertTrue(status.get(2).status().isPass());
+        Assertions.assertTrue(facts.getBinding("discount").getBindingValueListeners().isEmpty());
+
+        // Salience decides which activation fires first
+        facts = Bindings.builder().standard(total -> 150, discount -> 0, freeShipping -> false, name -> "x");
+        strategy = RuleSetExecutionStrategy.buildForwardChaining(100, rule -> "Discount".equals(rule.getName()) ? 10 : 0);
+        status = strategy.run(ruleSet, RuleContext.builder().build(facts));
+        Assertions.assertTrue(facts.getValue("freeShipping", Boolean.class));
+        Assertions.assertEquals(3, status.size());
+        Assertions.assertEquals("Discount", status.get(0).rule().getName());
+
+        // Rules that keep activating each other hit the max cycles guard
+        RuleSet<RuleSetExecutionStatus> loop = RuleSet.builder().with("Loop")
+                .rule(Rule.builder().name("Ping")
+                        .given(condition((Integer y) -> true))
+                        .then(action((Binding<Integer> x) -> x.setValue(x.getValue() + 1)))
+                        .build())
+                .rule(Rule.builder().name("Pong")
+                        .given(condition((Integer x) -> true))
+                        .then(action((Binding<Integer> y) -> y.setValue(y.getValue() + 1)))
+                        .build())
+                .build();
+        RuleSetExecutionStrategy<RuleSetExecutionStatus> guarded = RuleSetExecutionStrategy.buildForwardChaining(50, rule -> 0);
+        Assertions.assertThrows(UnrulyException.class, () -> guarded.run(loop, RuleContext.builder().build(x -> 0, y -> 0)));
+    }
+
+    @Test
+    public void sessionTest() {
+        AtomicInteger totalRuns = new AtomicInteger();
+        AtomicInteger nameRuns = new AtomicInteger();
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("Session")
+                .rule(Rule.builder().name("Discount")
+                        .given(condition((Integer total) -> totalRuns.incrementAndGet() > 0 && total > 100))
+                        .then(action((Binding<Integer> discount) -> discount.setValue(10)))
+                        .build())
+                .rule(Rule.builder().name("Name")
+                        .given(condition((String name) -> nameRuns.incrementAndGet() > 0 && name != null))
+                        .build())
+                .build();
+
+        Bindings facts = Bindings.builder().standard(total -> 150, discount -> 0, name -> "x");
+
+        try (RuleSetSession<RuleSetExecutionStatus> session = ruleSet.session(RuleContext.builder().build(facts))) {
+            RuleSetExecutionStatus status = session.run();
+            Assertions.assertEquals(2, status.size());
+            Assertions.assertEquals(10, facts.getValue("discount", Integer.class));
+            Assertions.assertTrue(session.getDirtyRules().isEmpty());
+
+            // Nothing changed; the previous results are reused
+            status = session.run();
+            Assertions.assertEquals(2, status.size());
+            Assertions.assertTrue(status.get(0).status().isPass());
+            Assertions.assertEquals(1, totalRuns.get());
+            Assertions.assertEquals(1, nameRuns.get());
+
+            // Only the Rule reading "name" is re-run
+            facts.setValue("name", "y");
+            Assertions.assertEquals("Name", session.getDirtyRules().get(0).getName());
+            session.run();
+            Assertions.assertEquals(1, totalRuns.get());
+            Assertions.assertEquals(2, nameRuns.get());
+
+            facts.setValue("total", 50);
+            status = session.run();
+            Assertions.assertEquals(2, totalRuns.get());
+            Assertions.assertEquals(2, nameRuns.get());
+            Assertions.assertFalse(status.get(0).status().isPass());
+            Assertions.assertEquals(4, session.getRerunCount());
+
+            session.invalidate();
+            session.run();
+            Assertions.assertEquals(3, totalRuns.get());
+            Assertions.assertEquals(3, nameRuns.get());
+        }
+
+        Assertions.assertTrue(facts.getBinding("total").getBindingValueListeners().isEmpty());
+    }
+
+    @Test
+    public void sessionReadsTest() {
+        AtomicInteger runs = new AtomicInteger();
+        RuleSet<RuleSetExecutionStatus> ruleSet = RuleSet.builder().with("Session")
+                .rule(Rule.builder().name("Either")
+                        .given(condition((Integer x) -> runs.incrementAndGet() > 0 && x > 0)
+                                .or(condition((Integer y) -> y > 0)))
+                        .build())
+                .build();
+
+        Bindings facts = Bindings.builder().standard(x -> 1, y -> 1);
+
+        try (RuleSetSession<RuleSetExecutionStatus> session = ruleSet.session(RuleContext.builder().build(facts))) {
+            Assertions.assertTrue(session.run().isAllPass());
+            Assertions.assertEquals(1, runs.get());
+
+            // "y" was not read (short-circuited) during the last run
+            facts.setValue("y", -1);
+            Assertions.assertTrue(session.getDirtyRules().isEmpty());
+            Assertions.assertTrue(session.run().isAllPass());
+            Assertions.assertEquals(1, runs.get());
+
+            // Now "y" is read as well
+            facts.setValue("x", -1);
+            Assertions.assertFalse(session.run().isAllPass());
+            Assertions.assertEquals(2, runs.get());
+            facts.setValue("y", 1);
+            Assertions.assertEquals(1, session.getDirtyRules().size());
+            Assertions.assertTrue(session.run().isAllPass());
+            Assertions.assertEquals(3, runs.get());
+        }
+    }
 }
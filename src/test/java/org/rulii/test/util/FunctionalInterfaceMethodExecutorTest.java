@@ -0,0 +1,86 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.rulii.model.AbstractRunnable;
+import org.rulii.model.UnrulyException;
+import org.rulii.model.action.Action;
+import org.rulii.model.action.BiAction;
+import org.rulii.model.condition.Condition;
+import org.rulii.model.function.Function;
+import org.rulii.model.function.TriFunction;
+import org.rulii.util.reflect.FunctionalInterfaceMethodExecutor;
+import org.rulii.util.reflect.MethodExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the FunctionalInterfaceMethodExecutor.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class FunctionalInterfaceMethodExecutorTest {
+
+    public FunctionalInterfaceMethodExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void testCondition() throws Throwable {
+        Condition condition = Condition.builder().with((Integer a, String b) -> a > 10 && b.equals("CA")).build();
+        MethodExecutor executor = MethodExecutor.build(condition.getDefinition().getMethod());
+
+        Assertions.assertTrue(executor.toString().contains("FunctionalInterfaceMethodExecutor"));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(((AbstractRunnable) condition).getTarget(), 20, "CA"));
+        Assertions.assertTrue(condition.isTrue(a -> 11, b -> "CA"));
+    }
+
+    @Test
+    public void testAction() throws Throwable {
+        List<Object> values = new ArrayList<>();
+        BiAction<Integer, String> lambda = (a, b) -> { values.add(a); values.add(b); };
+        Action action = Action.builder().with(lambda).build();
+        MethodExecutor executor = MethodExecutor.build(action.getDefinition().getMethod());
+
+        Assertions.assertTrue(executor.toString().contains("FunctionalInterfaceMethodExecutor"));
+        Assertions.assertNull(executor.execute(((AbstractRunnable) action).getTarget(), 1, "x"));
+        Assertions.assertEquals(List.of(1, "x"), values);
+    }
+
+    @Test
+    public void testFunction() throws Throwable {
+        Function<Integer> function = Function.builder().with((Integer a, Integer b, Integer c) -> a + b + c).build();
+        Assertions.assertEquals(6, function.apply(a -> 1, b -> 2, c -> 3));
+
+        MethodExecutor executor = new FunctionalInterfaceMethodExecutor(TriFunction.class.getMethods()[0]);
+        TriFunction<Integer, Integer, Integer, Integer> target = (a, b, c) -> a * b * c;
+        Assertions.assertEquals(24, (Integer) executor.execute(target, 2, 3, 4));
+        Assertions.assertThrows(UnrulyException.class, () -> executor.execute(target, 2, 3));
+    }
+
+    @Test
+    public void testUnsupported() throws NoSuchMethodException {
+        Assertions.assertFalse(FunctionalInterfaceMethodExecutor.isSupported(String.class.getMethod("length")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new FunctionalInterfaceMethodExecutor(String.class.getMethod("length")));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rulii.bind.Binding;
+import org.rulii.bind.Bindings;
+import org.rulii.model.UnrulyException;
+import org.rulii.rule.Rule;
+import org.rulii.rule.RuleResult;
+import org.rulii.test.processor.ProcessorCompiler;
+import org.rulii.util.reflect.GeneratedMethodExecutor;
+import org.rulii.util.reflect.GeneratedRuleMetadataRegistry;
+import org.rulii.util.reflect.MethodExecutor;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Tests for the GeneratedMethodExecutor (and the GeneratedRuleMetadataRegistry). AgeRule is compiled (without any debug
+ * info) with the rulii-processor; the metadata used is what the processor generated.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class GeneratedMethodExecutorTest {
+
+    private static final String AGE_RULE = """
+            package org.rulii.test.util.generated;
+
+            import org.rulii.annotation.Given;
+            import org.rulii.annotation.Otherwise;
+            import org.rulii.annotation.Rule;
+            import org.rulii.annotation.Then;
+            import org.rulii.bind.Binding;
+
+            @Rule
+            public class AgeRule {
+
+                public AgeRule() {
+                    super();
+                }
+
+                @Given
+                public boolean isAdult(int age, String...tags) {
+                    return age >= 18 && tags != null;
+                }
+
+                @Then
+                public void then(Binding<String> label) {
+                    label.setValue("adult");
+                }
+
+                @Otherwise
+                private void otherwise(Binding<String> label) {
+                    label.setValue("minor");
+                }
+            }
+            """;
+
+    private static Class<?> ageRuleClass;
+
+    public GeneratedMethodExecutorTest() {
+        super();
+    }
+
+    @BeforeAll
+    public static void compile(@TempDir Path output) throws ClassNotFoundException {
+        ProcessorCompiler.Result result = ProcessorCompiler.compile(output,
+                Map.of("org.rulii.test.util.generated.AgeRule", AGE_RULE), "org.rulii.processor.RuleMetadataProcessor");
+        Assertions.assertTrue(result.success(), result.diagnostics().toString());
+        ageRuleClass = result.createClassLoader().loadClass("org.rulii.test.util.generated.AgeRule");
+    }
+
+    @Test
+    public void testRegistry() throws NoSuchMethodException {
+        Method given = ageRuleClass.getMethod("isAdult", int.class, String[].class);
+        Method otherwise = ageRuleClass.getDeclaredMethod("otherwise", Binding.class);
+
+        Assertions.assertEquals("org.rulii.test.util.generated.AgeRule_RuliiMetadata",
+                GeneratedRuleMetadataRegistry.getMetadataClassName(ageRuleClass));
+        Assertions.assertEquals("isAdult(int,java.lang.String[])", GeneratedRuleMetadataRegistry.key(given));
+        Assertions.assertEquals("org.rulii.test.util.generated.AgeRule_RuliiMetadata",
+                GeneratedRuleMetadataRegistry.get(ageRuleClass).getClass().getName());
+        Assertions.assertArrayEquals(new String[] {"age", "tags"}, GeneratedRuleMetadataRegistry.getParameterNames(given));
+        Assertions.assertArrayEquals(new String[] {"label"}, GeneratedRuleMetadataRegistry.getParameterNames(otherwise));
+        // Private methods are not invoked directly
+        Assertions.assertNull(GeneratedRuleMetadataRegistry.getMethodExecutor(otherwise));
+        // No generated metadata
+        Assertions.assertNull(GeneratedRuleMetadataRegistry.get(GeneratedMethodExecutorTest.class));
+        Assertions.assertNull(GeneratedRuleMetadataRegistry.getParameterNames(
+                GeneratedMethodExecutorTest.class.getMethod("testRegistry")));
+    }
+
+    @Test
+    public void testExecute() throws Throwable {
+        Method given = ageRuleClass.getMethod("isAdult", int.class, String[].class);
+        MethodExecutor executor = MethodExecutor.build(given);
+        Object target = ageRuleClass.getDeclaredConstructor().newInstance();
+
+        Assertions.assertTrue(executor.toString().contains("GeneratedMethodExecutor"));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(target, 20, new String[0]));
+        Assertions.assertEquals(Boolean.FALSE, executor.execute(target, 10, new String[0]));
+
+        MethodExecutor generated = GeneratedRuleMetadataRegistry.getMethodExecutor(given);
+        Assertions.assertInstanceOf(GeneratedMethodExecutor.class, generated);
+        Assertions.assertThrows(UnrulyException.class, () -> generated.execute(target, 20));
+    }
+
+    @Test
+    public void testRule() {
+        // There is no debug info; the parameter names can only come from the generated metadata
+        Rule rule = Rule.builder().build(ageRuleClass);
+        Bindings bindings = Bindings.builder().standard(age -> 20, tags -> new String[0], label -> "");
+
+        RuleResult result = rule.run(bindings);
+        Assertions.assertTrue(result.status().isPass());
+        Assertions.assertEquals("adult", bindings.getValue("label", String.class));
+
+        bindings.setValue("age", 10);
+        result = rule.run(bindings);
+        Assertions.assertFalse(result.status().isPass());
+        Assertions.assertEquals("minor", bindings.getValue("label", String.class));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.rulii.model.UnrulyException;
+import org.rulii.util.reflect.MethodExecutor;
+import org.rulii.util.reflect.LambdaMethodExecutor;
+
+/**
+ * Tests for the LambdaMethodExecutor.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class LambdaMethodExecutorTest {
+
+    public LambdaMethodExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void testMethodExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("runTest", String.class));
+        String ret = executor.execute(new TestObject(), "World");
+        Assertions.assertEquals("Hello World", ret);
+    }
+
+    @Test
+    public void testPrimitiveExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("add", int.class, long.class));
+        Long ret = executor.execute(new TestObject(), 10, 20L);
+        Assertions.assertEquals(30L, ret);
+    }
+
+    @Test
+    public void testPrimitiveWideningExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("add", int.class, long.class));
+        // Integer -> long, Short -> int, Character -> int
+        Long ret = executor.execute(new TestObject(), 10, 20);
+        Assertions.assertEquals(30L, ret);
+        ret = executor.execute(new TestObject(), (short) 1, 'a');
+        Assertions.assertEquals(98L, ret);
+
+        TestObject obj = new TestObject();
+        MethodExecutor voidExecutor = new LambdaMethodExecutor(TestObject.class.getMethod("setTotal", double.class));
+        Assertions.assertNull(voidExecutor.execute(obj, 5));
+        Assertions.assertEquals(5.0, obj.total);
+
+        // Narrowing is not allowed
+        Assertions.assertThrows(ClassCastException.class, () -> executor.execute(new TestObject(), 10L, 20L));
+    }
+
+    @Test
+    public void testVoidExecution() throws Throwable {
+        TestObject obj = new TestObject();
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("setValue", String.class));
+        Object ret = executor.execute(obj, "x");
+        Assertions.assertNull(ret);
+        Assertions.assertEquals("x", obj.value);
+    }
+
+    @Test
+    public void testNoArgExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("noArgs"));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(new TestObject()));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(new TestObject(), (Object[]) null));
+    }
+
+    @Test
+    public void testPrivateMethodExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getDeclaredMethod("secret", int.class));
+        Integer ret = executor.execute(new TestObject(), 2);
+        Assertions.assertEquals(4, ret);
+    }
+
+    @Test
+    public void testUnsupportedMethods() {
+        Assertions.assertThrows(UnrulyException.class,
+                () -> new LambdaMethodExecutor(TestObject.class.getMethod("staticRunTest", String.class)));
+        Assertions.assertThrows(UnrulyException.class,
+                () -> new LambdaMethodExecutor(TestObject.class.getMethod("tooMany", int.class, int.class, int.class,
+                        int.class, int.class, int.class, int.class, int.class, int.class)));
+    }
+
+    @Test
+    public void testDefaultMethodExecutor() throws Throwable {
+        MethodExecutor executor = MethodExecutor.build(TestObject.class.getMethod("runTest", String.class));
+        Assertions.assertTrue(executor.toString().contains("LambdaMethodExecutor"));
+        Assertions.assertEquals("Hello World", executor.execute(new TestObject(), "World"));
+
+        // Falls back for static methods
+        MethodExecutor staticExecutor = MethodExecutor.build(TestObject.class.getMethod("staticRunTest", String.class));
+        Assertions.assertTrue(staticExecutor.toString().contains("SpreadMethodHandleMethodExecutor"));
+        Assertions.assertEquals("Hello World", staticExecutor.execute(null, "World"));
+    }
+
+    @Test
+    public void testVarArgsExecution() throws Throwable {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("join", String[].class));
+        String ret = executor.execute(new TestObject(), (Object) new String[] {"a", "b"});
+        Assertions.assertEquals("ab", ret);
+    }
+
+    @Test
+    public void testInvalidNumberOfArgsException() {
+        Assertions.assertThrows(UnrulyException.class, () -> {
+            MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("runTest", String.class));
+            executor.execute(new TestObject(), "World", "Extra arg");
+        });
+    }
+
+    @Test
+    public void testExceptionPropagation() throws Exception {
+        MethodExecutor executor = new LambdaMethodExecutor(TestObject.class.getMethod("fail"));
+        Assertions.assertThrows(IllegalStateException.class, () -> executor.execute(new TestObject()));
+    }
+
+    public static class TestObject {
+
+        private String value;
+        private double total;
+
+        public String runTest(String param) {
+            return "Hello " + param;
+        }
+
+        public long add(int a, long b) {
+            return a + b;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setTotal(double total) {
+            this.total = total;
+        }
+
+        public boolean noArgs() {
+            return true;
+        }
+
+        public String join(String...values) {
+            return String.join("", values);
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+
+        private int secret(int x) {
+            return x * 2;
+        }
+
+        public int tooMany(int a, int b, int c, int d, int e, int f, int g, int h, int i) {
+            return a + b + c + d + e + f + g + h + i;
+        }
+
+        public static String staticRunTest(String param) {
+            return "Hello " + param;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2025, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.rulii.test.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.rulii.model.UnrulyException;
+import org.rulii.util.reflect.MethodExecutor;
+import org.rulii.util.reflect.SpreadMethodHandleMethodExecutor;
+
+/**
+ * Tests for the SpreadMethodHandleMethodExecutor.
+ *
+ * @author Max Arulananthan
+ * @since 1.0.1
+ */
+public class SpreadMethodHandleMethodExecutorTest {
+
+    public SpreadMethodHandleMethodExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void testMethodExecution() throws Throwable {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("runTest", String.class));
+        String ret = executor.execute(new TestObject(), "World");
+        Assertions.assertEquals("Hello World", ret);
+    }
+
+    @Test
+    public void testPrimitiveExecution() throws Throwable {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("add", int.class, long.class));
+        Long ret = executor.execute(new TestObject(), 10, 20L);
+        Assertions.assertEquals(30L, ret);
+    }
+
+    @Test
+    public void testVoidExecution() throws Throwable {
+        TestObject obj = new TestObject();
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("setValue", String.class));
+        Object ret = executor.execute(obj, "x");
+        Assertions.assertNull(ret);
+        Assertions.assertEquals("x", obj.value);
+    }
+
+    @Test
+    public void testNoArgExecution() throws Throwable {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("noArgs"));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(new TestObject()));
+        Assertions.assertEquals(Boolean.TRUE, executor.execute(new TestObject(), (Object[]) null));
+    }
+
+    @Test
+    public void testStaticMethodExecution() throws Throwable {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("staticRunTest", String.class));
+        String ret = executor.execute(null, "World");
+        Assertions.assertEquals("Hello World", ret);
+    }
+
+    @Test
+    public void testVarArgsExecution() throws Throwable {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("join", String[].class));
+        String ret = executor.execute(new TestObject(), (Object) new String[] {"a", "b"});
+        Assertions.assertEquals("ab", ret);
+    }
+
+    @Test
+    public void testInvalidNumberOfArgsException() {
+        Assertions.assertThrows(UnrulyException.class, () -> {
+            MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("runTest", String.class));
+            executor.execute(new TestObject(), "World", "Extra arg");
+        });
+    }
+
+    @Test
+    public void testExceptionPropagation() throws Exception {
+        MethodExecutor executor = new SpreadMethodHandleMethodExecutor(TestObject.class.getMethod("fail"));
+        Assertions.assertThrows(IllegalStateException.class, () -> executor.execute(new TestObject()));
+    }
+
+    public static class TestObject {
+
+        private String value;
+
+        public String runTest(String param) {
+            return "Hello " + param;
+        }
+
+        public long add(int a, long b) {
+            return a + b;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public boolean noArgs() {
+            return true;
+        }
+
+        public String join(String...values) {
+            return String.join("", values);
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+
+        public static String staticRunTest(String param) {
+            return "Hello " + param;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.rulii.lib.apache.reflect.TypeUtils;
 import org.rulii.util.TypeReference;
+import org.rulii.util.reflect.AssignabilityCache;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -63,6 +64,30 @@ public class TypeUtilsTest {
         Assertions.assertEquals(type1, type2);
     }
 
+    @Test
+    public void assignabilityCacheTest() {
+        Type listOfIntegers = new TypeReference<List<Integer>>() {}.getType();
+        Type listOfStrings = new TypeReference<List<String>>() {}.getType();
+        Type collectionOfIntegers = new TypeReference<Collection<Integer>>() {}.getType();
+        Type[][] pairs = {
+                {Integer.class, Number.class}, {Number.class, Integer.class}, {int.class, Integer.class},
+                {Integer.class, long.class}, {String.class, CharSequence.class}, {listOfIntegers, collectionOfIntegers},
+                {listOfStrings, collectionOfIntegers}, {listOfIntegers, List.class}, {List.class, listOfIntegers},
+                {null, String.class}, {null, int.class}, {String.class, null}};
+
+        // Same answers as TypeUtils; twice to make sure the cached answers are correct as well
+        for (int i = 0; i < 2; i++) {
+            for (Type[] pair : pairs) {
+                Assertions.assertEquals(TypeUtils.isAssignable(pair[0], pair[1]),
+                        AssignabilityCache.isAssignable(pair[0], pair[1]), pair[0] + " -> " + pair[1]);
+            }
+        }
+
+        // Equal (but not identical) generic types hit the same entry
+        Assertions.assertTrue(AssignabilityCache.isAssignable(new TypeReference<List<Integer>>() {}.getType(),
+                new TypeReference<Collection<Integer>>() {}.getType()));
+    }
+
     private static class TypeReferenceTestClass {
         private Map<List<?>, ?> field;
     }